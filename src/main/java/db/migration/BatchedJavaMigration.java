@@ -0,0 +1,106 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Base class for data migrations on large tables.
+ *
+ * A single UPDATE or INSERT ... SELECT over a big table holds row locks for the whole statement and
+ * builds one huge undo log. Migrations extending this class run outside a Flyway transaction and
+ * instead walk the table in primary-key order, committing each chunk on its own.
+ */
+public abstract class BatchedJavaMigration extends BaseJavaMigration {
+
+    protected static final int DEFAULT_BATCH_SIZE = 5_000;
+
+    @FunctionalInterface
+    protected interface KeyBatchHandler {
+        void handle(Connection connection, List<String> keys) throws SQLException;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    protected int batchSize() {
+        return DEFAULT_BATCH_SIZE;
+    }
+
+    /**
+     * Walks {@code table} by its string primary key (keyset pagination) and hands each chunk of keys
+     * to the handler, committing after every chunk. Returns the number of keys visited.
+     */
+    protected long forEachKeyBatch(Connection connection, String table, String keyColumn,
+                                   KeyBatchHandler handler) throws SQLException {
+        String sql = "SELECT " + keyColumn + " FROM " + table +
+                " WHERE " + keyColumn + " > ? ORDER BY " + keyColumn + " LIMIT ?";
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+
+        long visited = 0;
+        String lastKey = "";
+        try (PreparedStatement select = connection.prepareStatement(sql)) {
+            while (true) {
+                select.setString(1, lastKey);
+                select.setInt(2, batchSize());
+
+                List<String> keys = new ArrayList<>(batchSize());
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        keys.add(rs.getString(1));
+                    }
+                }
+                if (keys.isEmpty()) {
+                    break;
+                }
+
+                handler.handle(connection, keys);
+                connection.commit();
+
+                visited += keys.size();
+                lastKey = keys.get(keys.size() - 1);
+            }
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        return visited;
+    }
+
+    /**
+     * Repeats a self-limiting statement (one ending in {@code LIMIT n} whose WHERE clause excludes rows
+     * it has already processed) until it stops touching rows. Each round commits on its own.
+     */
+    protected long updateUntilDone(Connection connection, String limitedSql) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(true);
+
+        long total = 0;
+        try (PreparedStatement statement = connection.prepareStatement(limitedSql)) {
+            int updated;
+            do {
+                updated = statement.executeUpdate();
+                total += updated;
+            } while (updated > 0);
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        return total;
+    }
+
+    /** Builds a "?, ?, ?" placeholder list for an IN clause over {@code count} values. */
+    protected static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,57 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Base class for index migrations that have to be safe to re-run.
+ *
+ * MySQL has no CREATE INDEX IF NOT EXISTS or DROP INDEX IF EXISTS, and databases created by the
+ * old ddl-auto=update setup may already hold some of the indexes a script declares (or lack ones it
+ * drops). Migrations extending this class check information_schema first, so they converge on the
+ * same set of indexes whatever state the schema started in.
+ */
+public abstract class IndexJavaMigration extends BaseJavaMigration {
+
+    // DDL commits implicitly in MySQL, so a Flyway transaction would not make the script atomic anyway
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    protected void createIndexIfMissing(Connection connection, String table, String index, String columns)
+            throws SQLException {
+        if (!indexExists(connection, table, index)) {
+            execute(connection, "CREATE INDEX " + index + " ON `" + table + "` (" + columns + ")");
+        }
+    }
+
+    protected void dropIndexIfExists(Connection connection, String table, String index) throws SQLException {
+        if (indexExists(connection, table, index)) {
+            execute(connection, "DROP INDEX " + index + " ON `" + table + "`");
+        }
+    }
+
+    protected boolean indexExists(Connection connection, String table, String index) throws SQLException {
+        String sql = "SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?";
+        try (PreparedStatement select = connection.prepareStatement(sql)) {
+            select.setString(1, table);
+            select.setString(2, index);
+            try (ResultSet rs = select.executeQuery()) {
+                return rs.next() && rs.getLong(1) > 0;
+            }
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.PreparedStatement;
+
+/**
+ * Computes verified_document_mask for existing users from their VERIFIED verifications, one chunk
+ * of users per transaction. The CASE mirrors Verification.DocumentType.bit().
+ */
+public class V10__Backfill_user_verified_document_mask extends BatchedJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        forEachKeyBatch(context.getConnection(), "`user`", "user_id", (connection, userIds) -> {
+            String sql = "UPDATE `user` u SET u.verified_document_mask = (" +
+                    "SELECT COALESCE(BIT_OR(CASE v.document_type WHEN 'ID' THEN 1 WHEN 'CERTIFICATE' THEN 2 " +
+                    "WHEN 'LICENSE' THEN 4 ELSE 0 END), 0) FROM verification v " +
+                    "WHERE v.user_id = u.user_id AND v.status = 'VERIFIED') " +
+                    "WHERE u.user_id IN (" + placeholders(userIds.size()) + ")";
+            try (PreparedStatement update = connection.prepareStatement(sql)) {
+                for (int i = 0; i < userIds.size(); i++) {
+                    update.setString(i + 1, userIds.get(i));
+                }
+                update.executeUpdate();
+            }
+        });
+    }
+}
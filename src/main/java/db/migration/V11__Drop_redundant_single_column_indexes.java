@@ -0,0 +1,23 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+
+/**
+ * Drops single-column indexes that ddl-auto=update created from the old entity annotations on
+ * databases baselined from that setup. They only serve low-selectivity status filters and an
+ * unbounded pay range; the per-job and per-worker queries that matter are served by the composite
+ * (job_id, ...), (worker_id, ...) and (user_id, ...) indexes, and dropping these saves a B-tree
+ * write on every insert and status change.
+ */
+public class V11__Drop_redundant_single_column_indexes extends IndexJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        dropIndexIfExists(connection, "application", "idx_application_status");
+        dropIndexIfExists(connection, "application", "idx_application_expected_pay");
+        dropIndexIfExists(connection, "notification", "idx_notification_status");
+    }
+}
@@ -0,0 +1,65 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import za.ac.cput.util.ValidationHelper;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Replaces the plain text passwords left by rows written before hashing was introduced with BCrypt
+ * hashes, so login never has to compare plain text. Hashing is slow by design, so chunks are much
+ * smaller than the default and each commits on its own. Rows that already hold a hash are left
+ * alone, which makes the migration safe to re-run.
+ *
+ * The work factor comes from the bcrypt-strength Flyway placeholder, which application.properties
+ * sets to app.security.password.bcrypt-strength, so these hashes match what PasswordHasher writes.
+ */
+public class V12__Hash_plain_text_passwords extends BatchedJavaMigration {
+
+    @Override
+    protected int batchSize() {
+        return 200;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        String strength = context.getConfiguration().getPlaceholders().get("bcrypt-strength");
+        BCryptPasswordEncoder encoder = strength == null
+                ? new BCryptPasswordEncoder()
+                : new BCryptPasswordEncoder(Integer.parseInt(strength.trim()));
+        forEachKeyBatch(context.getConnection(), "`user`", "user_id", (connection, userIds) -> {
+            Map<String, String> plainText = new LinkedHashMap<>();
+            String select = "SELECT user_id, password FROM `user` WHERE user_id IN (" +
+                    placeholders(userIds.size()) + ")";
+            try (PreparedStatement statement = connection.prepareStatement(select)) {
+                for (int i = 0; i < userIds.size(); i++) {
+                    statement.setString(i + 1, userIds.get(i));
+                }
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        String password = rs.getString(2);
+                        if (!ValidationHelper.isPasswordHash(password)) {
+                            plainText.put(rs.getString(1), password);
+                        }
+                    }
+                }
+            }
+            if (plainText.isEmpty()) {
+                return;
+            }
+            try (PreparedStatement update = connection.prepareStatement(
+                    "UPDATE `user` SET password = ? WHERE user_id = ?")) {
+                for (Map.Entry<String, String> entry : plainText.entrySet()) {
+                    update.setString(1, encoder.encode(entry.getValue()));
+                    update.setString(2, entry.getKey());
+                    update.addBatch();
+                }
+                update.executeBatch();
+            }
+        });
+    }
+}
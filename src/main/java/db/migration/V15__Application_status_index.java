@@ -0,0 +1,17 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Indexes application status, leading a composite with date_applied like the other status tables
+ * (payment, dispute, verification). Serves the pending-application queue and the per-status counts,
+ * which V11 left to table scans; the count is answered from the index alone.
+ */
+public class V15__Application_status_index extends IndexJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        createIndexIfMissing(context.getConnection(), "application", "idx_application_status_date_applied",
+                "status, date_applied");
+    }
+}
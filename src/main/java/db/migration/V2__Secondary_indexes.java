@@ -0,0 +1,90 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+
+/**
+ * Secondary indexes backing every repository query; mirrors the @Index declarations on the entities
+ * (see RepositoryIndexPlanTest for the EXPLAIN checks). Each index is only created if it is missing,
+ * because databases baselined from the old ddl-auto=update setup may already have some of them.
+ */
+public class V2__Secondary_indexes extends IndexJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        createIndexIfMissing(connection, "user", "idx_user_status", "status");
+        createIndexIfMissing(connection, "user", "idx_user_current_mode", "current_mode");
+        createIndexIfMissing(connection, "user", "idx_user_phone_number", "phone_number");
+        createIndexIfMissing(connection, "user", "idx_user_date_joined", "date_joined");
+
+        createIndexIfMissing(connection, "job", "idx_job_client_status", "client_id, status");
+        createIndexIfMissing(connection, "job", "idx_job_status_budget", "status, budget");
+        createIndexIfMissing(connection, "job", "idx_job_status_location", "status, location");
+        createIndexIfMissing(connection, "job", "idx_job_category_location", "category, location");
+        createIndexIfMissing(connection, "job", "idx_job_category_status", "category, status");
+        createIndexIfMissing(connection, "job", "idx_job_location", "location");
+        createIndexIfMissing(connection, "job", "idx_job_budget", "budget");
+        createIndexIfMissing(connection, "job", "idx_job_date_posted", "date_posted");
+
+        createIndexIfMissing(connection, "application", "idx_application_job_status", "job_id, status");
+        createIndexIfMissing(connection, "application", "idx_application_job_worker", "job_id, worker_id");
+        createIndexIfMissing(connection, "application", "idx_application_job_expected_pay", "job_id, expected_pay");
+        createIndexIfMissing(connection, "application", "idx_application_worker_status", "worker_id, status");
+        createIndexIfMissing(connection, "application", "idx_application_date_applied", "date_applied");
+
+        createIndexIfMissing(connection, "contract", "idx_contract_job", "job_id");
+        createIndexIfMissing(connection, "contract", "idx_contract_client_status", "client_id, status");
+        createIndexIfMissing(connection, "contract", "idx_contract_worker_status", "worker_id, status");
+        createIndexIfMissing(connection, "contract", "idx_contract_status_end_date", "status, end_date");
+        createIndexIfMissing(connection, "contract", "idx_contract_start_date", "start_date");
+        createIndexIfMissing(connection, "contract", "idx_contract_end_date", "end_date");
+        createIndexIfMissing(connection, "contract", "idx_contract_agreed_pay", "agreed_pay");
+
+        createIndexIfMissing(connection, "payment", "idx_payment_contract_status", "contract_id, status");
+        createIndexIfMissing(connection, "payment", "idx_payment_status_date_processed", "status, date_processed");
+        createIndexIfMissing(connection, "payment", "idx_payment_method", "method");
+        createIndexIfMissing(connection, "payment", "idx_payment_date_processed", "date_processed");
+        createIndexIfMissing(connection, "payment", "idx_payment_amount", "amount");
+
+        createIndexIfMissing(connection, "notification", "idx_notification_user_status_date", "user_id, status, date_sent");
+        createIndexIfMissing(connection, "notification", "idx_notification_user_date", "user_id, date_sent");
+        createIndexIfMissing(connection, "notification", "idx_notification_user_type", "user_id, type");
+        createIndexIfMissing(connection, "notification", "idx_notification_type", "type");
+
+        createIndexIfMissing(connection, "review", "idx_review_contract", "contract_id");
+        createIndexIfMissing(connection, "review", "idx_review_reviewer", "reviewer_id");
+        createIndexIfMissing(connection, "review", "idx_review_reviewed_rating", "reviewed_id, rating");
+        createIndexIfMissing(connection, "review", "idx_review_rating", "rating");
+        createIndexIfMissing(connection, "review", "idx_review_date_posted", "date_posted");
+
+        createIndexIfMissing(connection, "dispute", "idx_dispute_contract", "contract_id");
+        createIndexIfMissing(connection, "dispute", "idx_dispute_opened_by", "opened_by");
+        createIndexIfMissing(connection, "dispute", "idx_dispute_status_date_opened", "status, date_opened");
+        createIndexIfMissing(connection, "dispute", "idx_dispute_date_opened", "date_opened");
+
+        createIndexIfMissing(connection, "skill", "idx_skill_name", "name");
+        createIndexIfMissing(connection, "skill", "idx_skill_category_status", "category, verification_status");
+        createIndexIfMissing(connection, "skill", "idx_skill_verification_status", "verification_status");
+
+        createIndexIfMissing(connection, "verification", "idx_verification_user_status_type", "user_id, status, document_type");
+        createIndexIfMissing(connection, "verification", "idx_verification_status_date_submitted", "status, date_submitted");
+        createIndexIfMissing(connection, "verification", "idx_verification_document_type", "document_type");
+        createIndexIfMissing(connection, "verification", "idx_verification_code", "verification_code");
+
+        createIndexIfMissing(connection, "worker_profile", "idx_worker_profile_availability", "availability_status, verification_status");
+        createIndexIfMissing(connection, "worker_profile", "idx_worker_profile_verification", "verification_status, availability_status");
+        createIndexIfMissing(connection, "worker_profile", "idx_worker_profile_location", "location");
+        createIndexIfMissing(connection, "worker_profile", "idx_worker_profile_hourly_rate", "hourly_rate");
+        createIndexIfMissing(connection, "worker_profile", "idx_worker_profile_rating", "rating");
+
+        createIndexIfMissing(connection, "admin", "idx_admin_date_created", "date_created");
+
+        createIndexIfMissing(connection, "user_roles", "idx_user_roles_role_user", "role, user_id");
+
+        createIndexIfMissing(connection, "admin_permissions", "idx_admin_permissions_permission_admin", "permission, admin_id");
+
+        createIndexIfMissing(connection, "worker_skills", "idx_worker_skills_skill_profile", "skill_id, profile_id");
+    }
+}
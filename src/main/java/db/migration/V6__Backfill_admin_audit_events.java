@@ -0,0 +1,75 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.Context;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Copies each admin's actions_log into admin_audit_event, one row per line. Lines written by the old
+ * AdminService.logAction start with "{LocalDateTime}: "; any other line (such as the note written
+ * when the admin was created) is dated at the previous line, or at the admin's creation time.
+ * Event IDs are derived from admin ID and line number and inserted with INSERT IGNORE, so a run
+ * interrupted part way can simply be repeated.
+ */
+public class V6__Backfill_admin_audit_events extends BatchedJavaMigration {
+
+    private static final int MAX_ACTION_LENGTH = 1000;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        forEachKeyBatch(context.getConnection(), "admin", "admin_id", this::copyLogs);
+    }
+
+    private void copyLogs(Connection connection, List<String> adminIds) throws SQLException {
+        String select = "SELECT admin_id, actions_log, date_created FROM admin WHERE admin_id IN (" +
+                placeholders(adminIds.size()) + ") AND actions_log IS NOT NULL AND actions_log <> ''";
+        String insert = "INSERT IGNORE INTO admin_audit_event (event_id, admin_id, action, occurred_at) VALUES (?, ?, ?, ?)";
+
+        try (PreparedStatement query = connection.prepareStatement(select);
+             PreparedStatement events = connection.prepareStatement(insert)) {
+            for (int i = 0; i < adminIds.size(); i++) {
+                query.setString(i + 1, adminIds.get(i));
+            }
+            try (ResultSet rs = query.executeQuery()) {
+                while (rs.next()) {
+                    String adminId = rs.getString("admin_id");
+                    Timestamp created = rs.getTimestamp("date_created");
+                    LocalDateTime occurredAt = created != null ? created.toLocalDateTime() : LocalDateTime.now();
+
+                    String[] lines = rs.getString("actions_log").split("\\R");
+                    for (int line = 0; line < lines.length; line++) {
+                        String action = lines[line].trim();
+                        int separator = action.indexOf(": ");
+                        if (separator > 0) {
+                            try {
+                                occurredAt = LocalDateTime.parse(action.substring(0, separator));
+                                action = action.substring(separator + 2).trim();
+                            } catch (DateTimeParseException e) {
+                                // not a timestamped line; keep it whole
+                            }
+                        }
+                        if (action.isEmpty()) {
+                            continue;
+                        }
+                        events.setString(1, UUID.nameUUIDFromBytes(
+                                (adminId + "#" + line).getBytes(StandardCharsets.UTF_8)).toString());
+                        events.setString(2, adminId);
+                        events.setString(3, action.length() > MAX_ACTION_LENGTH ? action.substring(0, MAX_ACTION_LENGTH) : action);
+                        events.setTimestamp(4, Timestamp.valueOf(occurredAt));
+                        events.addBatch();
+                    }
+                }
+            }
+            events.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Queues existing verifications by submission time. Runs in chunks so a large verification table
+ * is not locked by one long UPDATE; rows without a submission time keep a NULL priority, which
+ * sorts first.
+ */
+public class V8__Backfill_verification_review_priority extends BatchedJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        updateUntilDone(context.getConnection(),
+                "UPDATE verification SET review_priority_at = date_submitted " +
+                        "WHERE review_priority_at IS NULL AND date_submitted IS NOT NULL LIMIT " + batchSize());
+    }
+}
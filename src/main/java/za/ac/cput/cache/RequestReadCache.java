@@ -0,0 +1,145 @@
+package za.ac.cput.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes service reads for the length of one HTTP request, so the same User, Job or Contract
+ * re-read by several services in one call is loaded once. Entries live in a request attribute and
+ * are grouped by entity type; outside a request (scheduled work, tests) reads pass straight through.
+ *
+ * Any write to an entity type drops that type's entries: entities whose reads are memoized list
+ * Invalidator as an entity listener, which runs on persist, merge of a new row, update and remove.
+ * Bulk UPDATEs (@Modifying queries) bypass entity listeners and may change rows reachable from any
+ * cached entity, so every caller of one follows it with invalidateAfterBulkUpdate().
+ * A rolled-back transaction drops everything, since its writes may have reached cached instances.
+ * Reads answered from the cache are counted in the app.read_cache.duplicate_reads meter.
+ */
+@Component
+public class RequestReadCache {
+
+    private static final String ATTRIBUTE = RequestReadCache.class.getName();
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, Counter> duplicateReads = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RequestReadCache(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // type: the entity type whose writes invalidate this read; key must identify the read within that type
+    @SuppressWarnings("unchecked")
+    public <T> T read(Class<?> type, Object key, Supplier<T> loader) {
+        Map<Class<?>, Map<Object, Object>> cache = currentCache(true);
+        if (cache == null) {
+            return loader.get();
+        }
+        Map<Object, Object> entries = cache.computeIfAbsent(type, t -> new ConcurrentHashMap<>());
+        Object cached = entries.get(key);
+        if (cached != null) {
+            duplicateReads.computeIfAbsent(type, this::counter).increment();
+            return (T) cached;
+        }
+        // failed and null reads are not cached, so a "not found" is looked up again
+        T value = loader.get();
+        if (value != null) {
+            entries.put(key, value);
+        }
+        return value;
+    }
+
+    public static void invalidate(Class<?> type) {
+        Map<Class<?>, Map<Object, Object>> cache = currentCache(false);
+        if (cache != null) {
+            cache.remove(type);
+        }
+    }
+
+    public static void invalidateAll() {
+        Map<Class<?>, Map<Object, Object>> cache = currentCache(false);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    // Call after every @Modifying query
+    public static void invalidateAfterBulkUpdate() {
+        if (currentCache(false) == null) {
+            return;
+        }
+        invalidateAll();
+        invalidateAllOnRollback();
+    }
+
+    private static void invalidateAllOnRollback() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        invalidateAll();
+                    }
+                }
+            });
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Class<?>, Map<Object, Object>> currentCache(boolean create) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null) {
+            return null;
+        }
+        Object cache = request.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cache == null && create) {
+            // The attributes object is per request (shared only with threads it was handed to); the
+            // session mutex would serialize every request of the session and create a session
+            synchronized (request) {
+                cache = request.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+                if (cache == null) {
+                    cache = new ConcurrentHashMap<Class<?>, Map<Object, Object>>();
+                    request.setAttribute(ATTRIBUTE, cache, RequestAttributes.SCOPE_REQUEST);
+                }
+            }
+        }
+        return (Map<Class<?>, Map<Object, Object>>) cache;
+    }
+
+    private Counter counter(Class<?> type) {
+        return Counter.builder("app.read_cache.duplicate_reads")
+                .description("Service reads within one request answered from the request read cache")
+                .tag("entity", type.getSimpleName())
+                .register(meterRegistry);
+    }
+
+    /**
+     * JPA entity listener; instantiated by Hibernate, so it only touches the static side of the cache.
+     */
+    public static class Invalidator {
+
+        @PrePersist
+        @PreUpdate
+        @PreRemove
+        void onWrite(Object entity) {
+            if (currentCache(false) == null) {
+                return;
+            }
+            invalidate(entity.getClass());
+            invalidateAllOnRollback();
+        }
+    }
+}
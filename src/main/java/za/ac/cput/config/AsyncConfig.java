@@ -0,0 +1,15 @@
+package za.ac.cput.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Async and @Scheduled. Both use Spring Boot's auto-configured executors, which run on
+ * virtual threads when spring.threads.virtual.enabled=true (see application.properties).
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+}
@@ -0,0 +1,42 @@
+package za.ac.cput.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+/**
+ * Sizes the HikariCP pool from the machine instead of Hikari's fixed default of 10, using the
+ * usual (cores * connections-per-core) + spindles rule. An explicit
+ * spring.datasource.hikari.maximum-pool-size always wins.
+ */
+@Configuration
+@Profile("prod")
+public class ConnectionPoolConfig {
+
+    static final String MAX_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+
+    @Bean
+    public static BeanPostProcessor connectionPoolSizingPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                // Runs before the pool starts, and before VirtualThreadConfig reads the size
+                if (bean instanceof HikariDataSource hikari && !environment.containsProperty(MAX_POOL_SIZE)) {
+                    int size = poolSize(Runtime.getRuntime().availableProcessors(),
+                            environment.getProperty("app.datasource.pool.connections-per-core", Integer.class, 2),
+                            environment.getProperty("app.datasource.pool.spindles", Integer.class, 1));
+                    hikari.setMaximumPoolSize(size);
+                    hikari.setMinimumIdle(size);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static int poolSize(int cores, int connectionsPerCore, int spindles) {
+        return Math.max(1, cores * connectionsPerCore + spindles);
+    }
+}
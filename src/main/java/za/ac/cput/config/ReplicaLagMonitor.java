@@ -0,0 +1,65 @@
+package za.ac.cput.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Polls the replica's replication lag and reports it usable only while the lag is within maxLag.
+ * A replica that cannot be reached, is not replicating, or lags too far is skipped until the next
+ * successful check.
+ */
+public class ReplicaLagMonitor implements BooleanSupplier {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final DataSource replica;
+    private final Duration maxLag;
+    private volatile boolean usable = true;
+    private volatile long lastLagSeconds = 0;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag) {
+        this.replica = replica;
+        this.maxLag = maxLag;
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        return usable;
+    }
+
+    public long getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:5000}")
+    public void check() {
+        boolean nowUsable;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) {
+                nowUsable = false;
+            } else {
+                long lag = rs.getLong("Seconds_Behind_Source");
+                // NULL means the SQL thread is not running
+                nowUsable = !rs.wasNull() && lag <= maxLag.toSeconds();
+                lastLagSeconds = rs.wasNull() ? -1 : lag;
+            }
+        } catch (SQLException e) {
+            nowUsable = false;
+        }
+        if (nowUsable != usable) {
+            log.warn("Read replica {} (lag {}s)", nowUsable ? "back in rotation" : "taken out of rotation", lastLagSeconds);
+        }
+        usable = nowUsable;
+    }
+}
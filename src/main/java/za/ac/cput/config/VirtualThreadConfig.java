@@ -0,0 +1,40 @@
+package za.ac.cput.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Active only in virtual-thread mode. With platform threads Tomcat's pool (200 threads) bounds how
+ * many requests can wait on HikariCP at once; with virtual threads nothing does, so thousands of
+ * requests can pile onto the pool's handoff queue and time out together. Each Hikari pool is
+ * therefore wrapped in an {@link AdmissionControlledDataSource} sized to that pool.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionAdmissionPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // Only the pools themselves; routing proxies in front of them are left alone
+                if (!(bean instanceof HikariDataSource dataSource)) {
+                    return bean;
+                }
+                int permits = environment.getProperty("app.datasource.admission.max-concurrent",
+                        Integer.class, dataSource.getMaximumPoolSize());
+                Duration timeout = environment.getProperty("app.datasource.admission.timeout",
+                        Duration.class, Duration.ofSeconds(30));
+                return new AdmissionControlledDataSource(dataSource, permits, timeout);
+            }
+        };
+    }
+}
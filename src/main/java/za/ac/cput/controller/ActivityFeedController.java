@@ -0,0 +1,33 @@
+package za.ac.cput.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import za.ac.cput.domain.ActivityFeedEntry;
+import za.ac.cput.domain.Admin;
+import za.ac.cput.security.AccessControl;
+import za.ac.cput.service.ActivityFeedService;
+
+@RestController
+@RequestMapping("/api/activity-feed")
+public class ActivityFeedController {
+
+    private final ActivityFeedService activityFeedService;
+
+    @Autowired
+    public ActivityFeedController(ActivityFeedService activityFeedService) {
+        this.activityFeedService = activityFeedService;
+    }
+
+    // Only the feed's owner, or an admin who manages users, may read it
+    @GetMapping("/{userId}")
+    public ResponseEntity<Slice<ActivityFeedEntry>> getFeed(@PathVariable String userId,
+                                                            @RequestParam(defaultValue = "0") int page,
+                                                            @RequestParam(defaultValue = "20") int size,
+                                                            HttpServletRequest request) {
+        AccessControl.requireSelfOrPermission(request, userId, Admin.Permission.MANAGE_USERS);
+        return ResponseEntity.ok(activityFeedService.getFeed(userId, page, size));
+    }
+}
@@ -1,17 +1,24 @@
 package za.ac.cput.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import za.ac.cput.domain.Admin;
+import za.ac.cput.domain.AdminAuditEvent;
 import za.ac.cput.domain.User;
+import za.ac.cput.security.AccessControl;
 import za.ac.cput.service.AdminService;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+// Managing and querying admins needs MANAGE_USERS and reading the audit trail VIEW_REPORTS;
+// an admin may only log actions as themself. Until the first admin exists, a signed-in user may
+// make themself super admin.
 @RestController
 @RequestMapping("/api/admins")
 public class AdminController {
@@ -26,87 +33,138 @@ public class AdminController {
     // -------------------- CRUD --------------------
 
     @PostMapping
-    public ResponseEntity<Admin> create(@RequestBody Admin admin) {
+    public ResponseEntity<Admin> create(@RequestBody Admin admin, HttpServletRequest request) {
+        AccessControl.requirePermission(request, Admin.Permission.MANAGE_USERS);
         return ResponseEntity.ok(adminService.create(admin));
     }
 
     @GetMapping("/{adminId}")
-    public ResponseEntity<Admin> read(@PathVariable String adminId) {
+    public ResponseEntity<Admin> read(@PathVariable String adminId, HttpServletRequest request) {
+        AccessControl.requirePermission(request, Admin.Permission.MANAGE_USERS);
         return ResponseEntity.ok(adminService.read(adminId));
     }
 
     @PutMapping("/{adminId}")
-    public ResponseEntity<Admin> update(@PathVariable String adminId, @RequestBody Admin admin) {
+    public ResponseEntity<Admin> update(@PathVariable String adminId, @RequestBody Admin admin,
+                                        HttpServletRequest request) {
+        AccessControl.requirePermission(request, Admin.Permission.MANAGE_USERS);
         admin = new Admin.Builder().copy(admin).setAdminId(adminId).build();
         return ResponseEntity.ok(adminService.update(admin));
     }
 
     @DeleteMapping("/{adminId}")
-    public ResponseEntity<Admin> delete(@PathVariable String adminId) {
+    public ResponseEntity<Admin> delete(@PathVariable String adminId, HttpServletRequest request) {
+        AccessControl.requirePermission(request, Admin.Permission.MANAGE_USERS);
         return ResponseEntity.ok(adminService.delete(adminId));
     }
 
     // -------------------- BUSINESS METHODS --------------------
 
     @PostMapping("/super/{userId}")
-    public ResponseEntity<Admin> createSuperAdmin(@PathVariable String userId) {
+    public ResponseEntity<Admin> createSuperAdmin(@PathVariable String userId, HttpServletRequest request) {
         User user = new User.Builder().setUserId(userId).build();
+        if (!adminService.hasAdmins()) {
+            AccessControl.requireSelf(request, userId);
+            return ResponseEntity.ok(adminService.createFirstSuperAdmin(user));
+        }
+        AccessControl.requirePermission(request, Admin.Permission.MANAGE_USERS);
         return ResponseEntity.ok(adminService.createSuperAdmin(user));
     }
 
     @PostMapping("/skill-verifier/{userId}")
-    public ResponseEntity<Admin> createSkillVerifier(@PathVariable String userId) {
+    public ResponseEntity<Admin> createSkillVerifier(@PathVariable String userId, HttpServletRequest request) {
+        AccessControl.requirePermission(request, Admin.Permission.MANAGE_USERS);
         User user = new User.Builder().setUserId(userId).build();
         return ResponseEntity.ok(adminService.createSkillVerifier(user));
     }
 
     @PostMapping("/{adminId}/permissions/add")
     public ResponseEntity<Admin> addPermission(@PathVariable String adminId,
-                                               @RequestParam Admin.Permission permission) {
+                                               @RequestParam Admin.Permission permission,
+                                               HttpServletRequest request) {
+        AccessControl.requirePermission(request, Admin.Permission.MANAGE_USERS);
         return ResponseEntity.ok(adminService.addPermission(adminId, permission));
     }
 
     @PostMapping("/{adminId}/permissions/remove")
     public ResponseEntity<Admin> removePermission(@PathVariable String adminId,
-                                                  @RequestParam Admin.Permission permission) {
+                                                  @RequestParam Admin.Permission permission,
+                                                  HttpServletRequest request) {
+        AccessControl.requirePermission(request, Admin.Permission.MANAGE_USERS);
         return ResponseEntity.ok(adminService.removePermission(adminId, permission));
     }
 
     @PostMapping("/{adminId}/log")
-    public ResponseEntity<Admin> logAction(@PathVariable String adminId,
-                                           @RequestParam String action) {
+    public ResponseEntity<AdminAuditEvent> logAction(@PathVariable String adminId,
+                                                     @RequestParam String action,
+                                                     HttpServletRequest request) {
+        // Resolved from the caller's own admin record, so an unknown ID gets 403 like someone else's
+        AccessControl.requireOwner(request, userId -> adminService.findByUserId(userId)
+                .map(admin -> admin.getAdminId().equals(adminId))
+                .orElse(false));
         return ResponseEntity.ok(adminService.logAction(adminId, action));
     }
 
+    @GetMapping("/{adminId}/audit-events")
+    public ResponseEntity<Slice<AdminAuditEvent>> getAuditEvents(
+            @PathVariable String adminId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            HttpServletRequest request) {
+        AccessControl.requirePermission(request, Admin.Permission.VIEW_REPORTS);
+        return ResponseEntity.ok(adminService.getAuditEvents(adminId, from, to, page, size));
+    }
+
+    @GetMapping("/audit-events")
+    public ResponseEntity<Slice<AdminAuditEvent>> getAllAuditEvents(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            HttpServletRequest request) {
+        AccessControl.requirePermission(request, Admin.Permission.VIEW_REPORTS);
+        return ResponseEntity.ok(adminService.getAllAuditEvents(from, to, page, size));
+    }
+
     // -------------------- SEARCH / QUERY --------------------
 
     @GetMapping("/by-user/{userId}")
-    public ResponseEntity<Optional<Admin>> findByUser(@PathVariable String userId) {
+    public ResponseEntity<Optional<Admin>> findByUser(@PathVariable String userId, HttpServletRequest request) {
+        AccessControl.requirePermission(request, Admin.Permission.MANAGE_USERS);
         User user = new User.Builder().setUserId(userId).build();
         return ResponseEntity.ok(adminService.findByUser(user));
     }
 
     @GetMapping("/by-permission")
-    public ResponseEntity<List<Admin>> findByPermission(@RequestParam Admin.Permission permission) {
+    public ResponseEntity<List<Admin>> findByPermission(@RequestParam Admin.Permission permission,
+                                                        HttpServletRequest request) {
+        AccessControl.requirePermission(request, Admin.Permission.MANAGE_USERS);
         return ResponseEntity.ok(adminService.findAdminsByPermission(permission));
     }
 
     @GetMapping("/created-between")
     public ResponseEntity<List<Admin>> findByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            HttpServletRequest request) {
+        AccessControl.requirePermission(request, Admin.Permission.MANAGE_USERS);
         return ResponseEntity.ok(adminService.findAdminsCreatedBetween(startDate, endDate));
     }
 
     @GetMapping("/is-admin/{userId}")
-    public ResponseEntity<Boolean> isUserAdmin(@PathVariable String userId) {
+    public ResponseEntity<Boolean> isUserAdmin(@PathVariable String userId, HttpServletRequest request) {
+        AccessControl.requirePermission(request, Admin.Permission.MANAGE_USERS);
         User user = new User.Builder().setUserId(userId).build();
         return ResponseEntity.ok(adminService.isUserAdmin(user));
     }
 
     @GetMapping("/has-permission/{userId}")
     public ResponseEntity<Boolean> hasPermission(@PathVariable String userId,
-                                                 @RequestParam Admin.Permission permission) {
+                                                 @RequestParam Admin.Permission permission,
+                                                 HttpServletRequest request) {
+        AccessControl.requirePermission(request, Admin.Permission.MANAGE_USERS);
         User user = new User.Builder().setUserId(userId).build();
         return ResponseEntity.ok(adminService.hasPermission(user, permission));
     }
@@ -0,0 +1,43 @@
+package za.ac.cput.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import za.ac.cput.security.AuthenticationFilter;
+import za.ac.cput.security.ClientAddressResolver;
+import za.ac.cput.service.AuthService;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/auth")
+public class AuthController {
+
+    private final AuthService authService;
+    private final ClientAddressResolver clientAddressResolver;
+
+    @Autowired
+    public AuthController(AuthService authService, ClientAddressResolver clientAddressResolver) {
+        this.authService = authService;
+        this.clientAddressResolver = clientAddressResolver;
+    }
+
+    @PostMapping("/login")
+    public ResponseEntity<Map<String, String>> login(@RequestBody Map<String, String> credentials,
+                                                     HttpServletRequest request) {
+        return authService.login(credentials.get("email"), credentials.get("password"),
+                        clientAddressResolver.resolve(request))
+                .map(token -> ResponseEntity.ok(Map.of("token", token)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+    }
+
+    // Exchanges a live, unrevoked token for one with current claims and a later expiry
+    @PostMapping("/refresh")
+    public ResponseEntity<Map<String, String>> refresh(HttpServletRequest request) {
+        return authService.refresh(AuthenticationFilter.bearerToken(request))
+                .map(token -> ResponseEntity.ok(Map.of("token", token)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+    }
+}
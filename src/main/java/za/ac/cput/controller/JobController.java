@@ -0,0 +1,63 @@
+package za.ac.cput.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import za.ac.cput.domain.Job;
+import za.ac.cput.search.BudgetBand;
+import za.ac.cput.search.JobFacetQuery;
+import za.ac.cput.search.JobSearchResult;
+import za.ac.cput.service.BatchLoaders;
+import za.ac.cput.service.BatchReadResult;
+import za.ac.cput.service.JobSearchService;
+import za.ac.cput.service.JobService;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/jobs")
+public class JobController {
+
+    private final JobService jobService;
+    private final JobSearchService jobSearchService;
+    private final BatchLoaders batchLoaders;
+
+    @Autowired
+    public JobController(JobService jobService, JobSearchService jobSearchService, BatchLoaders batchLoaders) {
+        this.jobService = jobService;
+        this.jobSearchService = jobSearchService;
+        this.batchLoaders = batchLoaders;
+    }
+
+    // e.g. /batch?ids=j1,j2,j3; jobs come back in the order asked for, unknown IDs are listed as missing
+    @GetMapping("/batch")
+    public ResponseEntity<BatchReadResult<Job, String>> readAll(@RequestParam List<String> ids) {
+        if (ids.size() > BatchReadResult.MAX_REQUEST_IDS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(batchLoaders.of(jobService, "Job").getAll(ids));
+    }
+
+    @GetMapping("/highest-paying")
+    public ResponseEntity<List<Job>> findHighestPayingJobs(@RequestParam(defaultValue = "10") int limit) {
+        if (limit <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(jobService.findHighestPayingJobs(limit));
+    }
+
+    // e.g. /search?category=Plumbing,Electrical&location=Cape Town&budget=FROM_1000_TO_2500&sort=BUDGET_DESC
+    @GetMapping("/search")
+    public ResponseEntity<JobSearchResult> search(
+            @RequestParam(name = "category", required = false) Set<String> categories,
+            @RequestParam(name = "location", required = false) Set<String> locations,
+            @RequestParam(name = "budget", required = false) Set<BudgetBand> budgetBands,
+            @RequestParam(name = "status", required = false) Set<Job.JobStatus> statuses,
+            @RequestParam(defaultValue = "NEWEST") JobFacetQuery.SortOrder sort,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        JobFacetQuery query = new JobFacetQuery(categories, locations, budgetBands, statuses, sort);
+        return ResponseEntity.ok(jobSearchService.search(query, page, size));
+    }
+}
@@ -0,0 +1,86 @@
+package za.ac.cput.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import za.ac.cput.domain.Admin;
+import za.ac.cput.security.AccessControl;
+import za.ac.cput.service.AdminService;
+import za.ac.cput.service.BulkModerationResult;
+import za.ac.cput.service.SkillService;
+import za.ac.cput.service.VerificationService;
+import za.ac.cput.service.WorkerProfileService;
+
+import java.util.List;
+
+// Bulk admin moderation: each endpoint takes a JSON array of IDs and returns an outcome per ID.
+// Every endpoint needs VERIFY_SKILLS; verification outcomes record the calling admin as reviewer.
+@RestController
+@RequestMapping("/api/moderation")
+public class ModerationController {
+
+    private final VerificationService verificationService;
+    private final SkillService skillService;
+    private final WorkerProfileService workerProfileService;
+    private final AdminService adminService;
+
+    @Autowired
+    public ModerationController(VerificationService verificationService,
+                                SkillService skillService,
+                                WorkerProfileService workerProfileService,
+                                AdminService adminService) {
+        this.verificationService = verificationService;
+        this.skillService = skillService;
+        this.workerProfileService = workerProfileService;
+        this.adminService = adminService;
+    }
+
+    @PostMapping("/verifications/approve")
+    public ResponseEntity<BulkModerationResult> approveVerifications(@RequestBody List<String> verificationIds,
+                                                                     HttpServletRequest request) {
+        Admin admin = requireModerator(request);
+        return ResponseEntity.ok(verificationService.approveVerifications(verificationIds, admin.getAdminId()));
+    }
+
+    @PostMapping("/verifications/reject")
+    public ResponseEntity<BulkModerationResult> rejectVerifications(@RequestBody List<String> verificationIds,
+                                                                    @RequestParam(required = false) String reason,
+                                                                    HttpServletRequest request) {
+        Admin admin = requireModerator(request);
+        return ResponseEntity.ok(verificationService.rejectVerifications(verificationIds, reason, admin.getAdminId()));
+    }
+
+    @PostMapping("/skills/verify")
+    public ResponseEntity<BulkModerationResult> verifySkills(@RequestBody List<String> skillIds,
+                                                             HttpServletRequest request) {
+        requireModerator(request);
+        return ResponseEntity.ok(skillService.verifySkills(skillIds));
+    }
+
+    @PostMapping("/skills/reject")
+    public ResponseEntity<BulkModerationResult> rejectSkills(@RequestBody List<String> skillIds,
+                                                             HttpServletRequest request) {
+        requireModerator(request);
+        return ResponseEntity.ok(skillService.rejectSkills(skillIds));
+    }
+
+    @PostMapping("/worker-profiles/verify")
+    public ResponseEntity<BulkModerationResult> verifyProfiles(@RequestBody List<String> profileIds,
+                                                               HttpServletRequest request) {
+        requireModerator(request);
+        return ResponseEntity.ok(workerProfileService.verifyProfiles(profileIds));
+    }
+
+    @PostMapping("/worker-profiles/reject")
+    public ResponseEntity<BulkModerationResult> rejectProfiles(@RequestBody List<String> profileIds,
+                                                               @RequestParam(required = false) String reason,
+                                                               HttpServletRequest request) {
+        requireModerator(request);
+        return ResponseEntity.ok(workerProfileService.rejectProfiles(profileIds, reason));
+    }
+
+    private Admin requireModerator(HttpServletRequest request) {
+        return AccessControl.requireAdmin(request, Admin.Permission.VERIFY_SKILLS, adminService::findByUserId);
+    }
+}
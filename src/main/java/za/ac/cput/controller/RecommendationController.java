@@ -0,0 +1,27 @@
+package za.ac.cput.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import za.ac.cput.search.ScoredJob;
+import za.ac.cput.service.JobRecommendationService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/recommendations")
+public class RecommendationController {
+
+    private final JobRecommendationService jobRecommendationService;
+
+    @Autowired
+    public RecommendationController(JobRecommendationService jobRecommendationService) {
+        this.jobRecommendationService = jobRecommendationService;
+    }
+
+    @GetMapping("/workers/{profileId}/jobs")
+    public ResponseEntity<List<ScoredJob>> recommendJobs(@PathVariable String profileId,
+                                                         @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(jobRecommendationService.recommendJobs(profileId, limit));
+    }
+}
@@ -0,0 +1,68 @@
+package za.ac.cput.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import za.ac.cput.domain.Admin;
+import za.ac.cput.domain.Verification;
+import za.ac.cput.security.AccessControl;
+import za.ac.cput.service.AdminService;
+import za.ac.cput.service.VerificationReviewQueue;
+
+import java.util.List;
+
+// Every endpoint acts for the admin behind the request's token, who needs VERIFY_SKILLS
+@RestController
+@RequestMapping("/api/review-queue")
+public class ReviewQueueController {
+
+    private final VerificationReviewQueue reviewQueue;
+    private final AdminService adminService;
+
+    @Autowired
+    public ReviewQueueController(VerificationReviewQueue reviewQueue, AdminService adminService) {
+        this.reviewQueue = reviewQueue;
+        this.adminService = adminService;
+    }
+
+    @PostMapping("/claim")
+    public ResponseEntity<List<Verification>> claim(@RequestParam(defaultValue = "10") int count,
+                                                    HttpServletRequest request) {
+        return ResponseEntity.ok(reviewQueue.claim(requireReviewer(request), count));
+    }
+
+    @GetMapping("/leased")
+    public ResponseEntity<List<Verification>> leased(HttpServletRequest request) {
+        return ResponseEntity.ok(reviewQueue.findLeasedTo(requireReviewer(request)));
+    }
+
+    @PostMapping("/renew")
+    public ResponseEntity<Integer> renew(@RequestBody List<String> verificationIds, HttpServletRequest request) {
+        return ResponseEntity.ok(reviewQueue.renew(requireReviewer(request), verificationIds));
+    }
+
+    @PostMapping("/{verificationId}/release")
+    public ResponseEntity<Void> release(@PathVariable String verificationId, HttpServletRequest request) {
+        reviewQueue.release(requireReviewer(request), verificationId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{verificationId}/approve")
+    public ResponseEntity<Verification> approve(@PathVariable String verificationId, HttpServletRequest request) {
+        return ResponseEntity.ok(reviewQueue.approve(requireReviewer(request), verificationId));
+    }
+
+    @PostMapping("/{verificationId}/reject")
+    public ResponseEntity<Verification> reject(@PathVariable String verificationId,
+                                               @RequestParam(required = false) String reason,
+                                               HttpServletRequest request) {
+        return ResponseEntity.ok(reviewQueue.reject(requireReviewer(request), verificationId, reason));
+    }
+
+    // The admin ID leases are recorded under
+    private String requireReviewer(HttpServletRequest request) {
+        return AccessControl.requireAdmin(request, Admin.Permission.VERIFY_SKILLS, adminService::findByUserId)
+                .getAdminId();
+    }
+}
@@ -0,0 +1,27 @@
+package za.ac.cput.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import za.ac.cput.search.SkillSuggestion;
+import za.ac.cput.service.SkillAutocompleteService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/skills")
+public class SkillController {
+
+    private final SkillAutocompleteService skillAutocompleteService;
+
+    @Autowired
+    public SkillController(SkillAutocompleteService skillAutocompleteService) {
+        this.skillAutocompleteService = skillAutocompleteService;
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<SkillSuggestion>> autocomplete(@RequestParam String prefix,
+                                                              @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(skillAutocompleteService.complete(prefix, limit));
+    }
+}
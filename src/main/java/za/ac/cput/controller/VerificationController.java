@@ -0,0 +1,154 @@
+package za.ac.cput.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import za.ac.cput.domain.Admin;
+import za.ac.cput.domain.Verification;
+import za.ac.cput.security.AccessControl;
+import za.ac.cput.service.UserService;
+import za.ac.cput.service.VerificationService;
+import za.ac.cput.storage.ContentAddressedFileStore;
+import za.ac.cput.storage.DocumentPreviewGenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/verifications")
+public class VerificationController {
+
+    // Tomcat's sendfile contract: with these request attributes set and no body written, the
+    // connector sends the file from the page cache to the socket itself
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final int MAX_VERIFIED_DOCUMENT_USERS = 200;
+
+    private final VerificationService verificationService;
+    private final UserService userService;
+    private final ContentAddressedFileStore documentStore;
+    private final DocumentPreviewGenerator previewGenerator;
+
+    @Autowired
+    public VerificationController(VerificationService verificationService,
+                                  UserService userService,
+                                  ContentAddressedFileStore documentStore,
+                                  DocumentPreviewGenerator previewGenerator) {
+        this.verificationService = verificationService;
+        this.userService = userService;
+        this.documentStore = documentStore;
+        this.previewGenerator = previewGenerator;
+    }
+
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Verification> upload(@RequestParam Verification.DocumentType documentType,
+                                               @RequestParam MultipartFile file,
+                                               @RequestParam(required = false) String verificationCode,
+                                               HttpServletRequest request)
+            throws IOException {
+        String userId = AccessControl.requireToken(request).getUserId();
+        try (InputStream document = file.getInputStream()) {
+            return ResponseEntity.ok(verificationService.submitVerification(
+                    userService.read(userId), documentType, document, verificationCode));
+        }
+    }
+
+    // e.g. /verified-documents?userIds=u1,u2,u3 for the workers on one page of search results;
+    // more than a page's worth of IDs is refused rather than turned into one huge IN list
+    @GetMapping("/verified-documents")
+    public ResponseEntity<Map<String, Set<Verification.DocumentType>>> verifiedDocuments(
+            @RequestParam List<String> userIds) {
+        if (userIds.size() > MAX_VERIFIED_DOCUMENT_USERS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(verificationService.getVerifiedDocuments(userIds));
+    }
+
+    @GetMapping("/{verificationId}")
+    public ResponseEntity<Verification> read(@PathVariable String verificationId) {
+        return ResponseEntity.ok(verificationService.read(verificationId));
+    }
+
+    // Documents are immutable and named by their hash, so they can be cached indefinitely (privately:
+    // only the uploader and verifying admins may fetch them)
+    @GetMapping("/documents/{sha256}")
+    public void download(@PathVariable String sha256, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        requireDocumentAccess(sha256, request);
+        Optional<Path> document = documentStore.find(sha256);
+        if (document.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + sha256 + "\"");
+        sendFile(document.get(), MediaType.APPLICATION_OCTET_STREAM_VALUE, sha256, request, response);
+    }
+
+    // 202 with Retry-After while the preview is still being rendered; 404 for documents that are not images.
+    // Same access rule as the document itself
+    @GetMapping("/documents/{sha256}/preview")
+    public void preview(@PathVariable String sha256, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        requireDocumentAccess(sha256, request);
+        switch (previewGenerator.request(sha256)) {
+            case UNAVAILABLE -> response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            case PENDING -> {
+                response.setStatus(HttpServletResponse.SC_ACCEPTED);
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            }
+            case READY -> {
+                Optional<Path> preview = previewGenerator.find(sha256);
+                if (preview.isEmpty()) {
+                    response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                    return;
+                }
+                sendFile(preview.get(), MediaType.IMAGE_JPEG_VALUE, sha256 + "-preview", request, response);
+            }
+        }
+    }
+
+    private void requireDocumentAccess(String sha256, HttpServletRequest request) {
+        AccessControl.requireOwnerOrPermission(request,
+                userId -> verificationService.isDocumentOwner(userId, sha256), Admin.Permission.VERIFY_SKILLS);
+    }
+
+    private static void sendFile(Path file, String contentType, String etag,
+                                 HttpServletRequest request, HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(file)) {
+            long size = channel.size();
+            response.setContentType(contentType);
+            response.setContentLengthLong(size);
+            response.setHeader(HttpHeaders.ETAG, "\"" + etag + "\"");
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable");
+            response.setHeader("X-Content-Type-Options", "nosniff");
+
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                request.setAttribute(SENDFILE_FILENAME, file.toString());
+                request.setAttribute(SENDFILE_START, 0L);
+                request.setAttribute(SENDFILE_END, size);
+                return;
+            }
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            for (long position = 0; position < size; ) {
+                position += channel.transferTo(position, size - position, out);
+            }
+        }
+    }
+}
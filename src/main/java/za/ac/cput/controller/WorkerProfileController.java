@@ -0,0 +1,56 @@
+package za.ac.cput.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import za.ac.cput.domain.WorkerProfile;
+import za.ac.cput.search.SkillQuery;
+import za.ac.cput.service.BatchLoaders;
+import za.ac.cput.service.BatchReadResult;
+import za.ac.cput.service.WorkerProfileService;
+import za.ac.cput.service.WorkerSearchService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/worker-profiles")
+public class WorkerProfileController {
+
+    private final WorkerSearchService workerSearchService;
+    private final WorkerProfileService workerProfileService;
+    private final BatchLoaders batchLoaders;
+
+    @Autowired
+    public WorkerProfileController(WorkerSearchService workerSearchService,
+                                   WorkerProfileService workerProfileService,
+                                   BatchLoaders batchLoaders) {
+        this.workerSearchService = workerSearchService;
+        this.workerProfileService = workerProfileService;
+        this.batchLoaders = batchLoaders;
+    }
+
+    // e.g. /batch?ids=p1,p2,p3; profiles come back in the order asked for, unknown IDs are listed as missing
+    @GetMapping("/batch")
+    public ResponseEntity<BatchReadResult<WorkerProfile, String>> readAll(@RequestParam List<String> ids) {
+        if (ids.size() > BatchReadResult.MAX_REQUEST_IDS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(batchLoaders.of(workerProfileService, "Worker profile").getAll(ids));
+    }
+
+    // e.g. /search?all=Electrician,Solar Installation&none=Plumbing&availableOnly=true
+    @GetMapping("/search")
+    public ResponseEntity<Page<WorkerProfile>> searchBySkills(
+            @RequestParam(required = false) List<String> all,
+            @RequestParam(required = false) List<String> any,
+            @RequestParam(required = false) List<String> none,
+            @RequestParam(defaultValue = "false") boolean availableOnly,
+            @RequestParam(defaultValue = "false") boolean verifiedOnly,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        SkillQuery query = new SkillQuery(all, any, none, availableOnly, verifiedOnly);
+        return ResponseEntity.ok(workerSearchService.searchBySkills(query, PageRequest.of(page, size)));
+    }
+}
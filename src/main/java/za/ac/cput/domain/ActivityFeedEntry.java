@@ -0,0 +1,99 @@
+package za.ac.cput.domain;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// One line of a user's dashboard feed. Append-only and denormalized: the summary is written once
+// and the subject is referenced by ID only, so reading a feed never joins other tables.
+@Entity
+@Table(name = "activity_feed_entry", indexes = {
+        @Index(name = "idx_activity_feed_user_date", columnList = "user_id, date_created")
+})
+public class ActivityFeedEntry {
+    @Id
+    @Column(name = "entry_id")
+    protected String entryId;
+
+    @Column(name = "user_id", nullable = false)
+    protected String userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "activity_type", nullable = false)
+    protected ActivityType activityType;
+
+    @Column(name = "subject_id")
+    protected String subjectId;
+
+    @Column(name = "summary", length = 500)
+    protected String summary;
+
+    @Column(name = "date_created", nullable = false)
+    protected LocalDateTime dateCreated;
+
+    protected ActivityFeedEntry() {}
+
+    public ActivityFeedEntry(Builder builder) {
+        this.entryId = builder.entryId;
+        this.userId = builder.userId;
+        this.activityType = builder.activityType;
+        this.subjectId = builder.subjectId;
+        this.summary = builder.summary;
+        this.dateCreated = builder.dateCreated;
+    }
+
+    // Getters
+    public String getEntryId() { return entryId; }
+    public String getUserId() { return userId; }
+    public ActivityType getActivityType() { return activityType; }
+    public String getSubjectId() { return subjectId; }
+    public String getSummary() { return summary; }
+    public LocalDateTime getDateCreated() { return dateCreated; }
+
+    // Enums
+    public enum ActivityType {
+        JOB_POSTED, JOB_CANCELLED,
+        APPLICATION_SUBMITTED, APPLICATION_RECEIVED, APPLICATION_ACCEPTED, APPLICATION_REJECTED, APPLICATION_WITHDRAWN,
+        CONTRACT_STARTED, CONTRACT_COMPLETED, CONTRACT_CANCELLED,
+        PAYMENT_CREATED, PAYMENT_RELEASED, PAYMENT_REFUNDED
+    }
+
+    @Override
+    public String toString() {
+        return "ActivityFeedEntry{" +
+                "entryId='" + entryId + '\'' +
+                ", userId='" + userId + '\'' +
+                ", activityType=" + activityType +
+                ", subjectId='" + subjectId + '\'' +
+                ", summary='" + summary + '\'' +
+                ", dateCreated=" + dateCreated +
+                '}';
+    }
+
+    public static class Builder {
+        private String entryId;
+        private String userId;
+        private ActivityType activityType;
+        private String subjectId;
+        private String summary;
+        private LocalDateTime dateCreated;
+
+        public Builder setEntryId(String entryId) { this.entryId = entryId; return this; }
+        public Builder setUserId(String userId) { this.userId = userId; return this; }
+        public Builder setActivityType(ActivityType activityType) { this.activityType = activityType; return this; }
+        public Builder setSubjectId(String subjectId) { this.subjectId = subjectId; return this; }
+        public Builder setSummary(String summary) { this.summary = summary; return this; }
+        public Builder setDateCreated(LocalDateTime dateCreated) { this.dateCreated = dateCreated; return this; }
+
+        public Builder copy(ActivityFeedEntry entry) {
+            this.entryId = entry.entryId;
+            this.userId = entry.userId;
+            this.activityType = entry.activityType;
+            this.subjectId = entry.subjectId;
+            this.summary = entry.summary;
+            this.dateCreated = entry.dateCreated;
+            return this;
+        }
+
+        public ActivityFeedEntry build() { return new ActivityFeedEntry(this); }
+    }
+}
@@ -2,10 +2,17 @@ package za.ac.cput.domain;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
-@Table(name = "admin")
+@Table(name = "admin", indexes = {
+        @Index(name = "idx_admin_date_created", columnList = "date_created"),
+        @Index(name = "idx_admin_permission_mask", columnList = "permission_mask")
+})
 public class Admin {
     @Id
     @Column(name = "admin_id")
@@ -15,14 +22,12 @@ public class Admin {
     @JoinColumn(name = "user_id", nullable = false)
     protected User user;
 
-    @ElementCollection
-    @CollectionTable(name = "admin_permissions", joinColumns = @JoinColumn(name = "admin_id"))
-    @Column(name = "permission")
-    @Enumerated(EnumType.STRING)
-    protected List<Permission> permissions;
+    // One bit per Permission (see Permission.bit), so a permission check is a single AND
+    @Column(name = "permission_mask", nullable = false)
+    protected int permissionMask;
 
-    @Column(name = "actions_log", columnDefinition = "TEXT")
-    protected String actionsLog;
+    // admin.actions_log is no longer mapped: V6 copied its lines to admin_audit_event, and every
+    // entry since, creation included, goes through AdminAuditService
 
     @Column(name = "date_created")
     protected LocalDateTime dateCreated;
@@ -32,21 +37,64 @@ public class Admin {
     public Admin(Builder builder) {
         this.adminId = builder.adminId;
         this.user = builder.user;
-        this.permissions = builder.permissions;
-        this.actionsLog = builder.actionsLog;
+        this.permissionMask = builder.permissionMask;
         this.dateCreated = builder.dateCreated;
     }
 
     // Getters
     public String getAdminId() { return adminId; }
     public User getUser() { return user; }
-    public List<Permission> getPermissions() { return permissions; }
-    public String getActionsLog() { return actionsLog; }
+    public List<Permission> getPermissions() { return new ArrayList<>(Permission.fromMask(permissionMask)); }
+    public int getPermissionMask() { return permissionMask; }
     public LocalDateTime getDateCreated() { return dateCreated; }
 
-    // Enum for Admin Permissions
+    public boolean hasPermission(Permission permission) {
+        return (permissionMask & permission.bit()) != 0;
+    }
+
+    // Enum for Admin Permissions; bits are persisted in admin.permission_mask, so never reuse or renumber one
     public enum Permission {
-        MANAGE_USERS, VERIFY_SKILLS, RESOLVE_DISPUTES, MANAGE_PAYMENTS, VIEW_REPORTS
+        MANAGE_USERS(1), VERIFY_SKILLS(1 << 1), RESOLVE_DISPUTES(1 << 2), MANAGE_PAYMENTS(1 << 3), VIEW_REPORTS(1 << 4);
+
+        private final int bit;
+
+        Permission(int bit) {
+            this.bit = bit;
+        }
+
+        public int bit() { return bit; }
+
+        public static int toMask(Collection<Permission> permissions) {
+            int mask = 0;
+            if (permissions != null) {
+                for (Permission permission : permissions) {
+                    mask |= permission.bit;
+                }
+            }
+            return mask;
+        }
+
+        public static Set<Permission> fromMask(int mask) {
+            Set<Permission> permissions = EnumSet.noneOf(Permission.class);
+            for (Permission permission : values()) {
+                if ((mask & permission.bit) != 0) {
+                    permissions.add(permission);
+                }
+            }
+            return permissions;
+        }
+
+        // Every mask value that includes this permission; lets a membership query use an IN list on the indexed column
+        public List<Integer> masksContaining() {
+            int all = toMask(List.of(values()));
+            List<Integer> masks = new ArrayList<>();
+            for (int mask = 0; mask <= all; mask++) {
+                if ((mask & bit) != 0 && (mask & ~all) == 0) {
+                    masks.add(mask);
+                }
+            }
+            return masks;
+        }
     }
 
     @Override
@@ -54,8 +102,7 @@ public class Admin {
         return "Admin{" +
                 "adminId='" + adminId + '\'' +
                 ", user=" + user.getUserId() +
-                ", permissions=" + permissions +
-                ", actionsLog='" + actionsLog + '\'' +
+                ", permissions=" + getPermissions() +
                 ", dateCreated=" + dateCreated +
                 '}';
     }
@@ -63,21 +110,19 @@ public class Admin {
     public static class Builder {
         private String adminId;
         private User user;
-        private List<Permission> permissions;
-        private String actionsLog;
+        private int permissionMask;
         private LocalDateTime dateCreated;
 
         public Builder setAdminId(String adminId) { this.adminId = adminId; return this; }
         public Builder setUser(User user) { this.user = user; return this; }
-        public Builder setPermissions(List<Permission> permissions) { this.permissions = permissions; return this; }
-        public Builder setActionsLog(String actionsLog) { this.actionsLog = actionsLog; return this; }
+        public Builder setPermissions(List<Permission> permissions) { this.permissionMask = Permission.toMask(permissions); return this; }
+        public Builder setPermissionMask(int permissionMask) { this.permissionMask = permissionMask; return this; }
         public Builder setDateCreated(LocalDateTime dateCreated) { this.dateCreated = dateCreated; return this; }
 
         public Builder copy(Admin admin) {
             this.adminId = admin.adminId;
             this.user = admin.user;
-            this.permissions = admin.permissions;
-            this.actionsLog = admin.actionsLog;
+            this.permissionMask = admin.permissionMask;
             this.dateCreated = admin.dateCreated;
             return this;
         }
@@ -0,0 +1,73 @@
+package za.ac.cput.domain;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// One admin action. Append-only: rows are inserted in batches and never updated, and admin_id is
+// kept without a foreign key so the trail outlives the admin it describes.
+@Entity
+@Table(name = "admin_audit_event", indexes = {
+        @Index(name = "idx_admin_audit_admin_time", columnList = "admin_id, occurred_at"),
+        @Index(name = "idx_admin_audit_time", columnList = "occurred_at")
+})
+public class AdminAuditEvent {
+    @Id
+    @Column(name = "event_id")
+    protected String eventId;
+
+    @Column(name = "admin_id", nullable = false)
+    protected String adminId;
+
+    @Column(name = "action", length = 1000, nullable = false)
+    protected String action;
+
+    @Column(name = "occurred_at", nullable = false)
+    protected LocalDateTime occurredAt;
+
+    protected AdminAuditEvent() {}
+
+    public AdminAuditEvent(Builder builder) {
+        this.eventId = builder.eventId;
+        this.adminId = builder.adminId;
+        this.action = builder.action;
+        this.occurredAt = builder.occurredAt;
+    }
+
+    // Getters
+    public String getEventId() { return eventId; }
+    public String getAdminId() { return adminId; }
+    public String getAction() { return action; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+
+    @Override
+    public String toString() {
+        return "AdminAuditEvent{" +
+                "eventId='" + eventId + '\'' +
+                ", adminId='" + adminId + '\'' +
+                ", action='" + action + '\'' +
+                ", occurredAt=" + occurredAt +
+                '}';
+    }
+
+    public static class Builder {
+        private String eventId;
+        private String adminId;
+        private String action;
+        private LocalDateTime occurredAt;
+
+        public Builder setEventId(String eventId) { this.eventId = eventId; return this; }
+        public Builder setAdminId(String adminId) { this.adminId = adminId; return this; }
+        public Builder setAction(String action) { this.action = action; return this; }
+        public Builder setOccurredAt(LocalDateTime occurredAt) { this.occurredAt = occurredAt; return this; }
+
+        public Builder copy(AdminAuditEvent event) {
+            this.eventId = event.eventId;
+            this.adminId = event.adminId;
+            this.action = event.action;
+            this.occurredAt = event.occurredAt;
+            return this;
+        }
+
+        public AdminAuditEvent build() { return new AdminAuditEvent(this); }
+    }
+}
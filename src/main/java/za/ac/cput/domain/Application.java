@@ -4,7 +4,14 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "application")
+@Table(name = "application", indexes = {
+        @Index(name = "idx_application_job_status", columnList = "job_id, status"),
+        @Index(name = "idx_application_job_worker", columnList = "job_id, worker_id"),
+        @Index(name = "idx_application_job_expected_pay", columnList = "job_id, expected_pay"),
+        @Index(name = "idx_application_worker_status", columnList = "worker_id, status"),
+        @Index(name = "idx_application_status_date_applied", columnList = "status, date_applied"),
+        @Index(name = "idx_application_date_applied", columnList = "date_applied")
+})
 public class Application {
     @Id
     @Column(name = "application_id")
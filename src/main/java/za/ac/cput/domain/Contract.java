@@ -1,11 +1,21 @@
 package za.ac.cput.domain;
 
 import jakarta.persistence.*;
+import za.ac.cput.cache.RequestReadCache;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "contract")
+@EntityListeners(RequestReadCache.Invalidator.class)
+@Table(name = "contract", indexes = {
+        @Index(name = "idx_contract_job", columnList = "job_id"),
+        @Index(name = "idx_contract_client_status", columnList = "client_id, status"),
+        @Index(name = "idx_contract_worker_status", columnList = "worker_id, status"),
+        @Index(name = "idx_contract_status_end_date", columnList = "status, end_date"),
+        @Index(name = "idx_contract_start_date", columnList = "start_date"),
+        @Index(name = "idx_contract_end_date", columnList = "end_date"),
+        @Index(name = "idx_contract_agreed_pay", columnList = "agreed_pay")
+})
 public class Contract {
     @Id
     @Column(name = "contract_id")
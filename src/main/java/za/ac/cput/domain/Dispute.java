@@ -4,7 +4,12 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "dispute")
+@Table(name = "dispute", indexes = {
+        @Index(name = "idx_dispute_contract", columnList = "contract_id"),
+        @Index(name = "idx_dispute_opened_by", columnList = "opened_by"),
+        @Index(name = "idx_dispute_status_date_opened", columnList = "status, date_opened"),
+        @Index(name = "idx_dispute_date_opened", columnList = "date_opened")
+})
 public class Dispute {
     @Id
     @Column(name = "dispute_id")
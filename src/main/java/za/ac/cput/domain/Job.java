@@ -1,12 +1,23 @@
 package za.ac.cput.domain;
 
 import jakarta.persistence.*;
+import za.ac.cput.cache.RequestReadCache;
 import za.ac.cput.domain.User;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "job")
+@EntityListeners(RequestReadCache.Invalidator.class)
+@Table(name = "job", indexes = {
+        @Index(name = "idx_job_client_status", columnList = "client_id, status"),
+        @Index(name = "idx_job_status_budget", columnList = "status, budget"),
+        @Index(name = "idx_job_status_location", columnList = "status, location"),
+        @Index(name = "idx_job_category_location", columnList = "category, location"),
+        @Index(name = "idx_job_category_status", columnList = "category, status"),
+        @Index(name = "idx_job_location", columnList = "location"),
+        @Index(name = "idx_job_budget", columnList = "budget"),
+        @Index(name = "idx_job_date_posted", columnList = "date_posted")
+})
 public class Job {
     @Id
     @Column(name = "job_id")
@@ -4,7 +4,12 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notification")
+@Table(name = "notification", indexes = {
+        @Index(name = "idx_notification_user_status_date", columnList = "user_id, status, date_sent"),
+        @Index(name = "idx_notification_user_date", columnList = "user_id, date_sent"),
+        @Index(name = "idx_notification_user_type", columnList = "user_id, type"),
+        @Index(name = "idx_notification_type", columnList = "type")
+})
 public class Notification {
     @Id
     @Column(name = "notification_id")
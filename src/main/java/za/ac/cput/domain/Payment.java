@@ -6,7 +6,13 @@ import za.ac.cput.domain.Contract;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payment")
+@Table(name = "payment", indexes = {
+        @Index(name = "idx_payment_contract_status", columnList = "contract_id, status"),
+        @Index(name = "idx_payment_status_date_processed", columnList = "status, date_processed"),
+        @Index(name = "idx_payment_method", columnList = "method"),
+        @Index(name = "idx_payment_date_processed", columnList = "date_processed"),
+        @Index(name = "idx_payment_amount", columnList = "amount")
+})
 public class Payment {
     @Id
     @Column(name = "payment_id")
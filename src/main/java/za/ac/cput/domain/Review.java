@@ -1,10 +1,18 @@
 package za.ac.cput.domain;
 
 import jakarta.persistence.*;
+import za.ac.cput.cache.RequestReadCache;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "review")
+@EntityListeners(RequestReadCache.Invalidator.class)
+@Table(name = "review", indexes = {
+        @Index(name = "idx_review_contract", columnList = "contract_id"),
+        @Index(name = "idx_review_reviewer", columnList = "reviewer_id"),
+        @Index(name = "idx_review_reviewed_rating", columnList = "reviewed_id, rating"),
+        @Index(name = "idx_review_rating", columnList = "rating"),
+        @Index(name = "idx_review_date_posted", columnList = "date_posted")
+})
 public class Review {
     @Id
     @Column(name = "review_id")
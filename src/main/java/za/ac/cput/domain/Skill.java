@@ -3,7 +3,11 @@ package za.ac.cput.domain;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "skill")
+@Table(name = "skill", indexes = {
+        @Index(name = "idx_skill_name", columnList = "name"),
+        @Index(name = "idx_skill_category_status", columnList = "category, verification_status"),
+        @Index(name = "idx_skill_verification_status", columnList = "verification_status")
+})
 public class Skill {
     @Id
     @Column(name = "skill_id")
@@ -1,11 +1,18 @@
 package za.ac.cput.domain;
 
 import jakarta.persistence.*;
+import za.ac.cput.cache.RequestReadCache;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "user")
+@EntityListeners(RequestReadCache.Invalidator.class)
+@Table(name = "user", indexes = {
+        @Index(name = "idx_user_status", columnList = "status"),
+        @Index(name = "idx_user_current_mode", columnList = "current_mode"),
+        @Index(name = "idx_user_phone_number", columnList = "phone_number"),
+        @Index(name = "idx_user_date_joined", columnList = "date_joined")
+})
 public class User {
 
     @Id
@@ -28,7 +35,8 @@ public class User {
     protected String phoneNumber;
 
     @ElementCollection
-    @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
+    @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"),
+            indexes = @Index(name = "idx_user_roles_role_user", columnList = "role, user_id"))
     @Column(name = "role")
     @Enumerated(EnumType.STRING)
     protected List<Role> roles;
@@ -44,6 +52,11 @@ public class User {
     @Column(name = "date_joined")
     protected LocalDateTime dateJoined;
 
+    // Bits of Verification.DocumentType the user has a VERIFIED document for. Written only by
+    // UserRepository.refreshVerifiedDocumentMasks, never by saving the entity
+    @Column(name = "verified_document_mask", nullable = false, insertable = false, updatable = false)
+    protected int verifiedDocumentMask;
+
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     protected WorkerProfile workerProfile;
 
@@ -84,6 +97,7 @@ public class User {
         this.currentMode = builder.currentMode;
         this.status = builder.status;
         this.dateJoined = builder.dateJoined;
+        this.verifiedDocumentMask = builder.verifiedDocumentMask;
         this.workerProfile = builder.workerProfile;
         this.postedJobs = builder.postedJobs;
         this.applications = builder.applications;
@@ -106,6 +120,10 @@ public class User {
     public Mode getCurrentMode() { return currentMode; }
     public Status getStatus() { return status; }
     public LocalDateTime getDateJoined() { return dateJoined; }
+    public int getVerifiedDocumentMask() { return verifiedDocumentMask; }
+    public boolean hasVerifiedDocument(Verification.DocumentType documentType) {
+        return (verifiedDocumentMask & documentType.bit()) != 0;
+    }
     public WorkerProfile getWorkerProfile() { return workerProfile; }
     public List<Job> getPostedJobs() { return postedJobs; }
     public List<Application> getApplications() { return applications; }
@@ -141,6 +159,7 @@ public class User {
                 ", currentMode=" + currentMode +
                 ", status=" + status +
                 ", dateJoined=" + dateJoined +
+                ", verifiedDocumentMask=" + verifiedDocumentMask +
                 '}';
     }
 
@@ -155,6 +174,7 @@ public class User {
         private Mode currentMode;
         private Status status;
         private LocalDateTime dateJoined;
+        private int verifiedDocumentMask;
         private WorkerProfile workerProfile;
         private List<Job> postedJobs;
         private List<Application> applications;
@@ -215,6 +235,11 @@ public class User {
             return this;
         }
 
+        public Builder setVerifiedDocumentMask(int verifiedDocumentMask) {
+            this.verifiedDocumentMask = verifiedDocumentMask;
+            return this;
+        }
+
         public Builder setWorkerProfile(WorkerProfile workerProfile) {
             this.workerProfile = workerProfile;
             return this;
@@ -271,6 +296,7 @@ public class User {
             this.currentMode = user.currentMode;
             this.status = user.status;
             this.dateJoined = user.dateJoined;
+            this.verifiedDocumentMask = user.verifiedDocumentMask;
             this.workerProfile = user.workerProfile;
             this.postedJobs = user.postedJobs;
             this.applications = user.applications;
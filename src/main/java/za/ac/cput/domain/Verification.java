@@ -2,9 +2,19 @@ package za.ac.cput.domain;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
 
 @Entity
-@Table(name = "verification")
+@Table(name = "verification", indexes = {
+        @Index(name = "idx_verification_user_status_type", columnList = "user_id, status, document_type"),
+        @Index(name = "idx_verification_status_date_submitted", columnList = "status, date_submitted"),
+        @Index(name = "idx_verification_document_type", columnList = "document_type"),
+        @Index(name = "idx_verification_code", columnList = "verification_code"),
+        @Index(name = "idx_verification_review_queue", columnList = "status, review_priority_at"),
+        @Index(name = "idx_verification_lease_owner", columnList = "lease_owner")
+})
 public class Verification {
     @Id
     @Column(name = "verification_id")
@@ -34,6 +44,21 @@ public class Verification {
     @Column(name = "date_verified")
     protected LocalDateTime dateVerified;
 
+    // Admin who approved or rejected the verification
+    @Column(name = "reviewed_by")
+    protected String reviewedBy;
+
+    // Review queue ordering: the submission time moved earlier for active users (see ReviewPriorityPolicy)
+    @Column(name = "review_priority_at")
+    protected LocalDateTime reviewPriorityAt;
+
+    // Admin currently reviewing this verification, until leaseExpiresAt (see VerificationReviewQueue)
+    @Column(name = "lease_owner")
+    protected String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    protected LocalDateTime leaseExpiresAt;
+
     protected Verification() {}
 
     public Verification(Builder builder) {
@@ -45,6 +70,10 @@ public class Verification {
         this.status = builder.status;
         this.dateSubmitted = builder.dateSubmitted;
         this.dateVerified = builder.dateVerified;
+        this.reviewedBy = builder.reviewedBy;
+        this.reviewPriorityAt = builder.reviewPriorityAt;
+        this.leaseOwner = builder.leaseOwner;
+        this.leaseExpiresAt = builder.leaseExpiresAt;
     }
 
     // Getters
@@ -56,9 +85,45 @@ public class Verification {
     public VerificationStatus getStatus() { return status; }
     public LocalDateTime getDateSubmitted() { return dateSubmitted; }
     public LocalDateTime getDateVerified() { return dateVerified; }
+    public String getReviewedBy() { return reviewedBy; }
+    public LocalDateTime getReviewPriorityAt() { return reviewPriorityAt; }
+    public String getLeaseOwner() { return leaseOwner; }
+    public LocalDateTime getLeaseExpiresAt() { return leaseExpiresAt; }
 
     // Enums
-    public enum DocumentType { ID, CERTIFICATE, LICENSE }
+    // Bits are stored in user.verified_document_mask; never renumber them
+    public enum DocumentType {
+        ID(1), CERTIFICATE(1 << 1), LICENSE(1 << 2);
+
+        private final int bit;
+
+        DocumentType(int bit) {
+            this.bit = bit;
+        }
+
+        public int bit() { return bit; }
+
+        public static int toMask(Collection<DocumentType> documentTypes) {
+            int mask = 0;
+            if (documentTypes != null) {
+                for (DocumentType documentType : documentTypes) {
+                    mask |= documentType.bit;
+                }
+            }
+            return mask;
+        }
+
+        public static Set<DocumentType> fromMask(int mask) {
+            Set<DocumentType> documentTypes = EnumSet.noneOf(DocumentType.class);
+            for (DocumentType documentType : values()) {
+                if ((mask & documentType.bit) != 0) {
+                    documentTypes.add(documentType);
+                }
+            }
+            return documentTypes;
+        }
+    }
+
     public enum VerificationStatus { PENDING, VERIFIED, REJECTED }
 
     @Override
@@ -72,6 +137,10 @@ public class Verification {
                 ", status="+ status +
                 ", dateSubmitted=" + dateSubmitted +
                 ", dateVerified=" + dateVerified +
+                ", reviewedBy='" + reviewedBy + '\'' +
+                ", reviewPriorityAt=" + reviewPriorityAt +
+                ", leaseOwner='" + leaseOwner + '\'' +
+                ", leaseExpiresAt=" + leaseExpiresAt +
                 '}';
     }
 
@@ -84,6 +153,10 @@ public class Verification {
         private VerificationStatus status;
         private LocalDateTime dateSubmitted;
         private LocalDateTime dateVerified;
+        private String reviewedBy;
+        private LocalDateTime reviewPriorityAt;
+        private String leaseOwner;
+        private LocalDateTime leaseExpiresAt;
 
         public Builder setVerificationId(String verificationId) { this.verificationId = verificationId; return this; }
         public Builder setUser(User user) { this.user = user; return this; }
@@ -93,6 +166,10 @@ public class Verification {
         public Builder setStatus(VerificationStatus status) { this.status = status; return this; }
         public Builder setDateSubmitted(LocalDateTime dateSubmitted) { this.dateSubmitted = dateSubmitted; return this; }
         public Builder setDateVerified(LocalDateTime dateVerified) { this.dateVerified = dateVerified; return this; }
+        public Builder setReviewedBy(String reviewedBy) { this.reviewedBy = reviewedBy; return this; }
+        public Builder setReviewPriorityAt(LocalDateTime reviewPriorityAt) { this.reviewPriorityAt = reviewPriorityAt; return this; }
+        public Builder setLeaseOwner(String leaseOwner) { this.leaseOwner = leaseOwner; return this; }
+        public Builder setLeaseExpiresAt(LocalDateTime leaseExpiresAt) { this.leaseExpiresAt = leaseExpiresAt; return this; }
 
         public Builder copy(Verification verification) {
             this.verificationId = verification.verificationId;
@@ -103,6 +180,10 @@ public class Verification {
             this.status = verification.status;
             this.dateSubmitted = verification.dateSubmitted;
             this.dateVerified = verification.dateVerified;
+            this.reviewedBy = verification.reviewedBy;
+            this.reviewPriorityAt = verification.reviewPriorityAt;
+            this.leaseOwner = verification.leaseOwner;
+            this.leaseExpiresAt = verification.leaseExpiresAt;
             return this;
         }
 
@@ -6,7 +6,13 @@ import za.ac.cput.domain.*;
 import java.util.List;
 
 @Entity
-@Table(name = "worker_profile")
+@Table(name = "worker_profile", indexes = {
+        @Index(name = "idx_worker_profile_availability", columnList = "availability_status, verification_status"),
+        @Index(name = "idx_worker_profile_verification", columnList = "verification_status, availability_status"),
+        @Index(name = "idx_worker_profile_location", columnList = "location"),
+        @Index(name = "idx_worker_profile_hourly_rate", columnList = "hourly_rate"),
+        @Index(name = "idx_worker_profile_rating", columnList = "rating")
+})
 public class WorkerProfile {
     @Id
     @Column(name = "profile_id")
@@ -23,7 +29,8 @@ public class WorkerProfile {
     @JoinTable(
             name = "worker_skills",
             joinColumns = @JoinColumn(name = "profile_id"),
-            inverseJoinColumns = @JoinColumn(name = "skill_id")
+            inverseJoinColumns = @JoinColumn(name = "skill_id"),
+            indexes = @Index(name = "idx_worker_skills_skill_profile", columnList = "skill_id, profile_id")
     )
     protected List<Skill> skills;
 
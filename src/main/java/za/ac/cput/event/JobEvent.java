@@ -0,0 +1,46 @@
+package za.ac.cput.event;
+
+import za.ac.cput.domain.Job;
+
+// Published by JobService whenever a job is created, updated or deleted
+public class JobEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+    private final Job job;
+
+    private JobEvent(Type type, Job job) {
+        this.type = type;
+        this.job = job;
+    }
+
+    public static JobEvent created(Job job) {
+        return new JobEvent(Type.CREATED, job);
+    }
+
+    public static JobEvent updated(Job job) {
+        return new JobEvent(Type.UPDATED, job);
+    }
+
+    public static JobEvent deleted(Job job) {
+        return new JobEvent(Type.DELETED, job);
+    }
+
+    public Type getType() { return type; }
+    public Job getJob() { return job; }
+
+    // True while the job can still receive applications
+    public boolean isOpen() {
+        return type != Type.DELETED && job.getStatus() == Job.JobStatus.OPEN;
+    }
+
+    @Override
+    public String toString() {
+        return "JobEvent{" +
+                "type=" + type +
+                ", jobId='" + job.getJobId() + '\'' +
+                ", status=" + job.getStatus() +
+                '}';
+    }
+}
@@ -0,0 +1,46 @@
+package za.ac.cput.event;
+
+import za.ac.cput.domain.Skill;
+
+import java.util.List;
+
+// Published by SkillService whenever a skill is saved or deleted, or when a bulk moderation changes
+// the verification status of several skills at once (STATUS_CHANGED carries IDs only, no Skill)
+public class SkillEvent {
+
+    public enum Type { SAVED, DELETED, STATUS_CHANGED }
+
+    private final Type type;
+    private final Skill skill;
+    private final List<String> skillIds;
+
+    private SkillEvent(Type type, Skill skill, List<String> skillIds) {
+        this.type = type;
+        this.skill = skill;
+        this.skillIds = skillIds;
+    }
+
+    public static SkillEvent saved(Skill skill) {
+        return new SkillEvent(Type.SAVED, skill, List.of(skill.getSkillId()));
+    }
+
+    public static SkillEvent deleted(Skill skill) {
+        return new SkillEvent(Type.DELETED, skill, List.of(skill.getSkillId()));
+    }
+
+    public static SkillEvent statusChanged(List<String> skillIds) {
+        return new SkillEvent(Type.STATUS_CHANGED, null, List.copyOf(skillIds));
+    }
+
+    public Type getType() { return type; }
+    public Skill getSkill() { return skill; }
+    public List<String> getSkillIds() { return skillIds; }
+
+    @Override
+    public String toString() {
+        return "SkillEvent{" +
+                "type=" + type +
+                ", skillIds=" + skillIds +
+                '}';
+    }
+}
@@ -0,0 +1,37 @@
+package za.ac.cput.event;
+
+import za.ac.cput.domain.WorkerProfile;
+
+// Published by WorkerProfileService whenever a worker profile is saved or deleted
+public class WorkerProfileEvent {
+
+    public enum Type { SAVED, DELETED }
+
+    private final Type type;
+    private final WorkerProfile profile;
+
+    private WorkerProfileEvent(Type type, WorkerProfile profile) {
+        this.type = type;
+        this.profile = profile;
+    }
+
+    public static WorkerProfileEvent saved(WorkerProfile profile) {
+        return new WorkerProfileEvent(Type.SAVED, profile);
+    }
+
+    public static WorkerProfileEvent deleted(WorkerProfile profile) {
+        return new WorkerProfileEvent(Type.DELETED, profile);
+    }
+
+    public Type getType() { return type; }
+    public WorkerProfile getProfile() { return profile; }
+    public String getProfileId() { return profile.getProfileId(); }
+
+    @Override
+    public String toString() {
+        return "WorkerProfileEvent{" +
+                "type=" + type +
+                ", profileId='" + profile.getProfileId() + '\'' +
+                '}';
+    }
+}
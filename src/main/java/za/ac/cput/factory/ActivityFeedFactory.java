@@ -0,0 +1,36 @@
+package za.ac.cput.factory;
+
+import za.ac.cput.domain.*;
+import za.ac.cput.util.ValidationHelper;
+
+import java.time.LocalDateTime;
+
+public class ActivityFeedFactory {
+
+    private static final int MAX_SUMMARY_LENGTH = 500;
+
+    public static ActivityFeedEntry createEntry(User user, ActivityFeedEntry.ActivityType activityType,
+                                                String subjectId, String summary) {
+
+        // Validate inputs
+        if (user == null || ValidationHelper.isNullOrEmpty(user.getUserId())) {
+            return null;
+        }
+        if (activityType == null) {
+            return null;
+        }
+        if (ValidationHelper.isNullOrEmpty(summary)) {
+            return null;
+        }
+
+        String trimmed = summary.trim();
+        return new ActivityFeedEntry.Builder()
+                .setEntryId(ValidationHelper.generateId())
+                .setUserId(user.getUserId())
+                .setActivityType(activityType)
+                .setSubjectId(subjectId)
+                .setSummary(trimmed.length() > MAX_SUMMARY_LENGTH ? trimmed.substring(0, MAX_SUMMARY_LENGTH) : trimmed)
+                .setDateCreated(LocalDateTime.now())
+                .build();
+    }
+}
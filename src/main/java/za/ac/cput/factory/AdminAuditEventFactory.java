@@ -0,0 +1,37 @@
+package za.ac.cput.factory;
+
+import za.ac.cput.domain.*;
+import za.ac.cput.util.ValidationHelper;
+
+import java.time.LocalDateTime;
+
+public class AdminAuditEventFactory {
+
+    private static final int MAX_ACTION_LENGTH = 1000;
+
+    public static AdminAuditEvent createEvent(String adminId, String action) {
+        return createEvent(adminId, action, LocalDateTime.now());
+    }
+
+    public static AdminAuditEvent createEvent(String adminId, String action, LocalDateTime occurredAt) {
+
+        // Validate inputs
+        if (ValidationHelper.isNullOrEmpty(adminId)) {
+            return null;
+        }
+        if (ValidationHelper.isNullOrEmpty(action)) {
+            return null;
+        }
+        if (occurredAt == null) {
+            return null;
+        }
+
+        String trimmed = action.trim();
+        return new AdminAuditEvent.Builder()
+                .setEventId(ValidationHelper.generateId())
+                .setAdminId(adminId)
+                .setAction(trimmed.length() > MAX_ACTION_LENGTH ? trimmed.substring(0, MAX_ACTION_LENGTH) : trimmed)
+                .setOccurredAt(occurredAt)
+                .build();
+    }
+}
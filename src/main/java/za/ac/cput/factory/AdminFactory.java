@@ -9,7 +9,7 @@ import java.util.List;
 
 public class AdminFactory {
 
-    public static Admin createAdmin(User user, List<Admin.Permission> permissions, String actionsLog) {
+    public static Admin createAdmin(User user, List<Admin.Permission> permissions) {
 
         // Validate inputs
         if (user == null) {
@@ -23,7 +23,6 @@ public class AdminFactory {
                 .setAdminId(ValidationHelper.generateId())
                 .setUser(user)
                 .setPermissions(permissions)
-                .setActionsLog(actionsLog != null ? actionsLog.trim() : "")
                 .setDateCreated(LocalDateTime.now()) // Add missing dateCreated
                 .build();
     }
@@ -35,10 +34,10 @@ public class AdminFactory {
                 Admin.Permission.RESOLVE_DISPUTES,
                 Admin.Permission.MANAGE_PAYMENTS,
                 Admin.Permission.VIEW_REPORTS
-        ), "Super admin created");
+        ));
     }
 
     public static Admin createSkillVerifierAdmin(User user) {
-        return createAdmin(user, List.of(Admin.Permission.VERIFY_SKILLS), "Skill verifier created");
+        return createAdmin(user, List.of(Admin.Permission.VERIFY_SKILLS));
     }
 }
\ No newline at end of file
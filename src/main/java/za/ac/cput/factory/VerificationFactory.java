@@ -18,6 +18,7 @@ public class VerificationFactory {
             return null;
         }
 
+        LocalDateTime now = LocalDateTime.now();
         return new Verification.Builder()
                 .setVerificationId(ValidationHelper.generateId())
                 .setUser(user)
@@ -25,8 +26,9 @@ public class VerificationFactory {
                 .setDocumentUrl(documentUrl.trim())
                 .setVerificationCode(verificationCode != null ? verificationCode.trim() : null)
                 .setStatus(Verification.VerificationStatus.PENDING)
-                .setDateSubmitted(LocalDateTime.now())
+                .setDateSubmitted(now)
                 .setDateVerified(null)
+                .setReviewPriorityAt(now)
                 .build();
     }
 
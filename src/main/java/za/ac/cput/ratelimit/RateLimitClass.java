@@ -0,0 +1,19 @@
+package za.ac.cput.ratelimit;
+
+// Endpoint classes that get their own bucket per client; defaults can be overridden under app.rate-limit.*
+public enum RateLimitClass {
+    SEARCH(30, 2),
+    APPLY(5, 60),
+    STANDARD(120, 0.05);
+
+    private final int defaultCapacity;
+    private final double defaultRefillSeconds;
+
+    RateLimitClass(int defaultCapacity, double defaultRefillSeconds) {
+        this.defaultCapacity = defaultCapacity;
+        this.defaultRefillSeconds = defaultRefillSeconds;
+    }
+
+    public int getDefaultCapacity() { return defaultCapacity; }
+    public double getDefaultRefillSeconds() { return defaultRefillSeconds; }
+}
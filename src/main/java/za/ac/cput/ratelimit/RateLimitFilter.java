@@ -0,0 +1,135 @@
+package za.ac.cput.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import za.ac.cput.security.AuthenticationFilter;
+import za.ac.cput.security.ClientAddressResolver;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-client rate limiting for the API, applied before the request reaches a controller, so a
+ * rejected request never opens a transaction or borrows a connection. Requests are classified by
+ * path into a RateLimitClass and charged to the token's user if there is one, otherwise to the
+ * client address from ClientAddressResolver, so a client cannot pick its own bucket. Rejections get 429 with a Retry-After header and are counted per class in the
+ * app.rate_limit.requests meter.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "app.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final int WHEEL_SLOTS = 128;
+    private static final long TICK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<RateLimitClass, RateLimiter> limiters = new EnumMap<>(RateLimitClass.class);
+    private final Map<RateLimitClass, List<String>> pathPatterns = new EnumMap<>(RateLimitClass.class);
+    private final Map<RateLimitClass, Counter> allowed = new EnumMap<>(RateLimitClass.class);
+    private final Map<RateLimitClass, Counter> rejected = new EnumMap<>(RateLimitClass.class);
+    private final ClientAddressResolver clientAddressResolver;
+
+    @Autowired
+    public RateLimitFilter(Environment environment, MeterRegistry meterRegistry,
+                           ClientAddressResolver clientAddressResolver) {
+        this.clientAddressResolver = clientAddressResolver;
+        for (RateLimitClass limitClass : RateLimitClass.values()) {
+            String prefix = "app.rate-limit." + limitClass.name().toLowerCase() + ".";
+            int capacity = environment.getProperty(prefix + "capacity", Integer.class,
+                    limitClass.getDefaultCapacity());
+            Duration refill = environment.getProperty(prefix + "refill", Duration.class,
+                    Duration.ofMillis((long) (limitClass.getDefaultRefillSeconds() * 1000)));
+            RateLimiter limiter = new RateLimiter(capacity, refill.toNanos(), WHEEL_SLOTS, TICK_NANOS, System::nanoTime);
+
+            limiters.put(limitClass, limiter);
+            pathPatterns.put(limitClass, List.of(environment.getProperty(prefix + "paths", String[].class, new String[0])));
+            allowed.put(limitClass, counter(meterRegistry, limitClass, "allowed"));
+            rejected.put(limitClass, counter(meterRegistry, limitClass, "rejected"));
+            Gauge.builder("app.rate_limit.buckets", limiter, RateLimiter::size)
+                    .description("Clients currently tracked by the rate limiter")
+                    .tag("class", limitClass.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RateLimitClass limitClass = classify(request);
+        long waitNanos = limiters.get(limitClass).tryAcquire(clientKey(request));
+        if (waitNanos == 0) {
+            allowed.get(limitClass).increment();
+            chain.doFilter(request, response);
+            return;
+        }
+
+        rejected.get(limitClass).increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TICK_NANOS - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Too many requests\",\"retryAfterSeconds\":" + retryAfterSeconds + "}");
+    }
+
+    @Scheduled(fixedRate = 1000)
+    public void expireIdleBuckets() {
+        limiters.values().forEach(RateLimiter::sweep);
+    }
+
+    // APPLY only covers submitting an application; clients accepting or rejecting them are not charged as applying
+    RateLimitClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (HttpMethod.POST.matches(request.getMethod()) && matches(RateLimitClass.APPLY, path)) {
+            return RateLimitClass.APPLY;
+        }
+        if (matches(RateLimitClass.SEARCH, path)) {
+            return RateLimitClass.SEARCH;
+        }
+        return RateLimitClass.STANDARD;
+    }
+
+    private boolean matches(RateLimitClass limitClass, String path) {
+        return pathPatterns.get(limitClass).stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    String clientKey(HttpServletRequest request) {
+        return AuthenticationFilter.currentToken(request)
+                .map(token -> "user:" + token.getUserId())
+                .orElseGet(() -> "ip:" + clientAddressResolver.resolve(request));
+    }
+
+    private static Counter counter(MeterRegistry registry, RateLimitClass limitClass, String outcome) {
+        return Counter.builder("app.rate_limit.requests")
+                .description("API requests seen by the rate limiter")
+                .tag("class", limitClass.name())
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -0,0 +1,97 @@
+package za.ac.cput.ratelimit;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets for one endpoint class, keyed by client (user or IP). Buckets live in a
+ * ConcurrentHashMap, whose striped bins keep acquisitions for different clients from contending,
+ * and each bucket itself is a single CAS.
+ *
+ * Idle buckets are expired with a timing wheel rather than a scan of the whole map: a new client
+ * key is filed in the slot for the time its bucket will be full again, and each sweep only visits
+ * the slots that came due. A due bucket that is full is removed, since a fresh one behaves the same;
+ * one that was used in the meantime is filed again for its new refill time.
+ */
+public class RateLimiter {
+
+    private final int capacity;
+    private final long refillIntervalNanos;
+    private final long tickNanos;
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Set<String>[] wheel;
+    private final Object sweepLock = new Object();
+    private long sweptUpToTick;
+
+    @SuppressWarnings("unchecked")
+    public RateLimiter(int capacity, long refillIntervalNanos, int wheelSlots, long tickNanos, LongSupplier clock) {
+        if (wheelSlots <= 0 || tickNanos <= 0) {
+            throw new IllegalArgumentException("Wheel slots and tick must be positive");
+        }
+        this.capacity = capacity;
+        this.refillIntervalNanos = refillIntervalNanos;
+        this.tickNanos = tickNanos;
+        this.clock = clock;
+        this.wheel = new Set[wheelSlots];
+        for (int i = 0; i < wheelSlots; i++) {
+            wheel[i] = ConcurrentHashMap.newKeySet();
+        }
+        this.sweptUpToTick = clock.getAsLong() / tickNanos;
+    }
+
+    // Returns 0 if the request may proceed, otherwise the nanoseconds the client should wait
+    public long tryAcquire(String clientKey) {
+        long now = clock.getAsLong();
+        TokenBucket bucket = buckets.get(clientKey);
+        if (bucket == null) {
+            TokenBucket created = new TokenBucket(capacity, refillIntervalNanos, now);
+            bucket = buckets.putIfAbsent(clientKey, created);
+            if (bucket == null) {
+                bucket = created;
+                long waitNanos = bucket.tryAcquire(now);
+                schedule(clientKey, bucket.fullAtNanos());
+                return waitNanos;
+            }
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    // Expires idle buckets in every slot that has come due since the last sweep
+    public void sweep() {
+        long now = clock.getAsLong();
+        synchronized (sweepLock) {
+            long currentTick = now / tickNanos;
+            long lastTick = Math.min(currentTick, sweptUpToTick + wheel.length);
+            for (long tick = sweptUpToTick + 1; tick <= lastTick; tick++) {
+                Set<String> slot = wheel[(int) (tick % wheel.length)];
+                for (String key : slot) {
+                    slot.remove(key);
+                    TokenBucket bucket = buckets.get(key);
+                    if (bucket == null) {
+                        continue;
+                    }
+                    if (bucket.isFull(now)) {
+                        buckets.remove(key, bucket);
+                    } else {
+                        schedule(key, bucket.fullAtNanos());
+                    }
+                }
+            }
+            sweptUpToTick = currentTick;
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private void schedule(String key, long fullAtNanos) {
+        long now = clock.getAsLong();
+        // always at least one tick ahead, and no further than one turn of the wheel
+        long ticksAhead = Math.max(1, Math.min(wheel.length - 1, (fullAtNanos - now) / tickNanos + 1));
+        wheel[(int) ((now / tickNanos + ticksAhead) % wheel.length)].add(key);
+    }
+}
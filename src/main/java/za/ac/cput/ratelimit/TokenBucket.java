@@ -0,0 +1,50 @@
+package za.ac.cput.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket. Rather than storing a token count and a refill timestamp, it stores the
+ * single "theoretical arrival time" of the generic cell rate algorithm, which behaves exactly like a
+ * bucket of {@code capacity} tokens refilled one every {@code refillIntervalNanos} and fits in one
+ * AtomicLong, so acquiring is a single compare-and-set.
+ */
+public class TokenBucket {
+
+    private final long refillIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(int capacity, long refillIntervalNanos, long nowNanos) {
+        if (capacity <= 0 || refillIntervalNanos <= 0) {
+            throw new IllegalArgumentException("Capacity and refill interval must be positive");
+        }
+        this.refillIntervalNanos = refillIntervalNanos;
+        this.burstNanos = (capacity - 1) * refillIntervalNanos;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    // Returns 0 if a token was taken, otherwise the nanoseconds until one will be available
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long base = Math.max(current, nowNanos);
+            long wait = base - nowNanos - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, base + refillIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    // A full bucket carries no state, so it can be dropped and recreated without changing behaviour
+    public boolean isFull(long nowNanos) {
+        return theoreticalArrival.get() <= nowNanos;
+    }
+
+    // When the bucket will be full again if nobody takes another token
+    public long fullAtNanos() {
+        return theoreticalArrival.get();
+    }
+}
@@ -0,0 +1,29 @@
+package za.ac.cput.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import za.ac.cput.domain.ActivityFeedEntry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// ========================= ACTIVITY FEED ENTRY REPOSITORY =========================
+@Repository
+public interface ActivityFeedEntryRepository extends JpaRepository<ActivityFeedEntry, String> {
+
+    // Find one page of a user's feed, newest first, read in order from the (user_id, date_created) index
+    @Query("SELECT e FROM ActivityFeedEntry e WHERE e.userId = :userId ORDER BY e.dateCreated DESC, e.entryId DESC")
+    Slice<ActivityFeedEntry> findFeed(@Param("userId") String userId, Pageable pageable);
+
+    // Find a user's most recent entries, newest first
+    @Query("SELECT e FROM ActivityFeedEntry e WHERE e.userId = :userId ORDER BY e.dateCreated DESC, e.entryId DESC")
+    List<ActivityFeedEntry> findLatest(@Param("userId") String userId, Limit limit);
+
+    // Count a user's entries since a point in time, from the (user_id, date_created) index
+    long countByUserIdAndDateCreatedAfter(String userId, LocalDateTime since);
+}
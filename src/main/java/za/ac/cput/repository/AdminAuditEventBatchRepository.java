@@ -0,0 +1,15 @@
+package za.ac.cput.repository;
+
+import za.ac.cput.domain.AdminAuditEvent;
+
+import java.util.List;
+
+// ========================= ADMIN AUDIT EVENT BATCH REPOSITORY =========================
+public interface AdminAuditEventBatchRepository {
+
+    // Insert new audit events in JDBC batches (no per-row SELECT, unlike save/saveAll)
+    List<AdminAuditEvent> insertAll(List<AdminAuditEvent> events);
+
+    // Park events that could not be inserted in admin_audit_dead_letter, with the error that stopped them
+    int insertDeadLetters(List<AdminAuditEvent> events, String error);
+}
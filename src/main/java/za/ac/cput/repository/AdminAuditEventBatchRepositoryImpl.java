@@ -0,0 +1,56 @@
+package za.ac.cput.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import za.ac.cput.domain.AdminAuditEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class AdminAuditEventBatchRepositoryImpl implements AdminAuditEventBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Matches hibernate.jdbc.batch_size so each flush sends whole batches
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Override
+    public List<AdminAuditEvent> insertAll(List<AdminAuditEvent> events) {
+        // Audit events carry an assigned ID, so save() would merge and SELECT each row first
+        for (int i = 0; i < events.size(); i++) {
+            entityManager.persist(events.get(i));
+            if ((i + 1) % batchSize == 0 || i == events.size() - 1) {
+                entityManager.flush();
+                // Events are never read back through this context, so flushed ones are detached straight away
+                for (int j = i - (i % batchSize); j <= i; j++) {
+                    entityManager.detach(events.get(j));
+                }
+            }
+        }
+        return events;
+    }
+
+    @Override
+    public int insertDeadLetters(List<AdminAuditEvent> events, String error) {
+        // Re-parking an event keeps the first row, so a retried dead-letter write is harmless
+        String sql = "INSERT IGNORE INTO admin_audit_dead_letter " +
+                "(event_id, admin_id, action, occurred_at, error, failed_at) VALUES (?, ?, ?, ?, ?, ?)";
+        String truncated = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        LocalDateTime failedAt = LocalDateTime.now();
+        int inserted = 0;
+        for (AdminAuditEvent event : events) {
+            inserted += entityManager.createNativeQuery(sql)
+                    .setParameter(1, event.getEventId())
+                    .setParameter(2, event.getAdminId())
+                    .setParameter(3, event.getAction())
+                    .setParameter(4, event.getOccurredAt())
+                    .setParameter(5, truncated)
+                    .setParameter(6, failedAt)
+                    .executeUpdate();
+        }
+        return inserted;
+    }
+}
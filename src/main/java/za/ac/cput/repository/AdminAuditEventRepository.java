@@ -0,0 +1,31 @@
+package za.ac.cput.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import za.ac.cput.domain.AdminAuditEvent;
+
+import java.time.LocalDateTime;
+
+// ========================= ADMIN AUDIT EVENT REPOSITORY =========================
+@Repository
+public interface AdminAuditEventRepository extends JpaRepository<AdminAuditEvent, String>, AdminAuditEventBatchRepository {
+
+    // Find one page of an admin's events in a time range, newest first, from the (admin_id, occurred_at) index
+    @Query("SELECT e FROM AdminAuditEvent e WHERE e.adminId = :adminId " +
+            "AND e.occurredAt >= :from AND e.occurredAt < :to ORDER BY e.occurredAt DESC, e.eventId DESC")
+    Slice<AdminAuditEvent> findByAdmin(@Param("adminId") String adminId,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to,
+                                       Pageable pageable);
+
+    // Find one page of all admins' events in a time range, newest first
+    @Query("SELECT e FROM AdminAuditEvent e WHERE e.occurredAt >= :from AND e.occurredAt < :to " +
+            "ORDER BY e.occurredAt DESC, e.eventId DESC")
+    Slice<AdminAuditEvent> findBetween(@Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to,
+                                       Pageable pageable);
+}
@@ -16,9 +16,12 @@ public interface AdminRepository extends JpaRepository<Admin, String> {
     // Find admin by user
     Optional<Admin> findByUser(User user);
 
-    // Find admins with specific permission
-    @Query("SELECT a FROM Admin a WHERE :permission MEMBER OF a.permissions")
-    List<Admin> findByPermission(@Param("permission") Admin.Permission permission);
+    // Find admin by the ID of its user (the principal of an authenticated request)
+    Optional<Admin> findByUserUserId(String userId);
+
+    // Find admins whose permission mask is one of the given values (see Admin.Permission.masksContaining)
+    @Query("SELECT a FROM Admin a WHERE a.permissionMask IN :masks")
+    List<Admin> findByPermissionMaskIn(@Param("masks") Collection<Integer> masks);
 
     // Find admins created within date range
     @Query("SELECT a FROM Admin a WHERE a.dateCreated BETWEEN :startDate AND :endDate")
@@ -27,4 +30,14 @@ public interface AdminRepository extends JpaRepository<Admin, String> {
 
     // Check if user is admin
     boolean existsByUser(User user);
+
+    // Set permission bits in place, so concurrent changes to other bits are not overwritten
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Admin a SET a.permissionMask = bitor(a.permissionMask, :bits) WHERE a.adminId = :adminId")
+    int grantPermissionBits(@Param("adminId") String adminId, @Param("bits") int bits);
+
+    // Clear permission bits in place, so concurrent changes to other bits are not overwritten
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Admin a SET a.permissionMask = bitand(a.permissionMask, :keep) WHERE a.adminId = :adminId")
+    int revokePermissionBits(@Param("adminId") String adminId, @Param("keep") int keep);
 }
@@ -9,6 +9,7 @@ import za.ac.cput.domain.Job;
 import za.ac.cput.domain.User;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,9 +22,6 @@ public interface ApplicationRepository extends JpaRepository<Application, String
     // Find applications by job
     List<Application> findByJob(Job job);
 
-    // Find applications by status
-    List<Application> findByStatus(Application.ApplicationStatus status);
-
     // Find application by job and worker (to check if worker already applied)
     Optional<Application> findByJobAndWorker(Job job, User worker);
 
@@ -45,13 +43,12 @@ public interface ApplicationRepository extends JpaRepository<Application, String
     @Query("SELECT a FROM Application a WHERE a.dateApplied >= :date ORDER BY a.dateApplied DESC")
     List<Application> findRecentApplications(@Param("date") LocalDateTime date);
 
-    // Find applications with expected pay within range
-    @Query("SELECT a FROM Application a WHERE a.expectedPay BETWEEN :minPay AND :maxPay")
-    List<Application> findByExpectedPayRange(@Param("minPay") Double minPay, @Param("maxPay") Double maxPay);
-
     // Count applications by status
     Long countByStatus(Application.ApplicationStatus status);
 
+    // Count how many of the given applications still exist
+    long countByApplicationIdIn(Collection<String> applicationIds);
+
     // Find worker's applications for a specific job category
     @Query("SELECT a FROM Application a WHERE a.worker = :worker AND a.job.category = :category")
     List<Application> findByWorkerAndJobCategory(@Param("worker") User worker, @Param("category") String category);
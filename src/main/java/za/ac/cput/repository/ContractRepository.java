@@ -1,5 +1,6 @@
 package za.ac.cput.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -70,9 +71,9 @@ public interface ContractRepository extends JpaRepository<Contract, String> {
     @Query("SELECT c FROM Contract c WHERE c.status = 'DISPUTED'")
     List<Contract> findDisputedContracts();
 
-    // Find the highest value contracts
+    // Find the top-N highest value contracts, read in order from the agreed_pay index
     @Query("SELECT c FROM Contract c ORDER BY c.agreedPay DESC")
-    List<Contract> findHighestValueContracts();
+    List<Contract> findHighestValueContracts(Limit limit);
 
     // Check if user has active contracts
     @Query("SELECT COUNT(c) > 0 FROM Contract c WHERE (c.client = :user OR c.worker = :user) AND c.status = 'ACTIVE'")
@@ -1,5 +1,6 @@
 package za.ac.cput.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -60,7 +61,25 @@ public interface JobRepository extends JpaRepository<Job, String> {
     @Query("SELECT j FROM Job j WHERE j.status = 'OPEN' ORDER BY j.budget DESC")
     List<Job> findHighestPayingJobs();
 
+    // Find the top-N highest paying open jobs, read in order from the (status, budget) index
+    @Query("SELECT j FROM Job j WHERE j.status = 'OPEN' ORDER BY j.budget DESC")
+    List<Job> findHighestPayingJobs(Limit limit);
+
     // Find jobs in specific categories
     @Query("SELECT j FROM Job j WHERE j.category IN :categories AND j.status = 'OPEN'")
     List<Job> findByCategoriesIn(@Param("categories") List<String> categories);
-}
\ No newline at end of file
+
+    // Facet columns of every job, read without loading the job's client
+    @Query("SELECT j.jobId AS jobId, j.category AS category, j.location AS location, j.budget AS budget, " +
+            "j.datePosted AS datePosted, j.status AS status FROM Job j")
+    List<FacetColumns> findFacetColumns();
+
+    interface FacetColumns {
+        String getJobId();
+        String getCategory();
+        String getLocation();
+        Double getBudget();
+        LocalDateTime getDatePosted();
+        Job.JobStatus getStatus();
+    }
+}
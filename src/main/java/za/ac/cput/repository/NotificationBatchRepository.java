@@ -0,0 +1,12 @@
+package za.ac.cput.repository;
+
+import za.ac.cput.domain.Notification;
+
+import java.util.List;
+
+// ========================= NOTIFICATION BATCH REPOSITORY =========================
+public interface NotificationBatchRepository {
+
+    // Insert new notifications in JDBC batches (no per-row SELECT, unlike save/saveAll)
+    List<Notification> insertAll(List<Notification> notifications);
+}
@@ -0,0 +1,34 @@
+package za.ac.cput.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import za.ac.cput.domain.Notification;
+
+import java.util.List;
+
+public class NotificationBatchRepositoryImpl implements NotificationBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Matches hibernate.jdbc.batch_size so each flush sends whole batches
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Override
+    public List<Notification> insertAll(List<Notification> notifications) {
+        // Notifications carry an assigned ID, so save() would merge and SELECT each row first
+        for (int i = 0; i < notifications.size(); i++) {
+            entityManager.persist(notifications.get(i));
+            if ((i + 1) % batchSize == 0 || i == notifications.size() - 1) {
+                entityManager.flush();
+                // Detach only the flushed notifications; other managed entities stay tracked
+                for (int j = i - (i % batchSize); j <= i; j++) {
+                    entityManager.detach(notifications.get(j));
+                }
+            }
+        }
+        return notifications;
+    }
+}
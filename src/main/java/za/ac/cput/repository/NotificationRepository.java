@@ -11,7 +11,7 @@ import java.util.List;
 
 // ========================= NOTIFICATION REPOSITORY =========================
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, String> {
+public interface NotificationRepository extends JpaRepository<Notification, String>, NotificationBatchRepository {
 
     // Find notifications by user
     List<Notification> findByUser(User user);
@@ -19,9 +19,6 @@ public interface NotificationRepository extends JpaRepository<Notification, Stri
     // Find notifications by type
     List<Notification> findByType(Notification.NotificationType type);
 
-    // Find notifications by status
-    List<Notification> findByStatus(Notification.NotificationStatus status);
-
     // Find unread notifications for user
     @Query("SELECT n FROM Notification n WHERE n.user = :user AND n.status = 'UNREAD' ORDER BY n.dateSent DESC")
     List<Notification> findUnreadByUser(@Param("user") User user);
@@ -62,10 +62,6 @@ public interface PaymentRepository extends JpaRepository<Payment, String> {
     @Query("SELECT COALESCE(SUM(p.amount), 0.0) FROM Payment p WHERE p.status = 'ESCROW'")
     Double getTotalEscrowAmount();
 
-    // Find largest payments
-    @Query("SELECT p FROM Payment p ORDER BY p.amount DESC")
-    List<Payment> findLargestPayments();
-
     // Count payments by method
     Long countByMethod(Payment.PaymentMethod method);
 
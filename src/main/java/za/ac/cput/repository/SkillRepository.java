@@ -32,4 +32,21 @@ public interface SkillRepository extends JpaRepository<Skill, String> {
 
     // Check if skill name exists
     boolean existsByName(String name);
+
+    // Lock the given skills and read only their status (SELECT ... FOR UPDATE)
+    @Query(value = "SELECT skill_id AS id, verification_status AS status FROM skill " +
+            "WHERE skill_id IN (:ids) FOR UPDATE", nativeQuery = true)
+    List<ModerationRow> lockForModeration(@Param("ids") Collection<String> ids);
+
+    // Move the given skills to a new status in one statement, touching only rows still in an allowed status
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Skill s SET s.verificationStatus = :to WHERE s.skillId IN :ids AND s.verificationStatus IN :from")
+    int updateVerificationStatus(@Param("ids") Collection<String> ids,
+                                 @Param("from") Collection<Skill.VerificationStatus> from,
+                                 @Param("to") Skill.VerificationStatus to);
+
+    interface ModerationRow {
+        String getId();
+        String getStatus();
+    }
 }
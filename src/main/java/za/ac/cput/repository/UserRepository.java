@@ -1,11 +1,13 @@
 package za.ac.cput.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import za.ac.cput.domain.User;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -52,4 +54,28 @@ public interface UserRepository extends JpaRepository<User, String> {
     // Find users with worker profiles
     @Query("SELECT u FROM User u WHERE u.workerProfile IS NOT NULL")
     List<User> findUsersWithWorkerProfile();
+
+    // Read one user's verified-document mask
+    @Query("SELECT u.verifiedDocumentMask FROM User u WHERE u.userId = :userId")
+    Optional<Integer> findVerifiedDocumentMask(@Param("userId") String userId);
+
+    // Read the verified-document masks of a page of users in one query
+    @Query("SELECT u.userId AS userId, u.verifiedDocumentMask AS mask FROM User u WHERE u.userId IN :userIds")
+    List<VerifiedDocumentMaskRow> findVerifiedDocumentMasks(@Param("userIds") Collection<String> userIds);
+
+    // Recompute verified-document masks from the users' VERIFIED verifications; the CASE mirrors
+    // Verification.DocumentType.bit(). Clears the persistence context afterwards so no stale managed
+    // User keeps the old mask
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE `user` u SET u.verified_document_mask = (" +
+            "SELECT COALESCE(BIT_OR(CASE v.document_type WHEN 'ID' THEN 1 WHEN 'CERTIFICATE' THEN 2 " +
+            "WHEN 'LICENSE' THEN 4 ELSE 0 END), 0) FROM verification v " +
+            "WHERE v.user_id = u.user_id AND v.status = 'VERIFIED') " +
+            "WHERE u.user_id IN (:userIds)", nativeQuery = true)
+    int refreshVerifiedDocumentMasks(@Param("userIds") Collection<String> userIds);
+
+    interface VerifiedDocumentMaskRow {
+        String getUserId();
+        Integer getMask();
+    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.*;
 import za.ac.cput.domain.*;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 @Repository
@@ -32,4 +33,70 @@ public interface VerificationRepository extends JpaRepository<Verification, Stri
 
     // Find verifications by verification code
     Optional<Verification> findByVerificationCode(String verificationCode);
+
+    // Check if any verification points at a stored document
+    boolean existsByDocumentUrl(String documentUrl);
+
+    // Check if a user submitted a verification with the stored document
+    boolean existsByUserUserIdAndDocumentUrl(String userId, String documentUrl);
+
+    // Lock the given verifications and read only what bulk moderation needs (SELECT ... FOR UPDATE);
+    // leaseHolder is the admin holding a live review-queue lease at :now, or null
+    @Query(value = "SELECT verification_id AS id, status AS status, user_id AS userId, document_type AS documentType, " +
+            "CASE WHEN lease_expires_at >= :now THEN lease_owner END AS leaseHolder " +
+            "FROM verification WHERE verification_id IN (:ids) FOR UPDATE", nativeQuery = true)
+    List<ModerationRow> lockForModeration(@Param("ids") Collection<String> ids, @Param("now") LocalDateTime now);
+
+    // Move the given verifications to a new status in one statement, touching only rows still in an allowed status
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Verification v SET v.status = :to, v.dateVerified = :now, v.reviewedBy = :reviewedBy " +
+            "WHERE v.verificationId IN :ids AND v.status IN :from")
+    int updateStatus(@Param("ids") Collection<String> ids,
+                     @Param("from") Collection<Verification.VerificationStatus> from,
+                     @Param("to") Verification.VerificationStatus to,
+                     @Param("now") LocalDateTime now,
+                     @Param("reviewedBy") String reviewedBy);
+
+    // Lock the highest-priority pending verifications nobody holds a live lease on; rows another
+    // transaction is claiming are skipped rather than waited for (FOR UPDATE SKIP LOCKED)
+    @Query(value = "SELECT verification_id FROM verification WHERE status = 'PENDING' " +
+            "AND (lease_expires_at IS NULL OR lease_expires_at < :now) " +
+            "ORDER BY review_priority_at, verification_id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<String> lockClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // Lease the given verifications to an admin
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Verification v SET v.leaseOwner = :adminId, v.leaseExpiresAt = :expiresAt " +
+            "WHERE v.verificationId IN :ids")
+    int lease(@Param("ids") Collection<String> ids,
+              @Param("adminId") String adminId,
+              @Param("expiresAt") LocalDateTime expiresAt);
+
+    // Extend an admin's live leases on the given verifications; expired or stolen leases are not revived
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Verification v SET v.leaseExpiresAt = :expiresAt WHERE v.verificationId IN :ids " +
+            "AND v.leaseOwner = :adminId AND v.leaseExpiresAt >= :now AND v.status = 'PENDING'")
+    int renewLeases(@Param("ids") Collection<String> ids,
+                    @Param("adminId") String adminId,
+                    @Param("now") LocalDateTime now,
+                    @Param("expiresAt") LocalDateTime expiresAt);
+
+    // Give a verification back to the queue, if the admin still holds it
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Verification v SET v.leaseOwner = NULL, v.leaseExpiresAt = NULL " +
+            "WHERE v.verificationId = :id AND v.leaseOwner = :adminId")
+    int releaseLease(@Param("id") String id, @Param("adminId") String adminId);
+
+    // Find the pending verifications an admin currently holds, in queue order
+    @Query("SELECT v FROM Verification v JOIN FETCH v.user WHERE v.leaseOwner = :adminId AND v.leaseExpiresAt >= :now " +
+            "AND v.status = 'PENDING' ORDER BY v.reviewPriorityAt, v.verificationId")
+    List<Verification> findLeasedTo(@Param("adminId") String adminId, @Param("now") LocalDateTime now);
+
+    interface ModerationRow {
+        String getId();
+        String getStatus();
+        String getUserId();
+        String getDocumentType();
+        String getLeaseHolder();
+    }
 }
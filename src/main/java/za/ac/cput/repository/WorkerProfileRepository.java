@@ -47,4 +47,36 @@ public interface WorkerProfileRepository extends JpaRepository<WorkerProfile, St
     // Search profiles by skills
     @Query("SELECT DISTINCT wp FROM WorkerProfile wp JOIN wp.skills s WHERE s.name IN :skillNames")
     List<WorkerProfile> findBySkillNames(@Param("skillNames") List<String> skillNames);
-}
\ No newline at end of file
+
+    // Find available, verified profiles with their skills loaded (job alert matching)
+    @Query("SELECT DISTINCT wp FROM WorkerProfile wp LEFT JOIN FETCH wp.skills " +
+            "WHERE wp.availabilityStatus = 'AVAILABLE' AND wp.verificationStatus = 'VERIFIED'")
+    List<WorkerProfile> findAvailableVerifiedWithSkills();
+
+    // Find profile by ID with its skills loaded
+    @Query("SELECT wp FROM WorkerProfile wp LEFT JOIN FETCH wp.skills WHERE wp.profileId = :profileId")
+    Optional<WorkerProfile> findByIdWithSkills(@Param("profileId") String profileId);
+
+    // Find all profiles with their skills loaded (skill bitmap index)
+    @Query("SELECT DISTINCT wp FROM WorkerProfile wp LEFT JOIN FETCH wp.skills")
+    List<WorkerProfile> findAllWithSkills();
+
+    // Lock the given profiles and read only what bulk moderation needs (SELECT ... FOR UPDATE)
+    @Query(value = "SELECT profile_id AS id, verification_status AS status, user_id AS userId FROM worker_profile " +
+            "WHERE profile_id IN (:ids) FOR UPDATE", nativeQuery = true)
+    List<ModerationRow> lockForModeration(@Param("ids") Collection<String> ids);
+
+    // Move the given profiles to a new status in one statement, touching only rows still in an allowed status
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE WorkerProfile wp SET wp.verificationStatus = :to " +
+            "WHERE wp.profileId IN :ids AND wp.verificationStatus IN :from")
+    int updateVerificationStatus(@Param("ids") Collection<String> ids,
+                                 @Param("from") Collection<WorkerProfile.VerificationStatus> from,
+                                 @Param("to") WorkerProfile.VerificationStatus to);
+
+    interface ModerationRow {
+        String getId();
+        String getStatus();
+        String getUserId();
+    }
+}
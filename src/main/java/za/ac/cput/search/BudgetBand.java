@@ -0,0 +1,34 @@
+package za.ac.cput.search;
+
+// Budget facet buckets; lower bound inclusive, upper bound exclusive
+public enum BudgetBand {
+    UNDER_500("Under R500", 0, 500),
+    FROM_500_TO_1000("R500 - R1 000", 500, 1_000),
+    FROM_1000_TO_2500("R1 000 - R2 500", 1_000, 2_500),
+    FROM_2500_TO_5000("R2 500 - R5 000", 2_500, 5_000),
+    FROM_5000_TO_10000("R5 000 - R10 000", 5_000, 10_000),
+    OVER_10000("R10 000+", 10_000, Double.POSITIVE_INFINITY);
+
+    private final String label;
+    private final double min;
+    private final double max;
+
+    BudgetBand(String label, double min, double max) {
+        this.label = label;
+        this.min = min;
+        this.max = max;
+    }
+
+    public String getLabel() { return label; }
+    public double getMin() { return min; }
+    public double getMax() { return max; }
+
+    public static BudgetBand of(double budget) {
+        for (BudgetBand band : values()) {
+            if (budget < band.max) {
+                return band;
+            }
+        }
+        return OVER_10000;
+    }
+}
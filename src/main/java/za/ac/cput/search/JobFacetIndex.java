@@ -0,0 +1,289 @@
+package za.ac.cput.search;
+
+import za.ac.cput.domain.Job;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Column-oriented snapshot of jobs for faceted browsing. Each job occupies one slot across parallel
+ * primitive arrays; category and location are dictionary-encoded to int codes and budget is kept as
+ * a raw double plus its precomputed band. A search is a single scan over the slots that filters,
+ * collects matches and fills every facet's counts at the same time.
+ *
+ * Facet counts are disjunctive: a facet's counts ignore that facet's own filter but honour all the
+ * others, so the page can show how many results ticking another category would add. Slots of
+ * removed jobs are reused; dictionary codes are never reclaimed since both value sets are small.
+ */
+public class JobFacetIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final Job.JobStatus[] STATUSES = Job.JobStatus.values();
+    private static final BudgetBand[] BANDS = BudgetBand.values();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final Dictionary categories = new Dictionary();
+    private final Dictionary locations = new Dictionary();
+
+    private int slotCount;
+    private String[] jobIds = new String[INITIAL_CAPACITY];
+    private double[] budgets = new double[INITIAL_CAPACITY];
+    private long[] postedAt = new long[INITIAL_CAPACITY];
+    private int[] categoryCodes = new int[INITIAL_CAPACITY];
+    private int[] locationCodes = new int[INITIAL_CAPACITY];
+    private byte[] bandCodes = new byte[INITIAL_CAPACITY];
+    private byte[] statusCodes = new byte[INITIAL_CAPACITY];
+
+    public static class Result {
+        private final long total;
+        private final List<String> jobIds;
+        private final Map<String, Integer> categoryCounts;
+        private final Map<String, Integer> locationCounts;
+        private final Map<BudgetBand, Integer> budgetBandCounts;
+        private final Map<Job.JobStatus, Integer> statusCounts;
+
+        public Result(long total, List<String> jobIds, Map<String, Integer> categoryCounts,
+                      Map<String, Integer> locationCounts, Map<BudgetBand, Integer> budgetBandCounts,
+                      Map<Job.JobStatus, Integer> statusCounts) {
+            this.total = total;
+            this.jobIds = jobIds;
+            this.categoryCounts = categoryCounts;
+            this.locationCounts = locationCounts;
+            this.budgetBandCounts = budgetBandCounts;
+            this.statusCounts = statusCounts;
+        }
+
+        public long getTotal() { return total; }
+        public List<String> getJobIds() { return jobIds; }
+        public Map<String, Integer> getCategoryCounts() { return categoryCounts; }
+        public Map<String, Integer> getLocationCounts() { return locationCounts; }
+        public Map<BudgetBand, Integer> getBudgetBandCounts() { return budgetBandCounts; }
+        public Map<Job.JobStatus, Integer> getStatusCounts() { return statusCounts; }
+    }
+
+    // postedAt: epoch millis, used for NEWEST ordering
+    public void put(String jobId, String category, String location, double budget, long postedAt,
+                    Job.JobStatus status) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.get(jobId);
+            if (slot == null) {
+                slot = allocate();
+                slots.put(jobId, slot);
+            }
+            jobIds[slot] = jobId;
+            budgets[slot] = budget;
+            this.postedAt[slot] = postedAt;
+            categoryCodes[slot] = categories.encode(category);
+            locationCodes[slot] = locations.encode(location);
+            bandCodes[slot] = (byte) BudgetBand.of(budget).ordinal();
+            statusCodes[slot] = (byte) status.ordinal();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String jobId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.remove(jobId);
+            if (slot != null) {
+                jobIds[slot] = null;
+                freeSlots.push(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Result search(JobFacetQuery query, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            boolean[] categoryFilter = categories.filter(query.getCategories());
+            boolean[] locationFilter = locations.filter(query.getLocations());
+            boolean[] bandFilter = enumFilter(query.getBudgetBands(), BANDS.length);
+            boolean[] statusFilter = enumFilter(query.getStatuses(), STATUSES.length);
+
+            int[] categoryCounts = new int[categories.size()];
+            int[] locationCounts = new int[locations.size()];
+            int[] bandCounts = new int[BANDS.length];
+            int[] statusCounts = new int[STATUSES.length];
+            int[] matches = new int[slots.size()];
+            int matchCount = 0;
+
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (jobIds[slot] == null) {
+                    continue;
+                }
+                int category = categoryCodes[slot];
+                int location = locationCodes[slot];
+                int band = bandCodes[slot];
+                int status = statusCodes[slot];
+
+                boolean categoryOk = categoryFilter == null || categoryFilter[category];
+                boolean locationOk = locationFilter == null || locationFilter[location];
+                boolean bandOk = bandFilter == null || bandFilter[band];
+                boolean statusOk = statusFilter == null || statusFilter[status];
+                int misses = (categoryOk ? 0 : 1) + (locationOk ? 0 : 1) + (bandOk ? 0 : 1) + (statusOk ? 0 : 1);
+
+                if (misses == 0) {
+                    matches[matchCount++] = slot;
+                    categoryCounts[category]++;
+                    locationCounts[location]++;
+                    bandCounts[band]++;
+                    statusCounts[status]++;
+                } else if (misses == 1) {
+                    // only the failing facet's own filter excludes this job, so it counts there
+                    if (!categoryOk) categoryCounts[category]++;
+                    else if (!locationOk) locationCounts[location]++;
+                    else if (!bandOk) bandCounts[band]++;
+                    else statusCounts[status]++;
+                }
+            }
+
+            return new Result(matchCount, page(matches, matchCount, query.getSortOrder(), offset, limit),
+                    categories.counts(categoryCounts), locations.counts(locationCounts),
+                    enumCounts(bandCounts, BANDS, BudgetBand.class),
+                    enumCounts(statusCounts, STATUSES, Job.JobStatus.class));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Caller holds the read lock
+    private List<String> page(int[] matches, int matchCount, JobFacetQuery.SortOrder order, int offset, int limit) {
+        if (offset >= matchCount || limit <= 0) {
+            return Collections.emptyList();
+        }
+        Comparator<Integer> comparator = switch (order) {
+            case BUDGET_DESC -> Comparator.comparingDouble((Integer slot) -> budgets[slot]).reversed();
+            case BUDGET_ASC -> Comparator.comparingDouble((Integer slot) -> budgets[slot]);
+            case NEWEST -> Comparator.comparingLong((Integer slot) -> postedAt[slot]).reversed();
+        };
+        Integer[] sorted = new Integer[matchCount];
+        for (int i = 0; i < matchCount; i++) {
+            sorted[i] = matches[i];
+        }
+        Arrays.sort(sorted, comparator.thenComparing(slot -> jobIds[slot]));
+
+        int end = (int) Math.min(matchCount, (long) offset + limit);
+        List<String> page = new ArrayList<>(end - offset);
+        for (int i = offset; i < end; i++) {
+            page.add(jobIds[sorted[i]]);
+        }
+        return page;
+    }
+
+    // Caller holds the write lock
+    private int allocate() {
+        if (!freeSlots.isEmpty()) {
+            return freeSlots.pop();
+        }
+        if (slotCount == jobIds.length) {
+            int capacity = jobIds.length * 2;
+            jobIds = Arrays.copyOf(jobIds, capacity);
+            budgets = Arrays.copyOf(budgets, capacity);
+            postedAt = Arrays.copyOf(postedAt, capacity);
+            categoryCodes = Arrays.copyOf(categoryCodes, capacity);
+            locationCodes = Arrays.copyOf(locationCodes, capacity);
+            bandCodes = Arrays.copyOf(bandCodes, capacity);
+            statusCodes = Arrays.copyOf(statusCodes, capacity);
+        }
+        return slotCount++;
+    }
+
+    // null means the facet is not filtered
+    private static boolean[] enumFilter(Set<? extends Enum<?>> selected, int size) {
+        if (selected.isEmpty()) {
+            return null;
+        }
+        boolean[] filter = new boolean[size];
+        selected.forEach(value -> filter[value.ordinal()] = true);
+        return filter;
+    }
+
+    private static <E extends Enum<E>> Map<E, Integer> enumCounts(int[] counts, E[] values, Class<E> type) {
+        Map<E, Integer> result = new EnumMap<>(type);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                result.put(values[i], counts[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * String <-> int code mapping for one column. Lookups are case-insensitive; the first spelling
+     * seen is the one reported back in facet counts.
+     */
+    private static class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int encode(String value) {
+            String display = value == null || value.isBlank() ? "" : value.trim();
+            return codes.computeIfAbsent(key(display), k -> {
+                values.add(display);
+                return values.size() - 1;
+            });
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        // null means the facet is not filtered; values never indexed simply match nothing
+        boolean[] filter(Set<String> selected) {
+            if (selected.isEmpty()) {
+                return null;
+            }
+            boolean[] filter = new boolean[values.size()];
+            for (String value : selected) {
+                Integer code = codes.get(key(value));
+                if (code != null) {
+                    filter[code] = true;
+                }
+            }
+            return filter;
+        }
+
+        Map<String, Integer> counts(int[] counts) {
+            Map<String, Integer> result = new LinkedHashMap<>();
+            for (int code = 0; code < counts.length; code++) {
+                if (counts[code] > 0) {
+                    result.put(values.get(code), counts[code]);
+                }
+            }
+            return result;
+        }
+
+        private static String key(String value) {
+            return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+}
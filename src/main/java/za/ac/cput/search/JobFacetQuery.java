@@ -0,0 +1,46 @@
+package za.ac.cput.search;
+
+import za.ac.cput.domain.Job;
+
+import java.util.Set;
+
+/**
+ * Filters for faceted job search. An empty set means "any". Values within one facet are OR-ed and
+ * the facets are AND-ed together. Statuses default to OPEN.
+ */
+public class JobFacetQuery {
+
+    public enum SortOrder { NEWEST, BUDGET_DESC, BUDGET_ASC }
+
+    private final Set<String> categories;
+    private final Set<String> locations;
+    private final Set<BudgetBand> budgetBands;
+    private final Set<Job.JobStatus> statuses;
+    private final SortOrder sortOrder;
+
+    public JobFacetQuery(Set<String> categories, Set<String> locations, Set<BudgetBand> budgetBands,
+                         Set<Job.JobStatus> statuses, SortOrder sortOrder) {
+        this.categories = categories != null ? Set.copyOf(categories) : Set.of();
+        this.locations = locations != null ? Set.copyOf(locations) : Set.of();
+        this.budgetBands = budgetBands != null ? Set.copyOf(budgetBands) : Set.of();
+        this.statuses = statuses != null && !statuses.isEmpty() ? Set.copyOf(statuses) : Set.of(Job.JobStatus.OPEN);
+        this.sortOrder = sortOrder != null ? sortOrder : SortOrder.NEWEST;
+    }
+
+    public Set<String> getCategories() { return categories; }
+    public Set<String> getLocations() { return locations; }
+    public Set<BudgetBand> getBudgetBands() { return budgetBands; }
+    public Set<Job.JobStatus> getStatuses() { return statuses; }
+    public SortOrder getSortOrder() { return sortOrder; }
+
+    @Override
+    public String toString() {
+        return "JobFacetQuery{" +
+                "categories=" + categories +
+                ", locations=" + locations +
+                ", budgetBands=" + budgetBands +
+                ", statuses=" + statuses +
+                ", sortOrder=" + sortOrder +
+                '}';
+    }
+}
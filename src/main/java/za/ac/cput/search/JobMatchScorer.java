@@ -0,0 +1,48 @@
+package za.ac.cput.search;
+
+import za.ac.cput.domain.Job;
+
+import java.util.Set;
+
+/**
+ * Scores how well an open job suits a worker, from 0 to 1. Skill overlap dominates; location,
+ * whether the budget covers the worker's rate, and the worker's rating refine the order.
+ */
+public final class JobMatchScorer {
+
+    static final double SKILL_WEIGHT = 0.55;
+    static final double LOCATION_WEIGHT = 0.20;
+    static final double RATE_WEIGHT = 0.15;
+    static final double RATING_WEIGHT = 0.10;
+
+    // A budget covering this many hours at the worker's rate counts as a full rate match
+    static final double REFERENCE_HOURS = 8.0;
+
+    private JobMatchScorer() {}
+
+    public static Set<String> termsOf(Job job) {
+        return TextTerms.of(job.getTitle(), job.getDescription(), job.getCategory());
+    }
+
+    // matchedTerms: how many of the worker's skill terms occur in the job
+    public static double score(WorkerMatchProfile worker, Job job, int matchedTerms, int jobTermCount) {
+        if (matchedTerms == 0) {
+            return 0.0;
+        }
+        // overlap coefficient, so neither long job descriptions nor long skill lists are penalised
+        int smaller = Math.min(worker.getSkillTerms().size(), jobTermCount);
+        double skill = smaller == 0 ? 0.0 : Math.min(1.0, (double) matchedTerms / smaller);
+
+        double location = worker.getLocation() != null && job.getLocation() != null
+                && worker.getLocation().equalsIgnoreCase(job.getLocation()) ? 1.0 : 0.0;
+
+        double rate = 0.5;
+        if (worker.getHourlyRate() != null && worker.getHourlyRate() > 0 && job.getBudget() != null) {
+            rate = Math.min(1.0, job.getBudget() / (worker.getHourlyRate() * REFERENCE_HOURS));
+        }
+
+        double rating = worker.getRating() != null ? Math.min(1.0, worker.getRating() / 5.0) : 0.5;
+
+        return SKILL_WEIGHT * skill + LOCATION_WEIGHT * location + RATE_WEIGHT * rate + RATING_WEIGHT * rating;
+    }
+}
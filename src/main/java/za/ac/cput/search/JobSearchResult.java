@@ -0,0 +1,52 @@
+package za.ac.cput.search;
+
+import za.ac.cput.domain.Job;
+
+import java.util.List;
+import java.util.Map;
+
+// One page of faceted job search results together with the facet counts for the whole result set
+public class JobSearchResult {
+
+    private final List<Job> jobs;
+    private final long total;
+    private final int page;
+    private final int size;
+    private final Map<String, Integer> categoryCounts;
+    private final Map<String, Integer> locationCounts;
+    private final Map<BudgetBand, Integer> budgetBandCounts;
+    private final Map<Job.JobStatus, Integer> statusCounts;
+
+    public JobSearchResult(List<Job> jobs, int page, int size, JobFacetIndex.Result result) {
+        this.jobs = jobs;
+        this.total = result.getTotal();
+        this.page = page;
+        this.size = size;
+        this.categoryCounts = result.getCategoryCounts();
+        this.locationCounts = result.getLocationCounts();
+        this.budgetBandCounts = result.getBudgetBandCounts();
+        this.statusCounts = result.getStatusCounts();
+    }
+
+    public List<Job> getJobs() { return jobs; }
+    public long getTotal() { return total; }
+    public int getPage() { return page; }
+    public int getSize() { return size; }
+    public Map<String, Integer> getCategoryCounts() { return categoryCounts; }
+    public Map<String, Integer> getLocationCounts() { return locationCounts; }
+    public Map<BudgetBand, Integer> getBudgetBandCounts() { return budgetBandCounts; }
+    public Map<Job.JobStatus, Integer> getStatusCounts() { return statusCounts; }
+
+    @Override
+    public String toString() {
+        return "JobSearchResult{" +
+                "total=" + total +
+                ", page=" + page +
+                ", size=" + size +
+                ", categoryCounts=" + categoryCounts +
+                ", locationCounts=" + locationCounts +
+                ", budgetBandCounts=" + budgetBandCounts +
+                ", statusCounts=" + statusCounts +
+                '}';
+    }
+}
@@ -0,0 +1,26 @@
+package za.ac.cput.search;
+
+import za.ac.cput.domain.Job;
+
+public class ScoredJob {
+
+    private final Job job;
+    private final double score;
+
+    public ScoredJob(Job job, double score) {
+        this.job = job;
+        this.score = score;
+    }
+
+    public Job getJob() { return job; }
+    public double getScore() { return score; }
+
+    @Override
+    public String toString() {
+        return "ScoredJob{" +
+                "jobId='" + job.getJobId() + '\'' +
+                ", title='" + job.getTitle() + '\'' +
+                ", score=" + score +
+                '}';
+    }
+}
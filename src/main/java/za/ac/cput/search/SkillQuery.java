@@ -0,0 +1,42 @@
+package za.ac.cput.search;
+
+import java.util.List;
+
+/**
+ * Boolean skill filter: a worker matches when they have every skill in allOf, at least one in anyOf
+ * (when anyOf is not empty) and none in noneOf. Skill names are matched case-insensitively.
+ */
+public class SkillQuery {
+
+    private final List<String> allOf;
+    private final List<String> anyOf;
+    private final List<String> noneOf;
+    private final boolean availableOnly;
+    private final boolean verifiedOnly;
+
+    public SkillQuery(List<String> allOf, List<String> anyOf, List<String> noneOf,
+                      boolean availableOnly, boolean verifiedOnly) {
+        this.allOf = allOf != null ? List.copyOf(allOf) : List.of();
+        this.anyOf = anyOf != null ? List.copyOf(anyOf) : List.of();
+        this.noneOf = noneOf != null ? List.copyOf(noneOf) : List.of();
+        this.availableOnly = availableOnly;
+        this.verifiedOnly = verifiedOnly;
+    }
+
+    public List<String> getAllOf() { return allOf; }
+    public List<String> getAnyOf() { return anyOf; }
+    public List<String> getNoneOf() { return noneOf; }
+    public boolean isAvailableOnly() { return availableOnly; }
+    public boolean isVerifiedOnly() { return verifiedOnly; }
+
+    @Override
+    public String toString() {
+        return "SkillQuery{" +
+                "allOf=" + allOf +
+                ", anyOf=" + anyOf +
+                ", noneOf=" + noneOf +
+                ", availableOnly=" + availableOnly +
+                ", verifiedOnly=" + verifiedOnly +
+                '}';
+    }
+}
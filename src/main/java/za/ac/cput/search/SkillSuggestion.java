@@ -0,0 +1,37 @@
+package za.ac.cput.search;
+
+import za.ac.cput.domain.Skill;
+
+public class SkillSuggestion {
+
+    private final String skillId;
+    private final String name;
+    private final String category;
+    private final boolean verified;
+
+    public SkillSuggestion(String skillId, String name, String category, boolean verified) {
+        this.skillId = skillId;
+        this.name = name;
+        this.category = category;
+        this.verified = verified;
+    }
+
+    public static SkillSuggestion of(Skill skill) {
+        return new SkillSuggestion(skill.getSkillId(), skill.getName(), skill.getCategory(),
+                skill.getVerificationStatus() == Skill.VerificationStatus.VERIFIED);
+    }
+
+    public String getSkillId() { return skillId; }
+    public String getName() { return name; }
+    public String getCategory() { return category; }
+    public boolean isVerified() { return verified; }
+
+    @Override
+    public String toString() {
+        return "SkillSuggestion{" +
+                "name='" + name + '\'' +
+                ", category='" + category + '\'' +
+                ", verified=" + verified +
+                '}';
+    }
+}
@@ -0,0 +1,198 @@
+package za.ac.cput.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Immutable radix trie over skill names, the words inside them and skill categories, for typeahead.
+ * Every node stores the best topK suggestions of its whole subtree, computed once at build time, so
+ * a lookup is a walk down the prefix and an array copy: no scoring and no database at query time.
+ * Ranking: verified skills first, then full-name matches before matches on a later word before
+ * category matches, then shorter names, then alphabetical.
+ */
+public final class SkillTrie {
+
+    private enum MatchKind { NAME, WORD, CATEGORY }
+
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparing((Entry e) -> !e.suggestion.isVerified())
+            .thenComparing(e -> e.kind)
+            .thenComparingInt(e -> e.suggestion.getName().length())
+            .thenComparing(e -> e.suggestion.getName(), String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(e -> e.suggestion.getSkillId());
+
+    public static final SkillTrie EMPTY = build(List.of(), 1);
+
+    private final Node root;
+    private final int topK;
+    private final int skillCount;
+
+    private SkillTrie(Node root, int topK, int skillCount) {
+        this.root = root;
+        this.topK = topK;
+        this.skillCount = skillCount;
+    }
+
+    public static SkillTrie build(Collection<SkillSuggestion> skills, int topK) {
+        List<Entry> entries = new ArrayList<>();
+        for (SkillSuggestion skill : skills) {
+            String name = normalise(skill.getName());
+            if (name.isEmpty()) {
+                continue;
+            }
+            entries.add(new Entry(name, skill, MatchKind.NAME));
+            // "web development" is also found by "dev"
+            int space = name.indexOf(' ');
+            while (space >= 0) {
+                entries.add(new Entry(name.substring(space + 1), skill, MatchKind.WORD));
+                space = name.indexOf(' ', space + 1);
+            }
+            String category = normalise(skill.getCategory());
+            if (!category.isEmpty()) {
+                entries.add(new Entry(category, skill, MatchKind.CATEGORY));
+            }
+        }
+        entries.sort(Comparator.comparing((Entry e) -> e.key).thenComparing(RANKING));
+        return new SkillTrie(buildNode(entries, 0, entries.size(), 0, "", topK), topK, skills.size());
+    }
+
+    // Best matches for the prefix, at most min(limit, topK)
+    public List<SkillSuggestion> complete(String prefix, int limit) {
+        String key = normalise(prefix);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                return List.of();
+            }
+            String label = child.label;
+            int remaining = key.length() - i;
+            if (remaining <= label.length()) {
+                // prefix ends inside this edge
+                if (!label.regionMatches(0, key, i, remaining)) {
+                    return List.of();
+                }
+                node = child;
+                break;
+            }
+            if (!key.startsWith(label, i)) {
+                return List.of();
+            }
+            i += label.length();
+            node = child;
+        }
+        return node.top(limit);
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    public int size() {
+        return skillCount;
+    }
+
+    static String normalise(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    // entries[from, to) all share key[0, depth) and are sorted by key
+    private static Node buildNode(List<Entry> entries, int from, int to, int depth, String label, int topK) {
+        List<Entry> candidates = new ArrayList<>();
+        List<Node> children = new ArrayList<>();
+
+        int i = from;
+        while (i < to && entries.get(i).key.length() == depth) {
+            candidates.add(entries.get(i));
+            i++;
+        }
+        while (i < to) {
+            char c = entries.get(i).key.charAt(depth);
+            int groupEnd = i;
+            while (groupEnd < to && entries.get(groupEnd).key.charAt(depth) == c) {
+                groupEnd++;
+            }
+            // keys are sorted, so the group's common prefix is that of its first and last key
+            int end = commonPrefixEnd(entries.get(i).key, entries.get(groupEnd - 1).key, depth);
+            Node child = buildNode(entries, i, groupEnd, end, entries.get(i).key.substring(depth, end), topK);
+            children.add(child);
+            candidates.addAll(Arrays.asList(child.top));
+            i = groupEnd;
+        }
+
+        candidates.sort(RANKING);
+        List<Entry> top = new ArrayList<>(topK);
+        Set<String> seen = new HashSet<>();
+        for (Entry candidate : candidates) {
+            if (top.size() == topK) {
+                break;
+            }
+            if (seen.add(candidate.suggestion.getSkillId())) {
+                top.add(candidate);
+            }
+        }
+        return new Node(label, children.toArray(new Node[0]), top.toArray(new Entry[0]));
+    }
+
+    private static int commonPrefixEnd(String a, String b, int from) {
+        int end = from;
+        int max = Math.min(a.length(), b.length());
+        while (end < max && a.charAt(end) == b.charAt(end)) {
+            end++;
+        }
+        return end;
+    }
+
+    private static final class Entry {
+        final String key;
+        final SkillSuggestion suggestion;
+        final MatchKind kind;
+
+        Entry(String key, SkillSuggestion suggestion, MatchKind kind) {
+            this.key = key;
+            this.suggestion = suggestion;
+            this.kind = kind;
+        }
+    }
+
+    private static final class Node {
+        final String label;
+        final Node[] children;
+        final char[] firstChars;
+        final Entry[] top;
+
+        Node(String label, Node[] children, Entry[] top) {
+            this.label = label;
+            this.children = children;
+            this.top = top;
+            this.firstChars = new char[children.length];
+            for (int i = 0; i < children.length; i++) {
+                firstChars[i] = children[i].label.charAt(0);
+            }
+        }
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(firstChars, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        List<SkillSuggestion> top(int limit) {
+            int n = Math.min(limit, top.length);
+            List<SkillSuggestion> result = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                result.add(top[i].suggestion);
+            }
+            return result;
+        }
+    }
+}
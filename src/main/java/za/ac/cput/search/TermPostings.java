@@ -0,0 +1,82 @@
+package za.ac.cput.search;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Inverted index from term to the IDs of the documents that contain it. Also keeps each ID's terms
+ * so a document can be re-indexed or removed without the caller remembering what it was indexed
+ * under. Safe for concurrent readers and writers.
+ */
+public class TermPostings {
+
+    private final Map<String, Set<String>> postings = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> termsById = new ConcurrentHashMap<>();
+
+    // Index id under terms, replacing whatever it was indexed under before
+    public void put(String id, Set<String> terms) {
+        Set<String> previous = termsById.put(id, Set.copyOf(terms));
+        if (previous != null) {
+            for (String term : previous) {
+                if (!terms.contains(term)) {
+                    unlink(term, id);
+                }
+            }
+        }
+        for (String term : terms) {
+            // add inside compute so a concurrent unlink cannot drop the set we are adding to
+            postings.compute(term, (t, ids) -> {
+                Set<String> linked = ids != null ? ids : ConcurrentHashMap.newKeySet();
+                linked.add(id);
+                return linked;
+            });
+        }
+    }
+
+    public void remove(String id) {
+        Set<String> previous = termsById.remove(id);
+        if (previous != null) {
+            for (String term : previous) {
+                unlink(term, id);
+            }
+        }
+    }
+
+    public boolean contains(String id) {
+        return termsById.containsKey(id);
+    }
+
+    public Set<String> termsOf(String id) {
+        return termsById.getOrDefault(id, Collections.emptySet());
+    }
+
+    public Set<String> idsFor(String term) {
+        return postings.getOrDefault(term, Collections.emptySet());
+    }
+
+    // For each ID that shares at least one term with the query, how many query terms it contains
+    public Map<String, Integer> matchCounts(Collection<String> terms) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String term : terms) {
+            for (String id : idsFor(term)) {
+                counts.merge(id, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    public int size() {
+        return termsById.size();
+    }
+
+    private void unlink(String term, String id) {
+        postings.computeIfPresent(term, (t, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+}
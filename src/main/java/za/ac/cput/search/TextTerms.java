@@ -0,0 +1,48 @@
+package za.ac.cput.search;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Turns free text (job titles, descriptions, skill names, categories) into the normalised terms
+ * used as keys by the in-memory indexes: lower case, split on anything that is not a letter or
+ * digit, very short words and common filler words dropped.
+ */
+public final class TextTerms {
+
+    private static final int MIN_LENGTH = 3;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "and", "the", "for", "with", "from", "that", "this", "are", "was", "you", "your",
+            "our", "who", "will", "need", "needs", "needed", "looking", "can", "all", "any", "have");
+
+    private TextTerms() {}
+
+    public static Set<String> of(String... texts) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String text : texts) {
+            addTerms(text, terms);
+        }
+        return terms;
+    }
+
+    public static Set<String> of(Collection<String> texts) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String text : texts) {
+            addTerms(text, terms);
+        }
+        return terms;
+    }
+
+    private static void addTerms(String text, Set<String> terms) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() >= MIN_LENGTH && !STOP_WORDS.contains(token)) {
+                terms.add(token);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package za.ac.cput.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * The best N scored jobs for one worker, kept in a min-heap of job IDs and scores so offering a new
+ * job is O(log N) and the feed never pins job entities. Every job cut from a full feed scored at or
+ * below the lowest job still in it. So when a job is removed, or re-scored below that floor, after
+ * something has been cut, the feed can no longer know what should take its place; it flags itself
+ * stale and the owner rebuilds it on the next read. Re-scoring a job at or above the floor keeps the
+ * feed exact.
+ */
+public class TopNFeed {
+
+    public record Entry(String jobId, double score) {}
+
+    private static final Comparator<Entry> LOWEST_FIRST = Comparator
+            .comparingDouble(Entry::score)
+            .thenComparing(Entry::jobId, Comparator.reverseOrder());
+
+    private final WorkerMatchProfile worker;
+    private final int capacity;
+    private final long createdAt;
+    private final PriorityQueue<Entry> heap;
+    private boolean cut;
+    private boolean stale;
+
+    public TopNFeed(WorkerMatchProfile worker, int capacity, long createdAt) {
+        this.worker = worker;
+        this.capacity = capacity;
+        this.createdAt = createdAt;
+        this.heap = new PriorityQueue<>(capacity + 1, LOWEST_FIRST);
+    }
+
+    public WorkerMatchProfile getWorker() { return worker; }
+    public long getCreatedAt() { return createdAt; }
+
+    public synchronized void offer(String jobId, double score) {
+        Entry entry = new Entry(jobId, score);
+        Entry previous = find(jobId);
+        if (previous != null) {
+            Entry floor = heap.peek();
+            heap.remove(previous);
+            heap.add(entry);
+            // re-scored below a job that may have been cut earlier
+            if (cut && LOWEST_FIRST.compare(entry, floor) < 0) {
+                stale = true;
+            }
+            return;
+        }
+        if (heap.size() < capacity) {
+            heap.add(entry);
+            return;
+        }
+        cut = true;
+        if (LOWEST_FIRST.compare(entry, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(entry);
+        }
+    }
+
+    public synchronized void remove(String jobId) {
+        Entry previous = find(jobId);
+        if (previous != null) {
+            heap.remove(previous);
+            if (cut) {
+                stale = true;
+            }
+        }
+    }
+
+    public synchronized boolean isStale() {
+        return stale;
+    }
+
+    // Highest score first
+    public synchronized List<Entry> top(int limit) {
+        List<Entry> sorted = new ArrayList<>(heap);
+        sorted.sort(LOWEST_FIRST.reversed());
+        return sorted.subList(0, Math.min(limit, sorted.size()));
+    }
+
+    private Entry find(String jobId) {
+        for (Entry entry : heap) {
+            if (entry.jobId().equals(jobId)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,48 @@
+package za.ac.cput.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Skill -> worker posting list over the workers who can currently take work. Matching a job reads
+ * only the postings for the job's terms, so its cost grows with the number of matching workers, not
+ * with the number of profiles.
+ */
+public class WorkerMatchIndex {
+
+    private final TermPostings skillPostings = new TermPostings();
+    private final Map<String, WorkerMatchProfile> workers = new ConcurrentHashMap<>();
+
+    public void put(WorkerMatchProfile worker) {
+        workers.put(worker.getProfileId(), worker);
+        skillPostings.put(worker.getProfileId(), worker.getSkillNameTerms());
+    }
+
+    public void remove(String profileId) {
+        skillPostings.remove(profileId);
+        workers.remove(profileId);
+    }
+
+    public boolean contains(String profileId) {
+        return workers.containsKey(profileId);
+    }
+
+    public int size() {
+        return workers.size();
+    }
+
+    // Workers with at least one skill-name term in jobTerms, in the job's location when it has one
+    public List<WorkerMatchProfile> match(Collection<String> jobTerms, String location) {
+        List<WorkerMatchProfile> matches = new ArrayList<>();
+        for (String profileId : skillPostings.matchCounts(jobTerms).keySet()) {
+            WorkerMatchProfile worker = workers.get(profileId);
+            if (worker != null && (location == null || location.equalsIgnoreCase(worker.getLocation()))) {
+                matches.add(worker);
+            }
+        }
+        return matches;
+    }
+}
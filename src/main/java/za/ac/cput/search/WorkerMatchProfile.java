@@ -0,0 +1,64 @@
+package za.ac.cput.search;
+
+import za.ac.cput.domain.Skill;
+import za.ac.cput.domain.WorkerProfile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The parts of a WorkerProfile that job matching needs, copied out of the entity so indexes can
+ * hold them after the persistence context is gone.
+ */
+public class WorkerMatchProfile {
+
+    private final String profileId;
+    private final String userId;
+    private final Set<String> skillTerms;
+    private final Set<String> skillNameTerms;
+    private final String location;
+    private final Double hourlyRate;
+    private final Double rating;
+
+    public WorkerMatchProfile(String profileId, String userId, Set<String> skillTerms, Set<String> skillNameTerms,
+                              String location, Double hourlyRate, Double rating) {
+        this.profileId = profileId;
+        this.userId = userId;
+        this.skillTerms = Set.copyOf(skillTerms);
+        this.skillNameTerms = Set.copyOf(skillNameTerms);
+        this.location = location;
+        this.hourlyRate = hourlyRate;
+        this.rating = rating;
+    }
+
+    public static WorkerMatchProfile of(WorkerProfile profile) {
+        List<String> skillNames = new ArrayList<>();
+        List<String> skillTexts = new ArrayList<>();
+        if (profile.getSkills() != null) {
+            for (Skill skill : profile.getSkills()) {
+                skillNames.add(skill.getName());
+                skillTexts.add(skill.getName());
+                skillTexts.add(skill.getCategory());
+            }
+        }
+        return new WorkerMatchProfile(
+                profile.getProfileId(),
+                profile.getUser() != null ? profile.getUser().getUserId() : null,
+                TextTerms.of(skillTexts),
+                TextTerms.of(skillNames),
+                profile.getLocation(),
+                profile.getHourlyRate(),
+                profile.getRating());
+    }
+
+    public String getProfileId() { return profileId; }
+    public String getUserId() { return userId; }
+    // Terms from skill names and categories, used for scoring
+    public Set<String> getSkillTerms() { return skillTerms; }
+    // Terms from skill names only, used where a category word alone is too broad a match
+    public Set<String> getSkillNameTerms() { return skillNameTerms; }
+    public String getLocation() { return location; }
+    public Double getHourlyRate() { return hourlyRate; }
+    public Double getRating() { return rating; }
+}
@@ -0,0 +1,234 @@
+package za.ac.cput.search;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Roaring bitmaps of worker ordinals: one per skill, plus one each for available and verified
+ * workers. A skill query becomes a handful of bitmap AND / OR / ANDNOT operations, and paging uses
+ * select() on the result, so neither depends on how many profiles exist. Ordinals are assigned on
+ * first sight and never reused; a removed worker's bits are cleared.
+ */
+public class WorkerSkillBitmapIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<String> profileIds = new ArrayList<>();
+    private final Map<Integer, Set<String>> skillIdsByOrdinal = new HashMap<>();
+
+    private final Map<String, RoaringBitmap> workersBySkillId = new HashMap<>();
+    // Names are matched case-insensitively, so skills whose names differ only in case share a key
+    private final Map<String, Set<String>> skillIdsByName = new HashMap<>();
+    private final Map<String, String> skillNamesById = new HashMap<>();
+
+    private final RoaringBitmap allWorkers = new RoaringBitmap();
+    private final RoaringBitmap availableWorkers = new RoaringBitmap();
+    private final RoaringBitmap verifiedWorkers = new RoaringBitmap();
+
+    public static class Result {
+        private final long total;
+        private final List<String> profileIds;
+
+        public Result(long total, List<String> profileIds) {
+            this.total = total;
+            this.profileIds = profileIds;
+        }
+
+        public long getTotal() { return total; }
+        public List<String> getProfileIds() { return profileIds; }
+    }
+
+    // skills: skill ID -> skill name
+    public void put(String profileId, Map<String, String> skills, boolean available, boolean verified) {
+        lock.writeLock().lock();
+        try {
+            int ordinal = ordinals.computeIfAbsent(profileId, id -> {
+                profileIds.add(id);
+                return profileIds.size() - 1;
+            });
+            clearSkills(ordinal);
+            skills.forEach((skillId, name) -> {
+                nameSkill(skillId, name);
+                workersBySkillId.computeIfAbsent(skillId, id -> new RoaringBitmap()).add(ordinal);
+            });
+            skillIdsByOrdinal.put(ordinal, Set.copyOf(skills.keySet()));
+            allWorkers.add(ordinal);
+            set(availableWorkers, ordinal, available);
+            set(verifiedWorkers, ordinal, verified);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String profileId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(profileId);
+            if (ordinal == null) {
+                return;
+            }
+            clearSkills(ordinal);
+            allWorkers.remove(ordinal);
+            availableWorkers.remove(ordinal);
+            verifiedWorkers.remove(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void renameSkill(String skillId, String name) {
+        lock.writeLock().lock();
+        try {
+            nameSkill(skillId, name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeSkill(String skillId) {
+        lock.writeLock().lock();
+        try {
+            String name = skillNamesById.remove(skillId);
+            if (name != null) {
+                unlinkName(name, skillId);
+            }
+            RoaringBitmap workers = workersBySkillId.remove(skillId);
+            if (workers != null) {
+                workers.forEach((int ordinal) -> {
+                    Set<String> remaining = new HashSet<>(skillIdsByOrdinal.get(ordinal));
+                    remaining.remove(skillId);
+                    skillIdsByOrdinal.put(ordinal, Set.copyOf(remaining));
+                });
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Result search(SkillQuery query, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matches = evaluate(query);
+            long total = matches.getCardinality();
+            List<String> page = new ArrayList<>();
+            for (long i = offset; i < total && page.size() < limit; i++) {
+                page.add(profileIds.get(matches.select((int) i)));
+            }
+            return new Result(total, page);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return allWorkers.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Caller holds the read lock
+    private RoaringBitmap evaluate(SkillQuery query) {
+        RoaringBitmap result = allWorkers.clone();
+        if (query.isAvailableOnly()) {
+            result.and(availableWorkers);
+        }
+        if (query.isVerifiedOnly()) {
+            result.and(verifiedWorkers);
+        }
+        for (String name : query.getAllOf()) {
+            RoaringBitmap workers = workersWithSkill(name);
+            if (workers == null) {
+                return new RoaringBitmap();
+            }
+            result.and(workers);
+        }
+        if (!query.getAnyOf().isEmpty()) {
+            RoaringBitmap any = new RoaringBitmap();
+            for (String name : query.getAnyOf()) {
+                RoaringBitmap workers = workersWithSkill(name);
+                if (workers != null) {
+                    any.or(workers);
+                }
+            }
+            result.and(any);
+        }
+        for (String name : query.getNoneOf()) {
+            RoaringBitmap workers = workersWithSkill(name);
+            if (workers != null) {
+                result.andNot(workers);
+            }
+        }
+        return result;
+    }
+
+    // Workers holding any skill with this name; null if no skill has it
+    private RoaringBitmap workersWithSkill(String name) {
+        Set<String> skillIds = skillIdsByName.get(key(name));
+        if (skillIds == null) {
+            return null;
+        }
+        if (skillIds.size() == 1) {
+            return workersBySkillId.get(skillIds.iterator().next());
+        }
+        RoaringBitmap workers = new RoaringBitmap();
+        for (String skillId : skillIds) {
+            RoaringBitmap holders = workersBySkillId.get(skillId);
+            if (holders != null) {
+                workers.or(holders);
+            }
+        }
+        return workers;
+    }
+
+    private void clearSkills(int ordinal) {
+        Set<String> previous = skillIdsByOrdinal.remove(ordinal);
+        if (previous != null) {
+            for (String skillId : previous) {
+                RoaringBitmap workers = workersBySkillId.get(skillId);
+                if (workers != null) {
+                    workers.remove(ordinal);
+                }
+            }
+        }
+    }
+
+    private void nameSkill(String skillId, String name) {
+        String previous = skillNamesById.put(skillId, key(name));
+        if (previous != null && !previous.equals(key(name))) {
+            unlinkName(previous, skillId);
+        }
+        skillIdsByName.computeIfAbsent(key(name), n -> new HashSet<>()).add(skillId);
+    }
+
+    private void unlinkName(String name, String skillId) {
+        Set<String> skillIds = skillIdsByName.get(name);
+        if (skillIds != null && skillIds.remove(skillId) && skillIds.isEmpty()) {
+            skillIdsByName.remove(name);
+        }
+    }
+
+    private static void set(RoaringBitmap bitmap, int ordinal, boolean value) {
+        if (value) {
+            bitmap.add(ordinal);
+        } else {
+            bitmap.remove(ordinal);
+        }
+    }
+
+    private static String key(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+}
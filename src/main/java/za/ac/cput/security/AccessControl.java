@@ -0,0 +1,82 @@
+package za.ac.cput.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import za.ac.cput.domain.Admin;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Authorization checks for controllers, made against the token AuthenticationFilter attached to the
+ * request. A request without a token gets 401; a token without the needed ownership or admin
+ * permission gets 403.
+ */
+public final class AccessControl {
+
+    private AccessControl() {
+    }
+
+    public static AuthToken requireToken(HttpServletRequest request) {
+        return AuthenticationFilter.currentToken(request)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication required"));
+    }
+
+    public static AuthToken requirePermission(HttpServletRequest request, Admin.Permission permission) {
+        AuthToken token = requireToken(request);
+        if (!token.hasPermission(permission)) {
+            throw forbidden();
+        }
+        return token;
+    }
+
+    public static AuthToken requireSelf(HttpServletRequest request, String userId) {
+        AuthToken token = requireToken(request);
+        if (!token.getUserId().equals(userId)) {
+            throw forbidden();
+        }
+        return token;
+    }
+
+    // The admin record behind the token, looked up by user ID; the token must carry the permission
+    public static Admin requireAdmin(HttpServletRequest request, Admin.Permission permission,
+                                     Function<String, Optional<Admin>> adminsByUserId) {
+        AuthToken token = requirePermission(request, permission);
+        return adminsByUserId.apply(token.getUserId()).orElseThrow(AccessControl::forbidden);
+    }
+
+    // The user themself, or an admin holding the permission
+    public static AuthToken requireSelfOrPermission(HttpServletRequest request, String userId,
+                                                    Admin.Permission permission) {
+        AuthToken token = requireToken(request);
+        if (!token.getUserId().equals(userId) && !token.hasPermission(permission)) {
+            throw forbidden();
+        }
+        return token;
+    }
+
+    // A user the predicate accepts as owner of the resource; only asked once the request has a token
+    public static AuthToken requireOwner(HttpServletRequest request, Predicate<String> isOwner) {
+        AuthToken token = requireToken(request);
+        if (!isOwner.test(token.getUserId())) {
+            throw forbidden();
+        }
+        return token;
+    }
+
+    // An admin holding the permission, or a user the predicate accepts as owner of the resource
+    public static AuthToken requireOwnerOrPermission(HttpServletRequest request, Predicate<String> isOwner,
+                                                     Admin.Permission permission) {
+        AuthToken token = requireToken(request);
+        if (!token.hasPermission(permission) && !isOwner.test(token.getUserId())) {
+            throw forbidden();
+        }
+        return token;
+    }
+
+    private static ResponseStatusException forbidden() {
+        return new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied");
+    }
+}
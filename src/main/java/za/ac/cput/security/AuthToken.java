@@ -0,0 +1,67 @@
+package za.ac.cput.security;
+
+import za.ac.cput.domain.Admin;
+import za.ac.cput.domain.User;
+
+import java.util.Set;
+
+// Claims carried by a signed token: everything authorization needs, so no request has to load the user
+public class AuthToken {
+
+    private final String userId;
+    private final Set<User.Role> roles;
+    private final User.Mode currentMode;
+    private final Set<Admin.Permission> permissions;
+    private final long sessionStartedAt;
+    private final long issuedAt;
+    private final long expiresAt;
+
+    // sessionStartedAt: when the user logged in; refreshed tokens keep it so a session cannot be extended forever
+    public AuthToken(String userId, Set<User.Role> roles, User.Mode currentMode,
+                     Set<Admin.Permission> permissions, long sessionStartedAt, long issuedAt, long expiresAt) {
+        this.userId = userId;
+        this.roles = Set.copyOf(roles);
+        this.currentMode = currentMode;
+        this.permissions = Set.copyOf(permissions);
+        this.sessionStartedAt = sessionStartedAt;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getUserId() { return userId; }
+    public Set<User.Role> getRoles() { return roles; }
+    public User.Mode getCurrentMode() { return currentMode; }
+    public Set<Admin.Permission> getPermissions() { return permissions; }
+    public long getSessionStartedAt() { return sessionStartedAt; }
+    public long getIssuedAt() { return issuedAt; }
+    public long getExpiresAt() { return expiresAt; }
+
+    public boolean hasRole(User.Role role) {
+        return roles.contains(role) || roles.contains(User.Role.BOTH) && role != User.Role.BOTH;
+    }
+
+    public boolean hasPermission(Admin.Permission permission) {
+        return permissions.contains(permission);
+    }
+
+    public boolean isAdmin() {
+        return !permissions.isEmpty();
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAt <= nowMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthToken{" +
+                "userId='" + userId + '\'' +
+                ", roles=" + roles +
+                ", currentMode=" + currentMode +
+                ", permissions=" + permissions +
+                ", sessionStartedAt=" + sessionStartedAt +
+                ", issuedAt=" + issuedAt +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
@@ -0,0 +1,121 @@
+package za.ac.cput.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import za.ac.cput.domain.Admin;
+import za.ac.cput.domain.User;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.Optional;
+
+/**
+ * Verifies the bearer token on API requests and exposes its claims as the request principal and
+ * the TOKEN_ATTRIBUTE attribute. Verification is an HMAC check plus a revocation map lookup, so
+ * authorization never reads the database. Requests without a token pass through anonymously;
+ * a token that is malformed, expired or revoked gets 401. Runs before RateLimitFilter so limits are
+ * charged per user rather than per address. /api/auth/ is left alone: login needs no token, and
+ * /api/auth/refresh verifies the token it is given itself. Controllers enforce roles, permissions
+ * and ownership through AccessControl.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class AuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String TOKEN_ATTRIBUTE = AuthToken.class.getName();
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenCodec tokenCodec;
+    private final TokenRevocationCache tokenRevocationCache;
+
+    @Autowired
+    public AuthenticationFilter(TokenCodec tokenCodec, TokenRevocationCache tokenRevocationCache) {
+        this.tokenCodec = tokenCodec;
+        this.tokenRevocationCache = tokenRevocationCache;
+    }
+
+    public static Optional<AuthToken> currentToken(HttpServletRequest request) {
+        return Optional.ofNullable((AuthToken) request.getAttribute(TOKEN_ATTRIBUTE));
+    }
+
+    // Token text of an "Authorization: Bearer ..." header, or null
+    public static String bearerToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        return header != null && header.startsWith(BEARER_PREFIX)
+                ? header.substring(BEARER_PREFIX.length()).trim()
+                : null;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !path.startsWith("/api/") || path.startsWith("/api/auth/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String encoded = bearerToken(request);
+        if (encoded == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Optional<AuthToken> token = tokenCodec.decode(encoded);
+        if (token.isEmpty() || tokenRevocationCache.isRevoked(token.get())) {
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Invalid or expired token\"}");
+            return;
+        }
+
+        request.setAttribute(TOKEN_ATTRIBUTE, token.get());
+        chain.doFilter(new AuthenticatedRequest(request, token.get()), response);
+    }
+
+    /**
+     * Request view backed by token claims. isUserInRole accepts a User.Role name (BOTH implies
+     * CLIENT and WORKER) or an Admin.Permission name.
+     */
+    private static class AuthenticatedRequest extends HttpServletRequestWrapper {
+        private final AuthToken token;
+        private final Principal principal;
+
+        AuthenticatedRequest(HttpServletRequest request, AuthToken token) {
+            super(request);
+            this.token = token;
+            this.principal = token::getUserId;
+        }
+
+        @Override
+        public Principal getUserPrincipal() {
+            return principal;
+        }
+
+        @Override
+        public boolean isUserInRole(String role) {
+            for (User.Role userRole : User.Role.values()) {
+                if (userRole.name().equals(role)) {
+                    return token.hasRole(userRole);
+                }
+            }
+            for (Admin.Permission permission : Admin.Permission.values()) {
+                if (permission.name().equals(role)) {
+                    return token.hasPermission(permission);
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package za.ac.cput.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Works out which address a request came from. X-Forwarded-For is only believed when the connection
+ * comes from one of app.security.trusted-proxies, so a client cannot pick its own address by
+ * sending the header itself.
+ */
+@Component
+public class ClientAddressResolver {
+
+    private final Set<String> trustedProxies;
+
+    @Autowired
+    public ClientAddressResolver(@Value("${app.security.trusted-proxies:}") String[] trustedProxies) {
+        this.trustedProxies = Set.copyOf(List.of(trustedProxies));
+    }
+
+    // Walks X-Forwarded-For from the right past our own proxies; the first hop they did not add is the client
+    public String resolve(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        String forwarded = request.getHeader("X-Forwarded-For");
+        if (forwarded == null || !trustedProxies.contains(address)) {
+            return address;
+        }
+        String[] hops = forwarded.split(",");
+        for (int i = hops.length - 1; i >= 0 && trustedProxies.contains(address); i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                break;
+            }
+            address = hop;
+        }
+        return address;
+    }
+}
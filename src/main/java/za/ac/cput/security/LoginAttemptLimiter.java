@@ -0,0 +1,87 @@
+package za.ac.cput.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Locks an account for a while after too many failed logins in a row from one client address. It is
+ * checked before any hashing, so guessing against a locked account costs no CPU. Failures are counted
+ * per (account, address) pair, so someone who knows a victim's email can only lock it for their own
+ * address, not for the victim. Failures older than the lockout period are forgotten, and a successful
+ * login clears that pair's record.
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private final int maxFailures;
+    private final Duration lockout;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, Attempts> attempts = new ConcurrentHashMap<>();
+
+    private record Attempts(int failures, long firstFailureAt, long lockedUntil) {}
+
+    @Autowired
+    public LoginAttemptLimiter(@Value("${app.security.login.max-failures:5}") int maxFailures,
+                               @Value("${app.security.login.lockout:15m}") Duration lockout) {
+        this(maxFailures, lockout, Clock.systemUTC());
+    }
+
+    public LoginAttemptLimiter(int maxFailures, Duration lockout, Clock clock) {
+        if (maxFailures <= 0) {
+            throw new IllegalArgumentException("Max failures must be positive");
+        }
+        this.maxFailures = maxFailures;
+        this.lockout = lockout;
+        this.clock = clock;
+    }
+
+    public boolean isLocked(String account, String clientAddress) {
+        Attempts current = attempts.get(key(account, clientAddress));
+        return current != null && current.lockedUntil() > clock.millis();
+    }
+
+    public void recordFailure(String account, String clientAddress) {
+        long now = clock.millis();
+        attempts.compute(key(account, clientAddress), (key, current) -> {
+            if (current == null || isExpired(current, now)) {
+                current = new Attempts(0, now, 0);
+            }
+            int failures = current.failures() + 1;
+            long lockedUntil = failures >= maxFailures ? now + lockout.toMillis() : current.lockedUntil();
+            return new Attempts(failures, current.firstFailureAt(), lockedUntil);
+        });
+    }
+
+    public void recordSuccess(String account, String clientAddress) {
+        attempts.remove(key(account, clientAddress));
+    }
+
+    @Scheduled(fixedRate = 60_000)
+    public void purgeExpired() {
+        long now = clock.millis();
+        attempts.values().removeIf(current -> isExpired(current, now));
+    }
+
+    public int size() {
+        return attempts.size();
+    }
+
+    private boolean isExpired(Attempts current, long now) {
+        if (current.lockedUntil() > 0) {
+            return current.lockedUntil() <= now;
+        }
+        return now - current.firstFailureAt() > lockout.toMillis();
+    }
+
+    private static String key(String account, String clientAddress) {
+        String normalized = account == null ? "" : account.trim().toLowerCase(Locale.ROOT);
+        return normalized + "|" + (clientAddress == null ? "" : clientAddress);
+    }
+}
@@ -0,0 +1,108 @@
+package za.ac.cput.security;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import za.ac.cput.util.ValidationHelper;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt hashing on a dedicated pool with one thread per core and a bounded queue. Request threads
+ * (possibly thousands of virtual threads) hand the work over and wait, so at a login peak the CPU
+ * runs at most one hash per core instead of time-slicing hundreds, and once the queue is full extra
+ * logins fail fast rather than piling up behind it.
+ *
+ * Only BCrypt hashes ever match. Plain text left by rows written before hashing was introduced is
+ * hashed by the V12 migration, and anything that still is not a hash is rejected at the same BCrypt
+ * cost as a wrong password.
+ */
+@Component
+public class PasswordHasher implements DisposableBean {
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private volatile String dummyHash;
+
+    @Autowired
+    public PasswordHasher(@Value("${app.security.password.bcrypt-strength:10}") int strength,
+                          @Value("${app.security.password.hash-threads:0}") int threads,
+                          @Value("${app.security.password.queue-capacity:256}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public String hash(String rawPassword) {
+        return run(() -> encoder.encode(rawPassword));
+    }
+
+    // A missing (unknown account) or non-hash stored password is checked against a dummy hash so the
+    // response time does not reveal whether the account exists or what its row holds
+    public boolean matches(String rawPassword, String storedPassword) {
+        if (rawPassword == null) {
+            return false;
+        }
+        if (!ValidationHelper.isPasswordHash(storedPassword)) {
+            String dummy = dummyHash();
+            run(() -> encoder.matches(rawPassword, dummy));
+            return false;
+        }
+        return run(() -> encoder.matches(rawPassword, storedPassword));
+    }
+
+    // Hashes made with a lower work factor than the configured one
+    public boolean needsRehash(String storedPassword) {
+        return ValidationHelper.isPasswordHash(storedPassword) && encoder.upgradeEncoding(storedPassword);
+    }
+
+    public int getPoolSize() {
+        return executor.getCorePoolSize();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private String dummyHash() {
+        String dummy = dummyHash;
+        if (dummy == null) {
+            dummy = hash(ValidationHelper.generateId());
+            dummyHash = dummy;
+        }
+        return dummy;
+    }
+
+    private <T> T run(Callable<T> task) {
+        try {
+            return executor.submit(task).get();
+        } catch (RejectedExecutionException e) {
+            throw new IllegalStateException("Too many logins in progress, please try again shortly", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
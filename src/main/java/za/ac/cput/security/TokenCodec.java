@@ -0,0 +1,171 @@
+package za.ac.cput.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import za.ac.cput.domain.Admin;
+import za.ac.cput.domain.User;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Issues and verifies stateless tokens: base64url(claims) + "." + base64url(HMAC-SHA256 of the
+ * first part). Claims are a compact pipe-separated line rather than JSON, so verifying a token is
+ * one HMAC and a split. Without app.security.token.secret a random key is generated at startup,
+ * which invalidates every token on restart and across instances.
+ *
+ * Each token also carries when its session started. Renewing a token keeps that time, and no token
+ * of a session outlives app.security.token.max-session, however often it is refreshed.
+ */
+@Component
+public class TokenCodec {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenCodec.class);
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String VERSION = "v2";
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Duration maxSession;
+    private final Clock clock;
+
+    @Autowired
+    public TokenCodec(@Value("${app.security.token.secret:}") String secret,
+                      @Value("${app.security.token.ttl:1h}") Duration ttl,
+                      @Value("${app.security.token.max-session:12h}") Duration maxSession) {
+        this(secret, ttl, maxSession, Clock.systemUTC());
+    }
+
+    public TokenCodec(String secret, Duration ttl, Duration maxSession, Clock clock) {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            log.warn("app.security.token.secret is not set; using a random key, tokens will not survive a restart");
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+        } else {
+            keyBytes = Base64.getDecoder().decode(secret.trim());
+            if (keyBytes.length < 32) {
+                throw new IllegalArgumentException("Token secret must be at least 256 bits");
+            }
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.ttl = ttl;
+        this.maxSession = maxSession;
+        this.clock = clock;
+    }
+
+    // Starts a new session, e.g. on login
+    public AuthToken issue(User user, Set<Admin.Permission> permissions) {
+        return issue(user, permissions, clock.millis());
+    }
+
+    // Continues the previous token's session with current claims; empty once the session has run its course
+    public Optional<AuthToken> renew(AuthToken previous, User user, Set<Admin.Permission> permissions) {
+        long sessionStartedAt = previous.getSessionStartedAt();
+        if (clock.millis() >= sessionStartedAt + maxSession.toMillis()) {
+            return Optional.empty();
+        }
+        return Optional.of(issue(user, permissions, sessionStartedAt));
+    }
+
+    public String encode(AuthToken token) {
+        String claims = String.join("|", VERSION, token.getUserId(),
+                join(token.getRoles()),
+                token.getCurrentMode() != null ? token.getCurrentMode().name() : "",
+                join(token.getPermissions()),
+                Long.toString(token.getSessionStartedAt()),
+                Long.toString(token.getIssuedAt()),
+                Long.toString(token.getExpiresAt()));
+        String payload = base64(claims.getBytes(StandardCharsets.UTF_8));
+        return payload + "." + base64(sign(payload));
+    }
+
+    // Empty for a malformed, tampered or expired token; revocation is checked separately
+    public Optional<AuthToken> decode(String encoded) {
+        if (encoded == null) {
+            return Optional.empty();
+        }
+        int dot = encoded.indexOf('.');
+        if (dot <= 0 || dot != encoded.lastIndexOf('.')) {
+            return Optional.empty();
+        }
+        try {
+            String payload = encoded.substring(0, dot);
+            byte[] signature = Base64.getUrlDecoder().decode(encoded.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, sign(payload))) {
+                return Optional.empty();
+            }
+            String[] claims = new String(Base64.getUrlDecoder().decode(payload), StandardCharsets.UTF_8).split("\\|", -1);
+            if (claims.length != 8 || !VERSION.equals(claims[0])) {
+                return Optional.empty();
+            }
+            AuthToken token = new AuthToken(claims[1],
+                    parse(claims[2], User.Role.class),
+                    claims[3].isEmpty() ? null : User.Mode.valueOf(claims[3]),
+                    parse(claims[4], Admin.Permission.class),
+                    Long.parseLong(claims[5]),
+                    Long.parseLong(claims[6]),
+                    Long.parseLong(claims[7]));
+            return token.isExpired(clock.millis()) ? Optional.empty() : Optional.of(token);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    // Tokens never outlive their session
+    private AuthToken issue(User user, Set<Admin.Permission> permissions, long sessionStartedAt) {
+        long now = clock.millis();
+        long expiresAt = Math.min(now + ttl.toMillis(), sessionStartedAt + maxSession.toMillis());
+        return new AuthToken(user.getUserId(),
+                user.getRoles() == null || user.getRoles().isEmpty()
+                        ? EnumSet.noneOf(User.Role.class)
+                        : EnumSet.copyOf(user.getRoles()),
+                user.getCurrentMode(), permissions, sessionStartedAt, now, expiresAt);
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Token signing unavailable", e);
+        }
+    }
+
+    private static String join(Set<? extends Enum<?>> values) {
+        return values.stream().map(Enum::name).sorted().collect(Collectors.joining(","));
+    }
+
+    private static <E extends Enum<E>> Set<E> parse(String value, Class<E> type) {
+        if (value.isEmpty()) {
+            return Set.of();
+        }
+        return Arrays.stream(value.split(","))
+                .map(name -> Enum.valueOf(type, name))
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(type)));
+    }
+
+    private static String base64(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,72 @@
+package za.ac.cput.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-user "not before" times for tokens. When a user's status, mode or admin permissions change,
+ * every token issued to them before that moment is rejected, so stale claims cannot outlive the
+ * change. An entry is only needed until the last token it rejects would have expired anyway, which
+ * keeps the map down to users changed within one token lifetime.
+ */
+@Component
+public class TokenRevocationCache {
+
+    private final Duration tokenTtl;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TokenRevocationCache(@Value("${app.security.token.ttl:1h}") Duration tokenTtl) {
+        this(tokenTtl, Clock.systemUTC());
+    }
+
+    public TokenRevocationCache(Duration tokenTtl, Clock clock) {
+        this.tokenTtl = tokenTtl;
+        this.clock = clock;
+    }
+
+    // Applied immediately and again after commit, so a token issued while the change commits is also rejected
+    public void revoke(String userId) {
+        if (userId == null) {
+            return;
+        }
+        revokeNow(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    revokeNow(userId);
+                }
+            });
+        }
+    }
+
+    public boolean isRevoked(AuthToken token) {
+        Long cutoff = revokedBefore.get(token.getUserId());
+        // a token issued in the same millisecond as the change may still carry the old claims
+        return cutoff != null && token.getIssuedAt() <= cutoff;
+    }
+
+    @Scheduled(fixedRate = 60_000)
+    public void purgeExpired() {
+        long oldestLiveIssue = clock.millis() - tokenTtl.toMillis();
+        revokedBefore.values().removeIf(cutoff -> cutoff < oldestLiveIssue);
+    }
+
+    public int size() {
+        return revokedBefore.size();
+    }
+
+    private void revokeNow(String userId) {
+        revokedBefore.merge(userId, clock.millis(), Math::max);
+    }
+}
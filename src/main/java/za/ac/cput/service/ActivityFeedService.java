@@ -0,0 +1,211 @@
+package za.ac.cput.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import za.ac.cput.domain.ActivityFeedEntry;
+import za.ac.cput.domain.User;
+import za.ac.cput.factory.ActivityFeedFactory;
+import za.ac.cput.repository.ActivityFeedEntryRepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-user dashboard feed. Service write paths append entries in the same transaction as the change
+ * they describe; the feed is read newest first with one paged query on (user_id, date_created).
+ *
+ * The most recent entries of recently active users are also kept in a bounded ring per user, so
+ * repeat dashboard loads skip the database. Rings are filled from the database on first read and
+ * appended to after each commit. A ring is only installed if no entry for that user committed while
+ * it was being loaded; otherwise the loaded entries serve that one read and the ring is built next time.
+ */
+@Service
+@Transactional
+public class ActivityFeedService {
+
+    private static final int STAMP_STRIPES = 64;
+
+    private final ActivityFeedEntryRepository activityFeedEntryRepository;
+    private final int ringSize;
+    private final int maxPageSize;
+    private final Map<String, ActivityRing> rings;
+    private final AtomicLongArray commitStamps = new AtomicLongArray(STAMP_STRIPES);
+
+    @Autowired
+    public ActivityFeedService(ActivityFeedEntryRepository activityFeedEntryRepository,
+                               @Value("${app.activity-feed.ring-size:50}") int ringSize,
+                               @Value("${app.activity-feed.active-users:10000}") int activeUsers,
+                               @Value("${app.activity-feed.max-page-size:100}") int maxPageSize) {
+        this.activityFeedEntryRepository = activityFeedEntryRepository;
+        this.ringSize = ringSize;
+        this.maxPageSize = maxPageSize;
+        this.rings = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ActivityRing> eldest) {
+                return size() > activeUsers;
+            }
+        });
+    }
+
+    public ActivityFeedEntry record(User user, ActivityFeedEntry.ActivityType activityType,
+                                    String subjectId, String summary) {
+        ActivityFeedEntry entry = ActivityFeedFactory.createEntry(user, activityType, subjectId, summary);
+        if (entry == null) {
+            throw new IllegalArgumentException("Invalid activity feed entry");
+        }
+        return recordAll(List.of(entry)).get(0);
+    }
+
+    // Same activity for several users, e.g. both parties of a contract; written as one batch
+    public List<ActivityFeedEntry> recordForAll(List<User> users, ActivityFeedEntry.ActivityType activityType,
+                                                String subjectId, String summary) {
+        return recordAll(users.stream()
+                .map(user -> ActivityFeedFactory.createEntry(user, activityType, subjectId, summary))
+                .toList());
+    }
+
+    // Fails as a whole if any entry is invalid, as record() does for a single one
+    public List<ActivityFeedEntry> recordAll(List<ActivityFeedEntry> entries) {
+        if (entries.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Invalid activity feed entry");
+        }
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        List<ActivityFeedEntry> saved = activityFeedEntryRepository.saveAll(entries);
+        afterCommit(() -> saved.forEach(this::appendToRing));
+        return saved;
+    }
+
+    // size is capped at app.activity-feed.max-page-size
+    @Transactional(readOnly = true)
+    public Slice<ActivityFeedEntry> getFeed(String userId, int page, int size) {
+        if (page < 0 || size <= 0) {
+            throw new IllegalArgumentException("Page must be non-negative and size must be positive");
+        }
+        Pageable pageable = PageRequest.of(page, Math.min(size, maxPageSize));
+        long offset = pageable.getOffset();
+        int limit = pageable.getPageSize();
+
+        ActivityRing ring = rings.get(userId);
+        if (ring == null && offset + limit <= ringSize) {
+            ring = loadRing(userId);
+        }
+        // pages starting past the ring's capacity always go to the database
+        if (ring != null && offset <= ringSize) {
+            List<ActivityFeedEntry> content = ring.page((int) offset, limit);
+            if (content != null) {
+                return new SliceImpl<>(content, pageable, ring.hasMoreThan((int) offset + limit));
+            }
+        }
+        return activityFeedEntryRepository.findFeed(userId, pageable);
+    }
+
+    public int countCachedFeeds() {
+        return rings.size();
+    }
+
+    // The loaded ring is always usable for the current read, but is only cached if no commit raced with the load
+    private ActivityRing loadRing(String userId) {
+        long stamp = commitStamps.get(stripe(userId));
+        List<ActivityFeedEntry> latest = activityFeedEntryRepository.findLatest(userId, Limit.of(ringSize));
+        ActivityRing ring = new ActivityRing(ringSize, latest);
+        if (commitStamps.get(stripe(userId)) != stamp) {
+            return ring;
+        }
+        synchronized (rings) {
+            if (commitStamps.get(stripe(userId)) != stamp) {
+                return ring;
+            }
+            ActivityRing existing = rings.putIfAbsent(userId, ring);
+            return existing != null ? existing : ring;
+        }
+    }
+
+    private void appendToRing(ActivityFeedEntry entry) {
+        synchronized (rings) {
+            commitStamps.incrementAndGet(stripe(entry.getUserId()));
+            ActivityRing ring = rings.get(entry.getUserId());
+            if (ring != null) {
+                ring.add(entry);
+            }
+        }
+    }
+
+    private static int stripe(String userId) {
+        return (userId.hashCode() & Integer.MAX_VALUE) % STAMP_STRIPES;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Fixed-capacity ring of one user's newest entries, newest at the head. complete is true while
+     * the ring holds every entry the user has, so pages past its end are known to be empty.
+     */
+    private static class ActivityRing {
+        private final ActivityFeedEntry[] entries;
+        private int head;
+        private int size;
+        private boolean complete;
+
+        // latest: newest first
+        ActivityRing(int capacity, List<ActivityFeedEntry> latest) {
+            this.entries = new ActivityFeedEntry[capacity];
+            for (int i = latest.size() - 1; i >= 0; i--) {
+                add(latest.get(i));
+            }
+            this.complete = latest.size() < capacity;
+        }
+
+        synchronized void add(ActivityFeedEntry entry) {
+            head = (head + 1) % entries.length;
+            entries[head] = entry;
+            if (size < entries.length) {
+                size++;
+            } else {
+                complete = false;
+            }
+        }
+
+        // null when the page reaches past what the ring can answer
+        synchronized List<ActivityFeedEntry> page(int offset, int limit) {
+            if (offset + limit > size && !complete) {
+                return null;
+            }
+            List<ActivityFeedEntry> page = new ArrayList<>();
+            for (int i = offset; i < Math.min(size, offset + limit); i++) {
+                page.add(entries[Math.floorMod(head - i, entries.length)]);
+            }
+            return page;
+        }
+
+        synchronized boolean hasMoreThan(int count) {
+            return size > count || !complete;
+        }
+    }
+}
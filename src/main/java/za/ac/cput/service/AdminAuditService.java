@@ -0,0 +1,183 @@
+package za.ac.cput.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import za.ac.cput.domain.AdminAuditEvent;
+import za.ac.cput.factory.AdminAuditEventFactory;
+import za.ac.cput.repository.AdminAuditEventRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only admin audit trail. append() only queues the event, so logging an action costs the
+ * same however long the history is, and concurrent appends never overwrite each other. A scheduled
+ * flush inserts the queue in JDBC batches, one transaction per batch, and the remainder is flushed
+ * on shutdown. When the queue stays full for app.admin-audit.enqueue-timeout-ms, append() throws
+ * rather than dropping the event or holding the admin's request indefinitely. A batch that fails to
+ * insert is retried on later flushes; after app.admin-audit.max-attempts failures its events are
+ * inserted one by one and any that still fail are parked in admin_audit_dead_letter.
+ */
+@Service
+public class AdminAuditService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminAuditService.class);
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private final AdminAuditEventRepository adminAuditEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long enqueueTimeoutMs;
+    private final int maxAttempts;
+    private final LinkedBlockingQueue<AdminAuditEvent> pending;
+    // A single flusher at a time keeps events inserted in the order they were appended
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // The batch whose insert last failed, retried ahead of the queue; guarded by flushLock
+    private List<AdminAuditEvent> failedBatch = List.of();
+    private int failedAttempts;
+
+    @Autowired
+    public AdminAuditService(AdminAuditEventRepository adminAuditEventRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.admin-audit.buffer-capacity:10000}") int bufferCapacity,
+                             @Value("${app.admin-audit.batch-size:500}") int batchSize,
+                             @Value("${app.admin-audit.enqueue-timeout-ms:1000}") long enqueueTimeoutMs,
+                             @Value("${app.admin-audit.max-attempts:3}") int maxAttempts) {
+        this.adminAuditEventRepository = adminAuditEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.enqueueTimeoutMs = enqueueTimeoutMs;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.pending = new LinkedBlockingQueue<>(bufferCapacity);
+    }
+
+    public AdminAuditEvent append(String adminId, String action) {
+        AdminAuditEvent event = AdminAuditEventFactory.createEvent(adminId, action);
+        if (event == null) {
+            throw new IllegalArgumentException("Invalid audit event");
+        }
+        boolean queued;
+        try {
+            queued = pending.offer(event, enqueueTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing audit event", e);
+        }
+        if (!queued) {
+            throw new IllegalStateException("Audit buffer full, event not recorded");
+        }
+        return event;
+    }
+
+    // Returns the number of events written to the audit table
+    @Scheduled(fixedDelayString = "${app.admin-audit.flush-interval-ms:500}")
+    public int flush() {
+        flushLock.lock();
+        try {
+            int written = 0;
+            List<AdminAuditEvent> batch = new ArrayList<>(failedBatch);
+            failedBatch = List.of();
+            while (!batch.isEmpty() || pending.drainTo(batch, batchSize) > 0) {
+                try {
+                    transactionTemplate.execute(status -> adminAuditEventRepository.insertAll(batch));
+                    written += batch.size();
+                    failedAttempts = 0;
+                } catch (RuntimeException e) {
+                    if (++failedAttempts < maxAttempts) {
+                        failedBatch = List.copyOf(batch);
+                        log.warn("Audit flush failed (attempt {} of {}), {} events held for retry",
+                                failedAttempts, maxAttempts, failedBatch.size() + pending.size(), e);
+                        return written;
+                    }
+                    failedAttempts = 0;
+                    int insertedAlone = insertEachOrDeadLetter(batch, e);
+                    if (insertedAlone < 0) {
+                        return written;
+                    }
+                    written += insertedAlone;
+                }
+                batch.clear();
+            }
+            return written;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<AdminAuditEvent> getEvents(String adminId, LocalDateTime from, LocalDateTime to, int page, int size) {
+        validatePage(page, size);
+        return adminAuditEventRepository.findByAdmin(adminId, from != null ? from : EARLIEST,
+                to != null ? to : LATEST, PageRequest.of(page, size));
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<AdminAuditEvent> getAllEvents(LocalDateTime from, LocalDateTime to, int page, int size) {
+        validatePage(page, size);
+        return adminAuditEventRepository.findBetween(from != null ? from : EARLIEST,
+                to != null ? to : LATEST, PageRequest.of(page, size));
+    }
+
+    public int countPending() {
+        flushLock.lock();
+        try {
+            return failedBatch.size() + pending.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    // Inserts a batch that keeps failing one event at a time, so only the events that really cannot be
+    // written are dead-lettered. Returns how many reached the audit table, or -1 when the dead-letter
+    // table cannot be written either; the rest of the batch is then held for the next flush.
+    private int insertEachOrDeadLetter(List<AdminAuditEvent> batch, RuntimeException batchError) {
+        int inserted = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            List<AdminAuditEvent> single = List.of(batch.get(i));
+            try {
+                transactionTemplate.execute(status -> adminAuditEventRepository.insertAll(single));
+                inserted++;
+            } catch (RuntimeException e) {
+                try {
+                    transactionTemplate.execute(status ->
+                            adminAuditEventRepository.insertDeadLetters(single, String.valueOf(e.getMessage())));
+                    log.error("Audit event {} dead-lettered after {} attempts", single.get(0).getEventId(),
+                            maxAttempts, e);
+                } catch (RuntimeException deadLetterError) {
+                    failedBatch = List.copyOf(batch.subList(i, batch.size()));
+                    deadLetterError.addSuppressed(batchError);
+                    log.error("Audit dead-letter write failed, {} events held for retry",
+                            failedBatch.size() + pending.size(), deadLetterError);
+                    return -1;
+                }
+            }
+        }
+        return inserted;
+    }
+
+    private static void validatePage(int page, int size) {
+        if (page < 0 || size <= 0) {
+            throw new IllegalArgumentException("Page must be non-negative and size must be positive");
+        }
+    }
+}
@@ -1,15 +1,20 @@
 package za.ac.cput.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import za.ac.cput.cache.RequestReadCache;
 import za.ac.cput.domain.Admin;
+import za.ac.cput.domain.AdminAuditEvent;
 import za.ac.cput.domain.User;
 import za.ac.cput.repository.AdminRepository;
 import za.ac.cput.factory.AdminFactory;
+import za.ac.cput.security.TokenRevocationCache;
 import za.ac.cput.util.ValidationHelper;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,14 +23,24 @@ import java.util.Optional;
 public class AdminService implements IService<Admin, String> {
 
     private final AdminRepository adminRepository;
+    private final TokenRevocationCache tokenRevocationCache;
+    private final AdminAuditService adminAuditService;
 
     @Autowired
-    public AdminService(AdminRepository adminRepository) {
+    public AdminService(AdminRepository adminRepository, TokenRevocationCache tokenRevocationCache,
+                        AdminAuditService adminAuditService) {
         this.adminRepository = adminRepository;
+        this.tokenRevocationCache = tokenRevocationCache;
+        this.adminAuditService = adminAuditService;
     }
 
     @Override
     public Admin create(Admin admin) {
+        return create(admin, "Admin created");
+    }
+
+    // The creation is the first entry in the admin's audit trail
+    private Admin create(Admin admin, String action) {
         if (admin == null) {
             throw new IllegalArgumentException("Admin cannot be null");
         }
@@ -35,7 +50,9 @@ public class AdminService implements IService<Admin, String> {
             throw new IllegalStateException("User is already an admin");
         }
 
-        return adminRepository.save(admin);
+        Admin saved = adminRepository.save(admin);
+        adminAuditService.append(saved.getAdminId(), action);
+        return saved;
     }
 
     @Override
@@ -44,18 +61,31 @@ public class AdminService implements IService<Admin, String> {
                 .orElseThrow(() -> new RuntimeException("Admin not found with ID: " + adminId));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BatchReadResult<Admin, String> readAll(Collection<String> adminIds) {
+        return BatchReadResult.load(adminIds, adminRepository::findAllById, Admin::getAdminId);
+    }
+
+    // Tokens carry the admin's permissions, so any change to the row revokes the tokens of its user
     @Override
     public Admin update(Admin admin) {
-        if (!adminRepository.existsById(admin.getAdminId())) {
-            throw new RuntimeException("Admin not found");
+        String previousUserId = adminRepository.findById(admin.getAdminId())
+                .map(stored -> stored.getUser().getUserId())
+                .orElseThrow(() -> new RuntimeException("Admin not found"));
+        Admin saved = adminRepository.save(admin);
+        tokenRevocationCache.revoke(previousUserId);
+        if (admin.getUser() != null && !previousUserId.equals(admin.getUser().getUserId())) {
+            tokenRevocationCache.revoke(admin.getUser().getUserId());
         }
-        return adminRepository.save(admin);
+        return saved;
     }
 
     @Override
     public Admin delete(String adminId) {
         Admin admin = read(adminId);
         adminRepository.deleteById(adminId);
+        tokenRevocationCache.revoke(admin.getUser().getUserId());
         return admin;
     }
 
@@ -65,7 +95,16 @@ public class AdminService implements IService<Admin, String> {
         if (admin == null) {
             throw new IllegalArgumentException("Invalid admin creation data");
         }
-        return create(admin);
+        return create(admin, "Super admin created");
+    }
+
+    // Bootstrap for a fresh install: with no admins yet nobody can hold MANAGE_USERS, so the first
+    // super admin is created without it. Refused once any admin exists.
+    public Admin createFirstSuperAdmin(User user) {
+        if (hasAdmins()) {
+            throw new IllegalStateException("An admin already exists");
+        }
+        return createSuperAdmin(user);
     }
 
     public Admin createSkillVerifier(User user) {
@@ -73,77 +112,93 @@ public class AdminService implements IService<Admin, String> {
         if (admin == null) {
             throw new IllegalArgumentException("Invalid admin creation data");
         }
-        return create(admin);
+        return create(admin, "Skill verifier created");
     }
 
-    public Admin createCustomAdmin(User user, List<Admin.Permission> permissions, String actionsLog) {
-        Admin admin = AdminFactory.createAdmin(user, permissions, actionsLog);
+    // The action, if given, is recorded in the audit trail in place of the generic creation entry
+    public Admin createCustomAdmin(User user, List<Admin.Permission> permissions, String action) {
+        Admin admin = AdminFactory.createAdmin(user, permissions);
         if (admin == null) {
             throw new IllegalArgumentException("Invalid admin creation data");
         }
-        return create(admin);
+        return create(admin, action != null && !action.isBlank() ? action.trim() : "Admin created");
     }
 
+    // A single UPDATE sets the bit, so concurrent grants and removals of other permissions are all kept
     public Admin addPermission(String adminId, Admin.Permission permission) {
         Admin admin = read(adminId);
-        List<Admin.Permission> currentPermissions = new java.util.ArrayList<>(admin.getPermissions());
-
-        if (!currentPermissions.contains(permission)) {
-            currentPermissions.add(permission);
-            return update(new Admin.Builder()
-                    .copy(admin)
-                    .setPermissions(currentPermissions)
-                    .build());
+        if (admin.hasPermission(permission)) {
+            return admin;
         }
-
-        return admin;
+        adminRepository.grantPermissionBits(adminId, permission.bit());
+        RequestReadCache.invalidateAfterBulkUpdate();
+        tokenRevocationCache.revoke(admin.getUser().getUserId());
+        return read(adminId);
     }
 
     public Admin removePermission(String adminId, Admin.Permission permission) {
         Admin admin = read(adminId);
-        List<Admin.Permission> currentPermissions = new java.util.ArrayList<>(admin.getPermissions());
-
-        if (currentPermissions.contains(permission)) {
-            currentPermissions.remove(permission);
-            return update(new Admin.Builder()
-                    .copy(admin)
-                    .setPermissions(currentPermissions)
-                    .build());
+        if (!admin.hasPermission(permission)) {
+            return admin;
         }
+        adminRepository.revokePermissionBits(adminId, ~permission.bit());
+        RequestReadCache.invalidateAfterBulkUpdate();
+        tokenRevocationCache.revoke(admin.getUser().getUserId());
+        return read(adminId);
+    }
 
-        return admin;
+    // Appends to the audit trail; the admin row itself is not rewritten
+    public AdminAuditEvent logAction(String adminId, String action) {
+        if (!adminRepository.existsById(adminId)) {
+            throw new RuntimeException("Admin not found with ID: " + adminId);
+        }
+        return adminAuditService.append(adminId, action);
     }
 
-    public Admin logAction(String adminId, String action) {
-        Admin admin = read(adminId);
-        String currentLog = admin.getActionsLog() != null ? admin.getActionsLog() : "";
-        String newLogEntry = LocalDateTime.now() + ": " + action;
-        String updatedLog = currentLog.isEmpty() ? newLogEntry : currentLog + "\n" + newLogEntry;
+    @Transactional(readOnly = true)
+    public Slice<AdminAuditEvent> getAuditEvents(String adminId, LocalDateTime from, LocalDateTime to,
+                                                 int page, int size) {
+        return adminAuditService.getEvents(adminId, from, to, page, size);
+    }
 
-        return update(new Admin.Builder()
-                .copy(admin)
-                .setActionsLog(updatedLog)
-                .build());
+    @Transactional(readOnly = true)
+    public Slice<AdminAuditEvent> getAllAuditEvents(LocalDateTime from, LocalDateTime to, int page, int size) {
+        return adminAuditService.getAllEvents(from, to, page, size);
     }
 
+    @Transactional(readOnly = true)
     public Optional<Admin> findByUser(User user) {
         return adminRepository.findByUser(user);
     }
 
+    @Transactional(readOnly = true)
+    public boolean hasAdmins() {
+        return adminRepository.count() > 0;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Admin> findByUserId(String userId) {
+        return adminRepository.findByUserUserId(userId);
+    }
+
+    @Transactional(readOnly = true)
     public List<Admin> findAdminsByPermission(Admin.Permission permission) {
-        return adminRepository.findByPermission(permission);
+        return adminRepository.findByPermissionMaskIn(permission.masksContaining());
     }
 
+    @Transactional(readOnly = true)
     public List<Admin> findAdminsCreatedBetween(LocalDateTime startDate, LocalDateTime endDate) {
         return adminRepository.findByDateCreatedBetween(startDate, endDate);
     }
 
+    @Transactional(readOnly = true)
     public boolean isUserAdmin(User user) {
         return adminRepository.existsByUser(user);
     }
 
+    @Transactional(readOnly = true)
     public boolean hasPermission(User user, Admin.Permission permission) {
         Optional<Admin> admin = findByUser(user);
-        return admin.isPresent() && admin.get().getPermissions().contains(permission);
+        return admin.isPresent() && admin.get().hasPermission(permission);
     }
 }
\ No newline at end of file
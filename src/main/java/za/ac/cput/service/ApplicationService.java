@@ -3,14 +3,17 @@ package za.ac.cput.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import za.ac.cput.domain.ActivityFeedEntry;
 import za.ac.cput.domain.Application;
 import za.ac.cput.domain.Job;
 import za.ac.cput.domain.User;
 import za.ac.cput.repository.ApplicationRepository;
+import za.ac.cput.factory.ActivityFeedFactory;
 import za.ac.cput.factory.ApplicationFactory;
 import za.ac.cput.util.ValidationHelper;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -19,12 +22,15 @@ public class ApplicationService implements IService<Application, String> {
 
     private final ApplicationRepository applicationRepository;
     private final NotificationService notificationService;
+    private final ActivityFeedService activityFeedService;
 
     @Autowired
     public ApplicationService(ApplicationRepository applicationRepository,
-                              NotificationService notificationService) {
+                              NotificationService notificationService,
+                              ActivityFeedService activityFeedService) {
         this.applicationRepository = applicationRepository;
         this.notificationService = notificationService;
+        this.activityFeedService = activityFeedService;
     }
 
     @Override
@@ -47,6 +53,15 @@ public class ApplicationService implements IService<Application, String> {
                 "New application received for job: " + application.getJob().getTitle()
         );
 
+        activityFeedService.recordAll(List.of(
+                ActivityFeedFactory.createEntry(application.getWorker(),
+                        ActivityFeedEntry.ActivityType.APPLICATION_SUBMITTED, savedApplication.getApplicationId(),
+                        "You applied for '" + application.getJob().getTitle() + "'"),
+                ActivityFeedFactory.createEntry(application.getJob().getClient(),
+                        ActivityFeedEntry.ActivityType.APPLICATION_RECEIVED, savedApplication.getApplicationId(),
+                        "New application for '" + application.getJob().getTitle() + "'")
+        ));
+
         return savedApplication;
     }
 
@@ -56,6 +71,12 @@ public class ApplicationService implements IService<Application, String> {
                 .orElseThrow(() -> new RuntimeException("Application not found with ID: " + applicationId));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BatchReadResult<Application, String> readAll(Collection<String> applicationIds) {
+        return BatchReadResult.load(applicationIds, applicationRepository::findAllById, Application::getApplicationId);
+    }
+
     @Override
     public Application update(Application application) {
         if (!applicationRepository.existsById(application.getApplicationId())) {
@@ -96,6 +117,8 @@ public class ApplicationService implements IService<Application, String> {
                 application.getWorker(),
                 "Your application for '" + application.getJob().getTitle() + "' has been accepted!"
         );
+        activityFeedService.record(application.getWorker(), ActivityFeedEntry.ActivityType.APPLICATION_ACCEPTED,
+                applicationId, "Your application for '" + application.getJob().getTitle() + "' was accepted");
 
         // Reject other pending applications for this job
         rejectOtherApplications(application.getJob(), application.getApplicationId());
@@ -119,6 +142,8 @@ public class ApplicationService implements IService<Application, String> {
                 application.getWorker(),
                 "Your application for '" + application.getJob().getTitle() + "' has been rejected."
         );
+        activityFeedService.record(application.getWorker(), ActivityFeedEntry.ActivityType.APPLICATION_REJECTED,
+                applicationId, "Your application for '" + application.getJob().getTitle() + "' was rejected");
 
         return updatedApplication;
     }
@@ -129,10 +154,13 @@ public class ApplicationService implements IService<Application, String> {
             throw new IllegalStateException("Application cannot be withdrawn from current status");
         }
 
-        return update(new Application.Builder()
+        Application withdrawnApplication = update(new Application.Builder()
                 .copy(application)
                 .setStatus(Application.ApplicationStatus.WITHDRAWN)
                 .build());
+        activityFeedService.record(application.getWorker(), ActivityFeedEntry.ActivityType.APPLICATION_WITHDRAWN,
+                applicationId, "You withdrew your application for '" + application.getJob().getTitle() + "'");
+        return withdrawnApplication;
     }
 
     private void rejectOtherApplications(Job job, String acceptedApplicationId) {
@@ -140,47 +168,67 @@ public class ApplicationService implements IService<Application, String> {
                 job, Application.ApplicationStatus.PENDING
         );
 
-        for (Application app : pendingApplications) {
-            if (!app.getApplicationId().equals(acceptedApplicationId)) {
-                update(new Application.Builder()
+        List<Application> rejected = pendingApplications.stream()
+                .filter(app -> !app.getApplicationId().equals(acceptedApplicationId))
+                .map(app -> new Application.Builder()
                         .copy(app)
                         .setStatus(Application.ApplicationStatus.REJECTED)
-                        .build());
-
-                // Notify workers of rejection
-                notificationService.createApplicationUpdate(
-                        app.getWorker(),
-                        "Your application for '" + job.getTitle() + "' was not selected."
-                );
-            }
+                        .build())
+                .toList();
+        if (rejected.isEmpty()) {
+            return;
         }
+        // Same guard as update(): saving a copy of a row deleted in the meantime would insert it again
+        List<String> rejectedIds = rejected.stream().map(Application::getApplicationId).toList();
+        if (applicationRepository.countByApplicationIdIn(rejectedIds) != rejectedIds.size()) {
+            throw new RuntimeException("Application not found");
+        }
+        applicationRepository.saveAll(rejected);
+
+        // Notify workers of rejection in one batched insert
+        notificationService.createApplicationUpdates(
+                rejected.stream().map(Application::getWorker).toList(),
+                "Your application for '" + job.getTitle() + "' was not selected."
+        );
+        activityFeedService.recordAll(rejected.stream()
+                .map(app -> ActivityFeedFactory.createEntry(app.getWorker(),
+                        ActivityFeedEntry.ActivityType.APPLICATION_REJECTED, app.getApplicationId(),
+                        "Your application for '" + job.getTitle() + "' was not selected"))
+                .toList());
     }
 
+    @Transactional(readOnly = true)
     public List<Application> findApplicationsByWorker(User worker) {
         return applicationRepository.findByWorker(worker);
     }
 
+    @Transactional(readOnly = true)
     public List<Application> findApplicationsByJob(Job job) {
         return applicationRepository.findByJob(job);
     }
 
+    @Transactional(readOnly = true)
     public List<Application> findApplicationsByJobClient(User client) {
         return applicationRepository.findByJobClient(client);
     }
 
+    @Transactional(readOnly = true)
     public List<Application> findPendingApplications() {
         return applicationRepository.findPendingApplications();
     }
 
+    @Transactional(readOnly = true)
     public List<Application> findRecentApplications(int days) {
         LocalDateTime date = LocalDateTime.now().minusDays(days);
         return applicationRepository.findRecentApplications(date);
     }
 
+    @Transactional(readOnly = true)
     public List<Application> findApplicationsByWorkerAndCategory(User worker, String category) {
         return applicationRepository.findByWorkerAndJobCategory(worker, category);
     }
 
+    @Transactional(readOnly = true)
     public Long countApplicationsByStatus(Application.ApplicationStatus status) {
         return applicationRepository.countByStatus(status);
     }
@@ -0,0 +1,76 @@
+package za.ac.cput.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import za.ac.cput.domain.Admin;
+import za.ac.cput.domain.User;
+import za.ac.cput.security.AuthToken;
+import za.ac.cput.security.TokenCodec;
+import za.ac.cput.security.TokenRevocationCache;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Issues signed tokens. The database is read when a token is issued or refreshed; requests carrying
+ * a token are authorized from its claims alone (see AuthenticationFilter).
+ */
+@Service
+public class AuthService {
+
+    private final UserService userService;
+    private final AdminService adminService;
+    private final TokenCodec tokenCodec;
+    private final TokenRevocationCache tokenRevocationCache;
+
+    @Autowired
+    public AuthService(UserService userService, AdminService adminService, TokenCodec tokenCodec,
+                       TokenRevocationCache tokenRevocationCache) {
+        this.userService = userService;
+        this.adminService = adminService;
+        this.tokenCodec = tokenCodec;
+        this.tokenRevocationCache = tokenRevocationCache;
+    }
+
+    // Empty when the credentials are wrong, the account is locked out for this address or the user is not active
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<String> login(String email, String rawPassword, String clientAddress) {
+        if (email == null || rawPassword == null
+                || !userService.authenticateUser(email, rawPassword, clientAddress)) {
+            return Optional.empty();
+        }
+        return userService.findByEmail(email).flatMap(user -> issueFor(user, null));
+    }
+
+    // Extends a live session. A revoked token must log in again, and no refresh outlives the session's
+    // absolute limit (app.security.token.max-session)
+    @Transactional(readOnly = true)
+    public Optional<String> refresh(String encodedToken) {
+        Optional<AuthToken> token = tokenCodec.decode(encodedToken)
+                .filter(decoded -> !tokenRevocationCache.isRevoked(decoded));
+        if (token.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return issueFor(userService.read(token.get().getUserId()), token.get());
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    // previous: the token being refreshed, or null to start a new session
+    private Optional<String> issueFor(User user, AuthToken previous) {
+        if (user.getStatus() != User.Status.ACTIVE) {
+            return Optional.empty();
+        }
+        Set<Admin.Permission> permissions = Admin.Permission.fromMask(adminService.findByUser(user)
+                .map(Admin::getPermissionMask)
+                .orElse(0));
+        Optional<AuthToken> token = previous == null
+                ? Optional.of(tokenCodec.issue(user, permissions))
+                : tokenCodec.renew(previous, user, permissions);
+        return token.map(tokenCodec::encode);
+    }
+}
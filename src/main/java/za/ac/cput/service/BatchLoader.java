@@ -0,0 +1,111 @@
+package za.ac.cput.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Coalesces single reads into batch reads, in the style of DataLoader. load() only queues the ID
+ * and returns a future; the first dispatch(), or get() on any queued ID, loads every ID queued so
+ * far with one readAll. Work fanned out over several threads within one request therefore costs one
+ * query per round instead of one per entity, and each ID is loaded at most once for the loader's
+ * lifetime. Futures of missing IDs complete with null; get() turns that into the same
+ * "not found" RuntimeException read() throws.
+ *
+ * Loaders are request-scoped (see BatchLoaders), so nothing outlives the HTTP call that loaded it.
+ */
+public class BatchLoader<T, ID> {
+
+    private final Function<Collection<ID>, BatchReadResult<T, ID>> batchRead;
+    private final String entityName;
+    private final Map<ID, CompletableFuture<T>> futures = new HashMap<>();
+    private final Map<ID, CompletableFuture<T>> queued = new LinkedHashMap<>();
+
+    // entityName: used in the not-found message, e.g. "Contract"
+    public BatchLoader(Function<Collection<ID>, BatchReadResult<T, ID>> batchRead, String entityName) {
+        this.batchRead = batchRead;
+        this.entityName = entityName;
+    }
+
+    public synchronized CompletableFuture<T> load(ID id) {
+        if (id == null) {
+            throw new IllegalArgumentException(entityName + " ID is required");
+        }
+        CompletableFuture<T> future = futures.get(id);
+        if (future == null) {
+            future = new CompletableFuture<>();
+            futures.put(id, future);
+            queued.put(id, future);
+        }
+        return future;
+    }
+
+    public List<CompletableFuture<T>> loadMany(Collection<ID> ids) {
+        List<CompletableFuture<T>> loaded = new ArrayList<>(ids.size());
+        for (ID id : ids) {
+            loaded.add(load(id));
+        }
+        return loaded;
+    }
+
+    // Loads everything queued so far with one readAll; returns how many IDs it loaded
+    public int dispatch() {
+        Map<ID, CompletableFuture<T>> batch;
+        synchronized (this) {
+            if (queued.isEmpty()) {
+                return 0;
+            }
+            batch = new LinkedHashMap<>(queued);
+            queued.clear();
+        }
+
+        try {
+            BatchReadResult<T, ID> result = batchRead.apply(batch.keySet());
+            batch.forEach((id, future) -> future.complete(result.get(id)));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                // a failed load is not kept; the next load() of these IDs tries again
+                batch.keySet().forEach(futures::remove);
+            }
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+        return batch.size();
+    }
+
+    // Drop-in for read(id): dispatches whatever is queued if this ID is not loaded yet, then waits for it
+    public T get(ID id) {
+        T entity = await(load(id));
+        if (entity == null) {
+            throw new RuntimeException(entityName + " not found with ID: " + id);
+        }
+        return entity;
+    }
+
+    // Drop-in for readAll(ids), sharing already loaded entities with get()
+    public BatchReadResult<T, ID> getAll(Collection<ID> ids) {
+        List<ID> present = ids.stream().filter(Objects::nonNull).toList();
+        loadMany(present);
+        return BatchReadResult.of(present, id -> await(load(id)));
+    }
+
+    private T await(CompletableFuture<T> future) {
+        if (!future.isDone()) {
+            dispatch();
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package za.ac.cput.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One BatchLoader per service for the current HTTP request. Inject this (it is a scoped proxy) where
+ * a request resolves many entities one at a time, e.g. while assembling a list view, and call
+ * of(service, ...).load(id) instead of service.read(id); the loads are then answered by one readAll.
+ */
+@Component
+@RequestScope
+public class BatchLoaders {
+
+    private final Map<IService<?, ?>, BatchLoader<?, ?>> loaders = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T, ID> BatchLoader<T, ID> of(IService<T, ID> service, String entityName) {
+        return (BatchLoader<T, ID>) loaders.computeIfAbsent(service,
+                key -> new BatchLoader<>(service::readAll, entityName));
+    }
+}
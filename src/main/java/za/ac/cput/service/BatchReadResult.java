@@ -0,0 +1,91 @@
+package za.ac.cput.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Outcome of IService.readAll: the entities that exist, in the order their IDs were requested
+ * (duplicates collapsed), and the requested IDs that do not. Lookups are split into IN queries of
+ * at most CHUNK_SIZE IDs so a long list never produces one oversized statement.
+ */
+public class BatchReadResult<T, ID> {
+
+    public static final int CHUNK_SIZE = 500;
+    // Most IDs one /batch request may ask for; longer lists are refused with 400
+    public static final int MAX_REQUEST_IDS = 200;
+
+    private final Map<ID, T> found;
+    private final List<ID> missingIds;
+
+    private BatchReadResult(Map<ID, T> found, List<ID> missingIds) {
+        this.found = found;
+        this.missingIds = missingIds;
+    }
+
+    // finder: one IN query for a chunk of IDs, e.g. repository::findAllById
+    public static <T, ID> BatchReadResult<T, ID> load(Collection<ID> ids, Function<List<ID>, List<T>> finder,
+                                                      Function<T, ID> idOf) {
+        if (ids == null || ids.isEmpty()) {
+            return new BatchReadResult<>(Collections.emptyMap(), List.of());
+        }
+        List<ID> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinct.removeIf(Objects::isNull);
+
+        Map<ID, T> loaded = new HashMap<>(distinct.size() * 2);
+        for (int from = 0; from < distinct.size(); from += CHUNK_SIZE) {
+            List<ID> chunk = distinct.subList(from, Math.min(distinct.size(), from + CHUNK_SIZE));
+            for (T entity : finder.apply(chunk)) {
+                loaded.put(idOf.apply(entity), entity);
+            }
+        }
+
+        return of(distinct, loaded::get);
+    }
+
+    // lookup: the entity for an ID, or null if it does not exist
+    public static <T, ID> BatchReadResult<T, ID> of(Collection<ID> ids, Function<ID, T> lookup) {
+        Map<ID, T> found = new LinkedHashMap<>();
+        List<ID> missingIds = new ArrayList<>();
+        for (ID id : new LinkedHashSet<>(ids)) {
+            if (id == null) {
+                continue;
+            }
+            T entity = lookup.apply(id);
+            if (entity != null) {
+                found.put(id, entity);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new BatchReadResult<>(Collections.unmodifiableMap(found), Collections.unmodifiableList(missingIds));
+    }
+
+    public List<T> getFound() { return new ArrayList<>(found.values()); }
+    public List<ID> getMissingIds() { return missingIds; }
+    public boolean isComplete() { return missingIds.isEmpty(); }
+
+    // null when the ID was not requested or does not exist
+    public T get(ID id) {
+        return found.get(id);
+    }
+
+    public boolean contains(ID id) {
+        return found.containsKey(id);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchReadResult{" +
+                "found=" + found.keySet() +
+                ", missingIds=" + missingIds +
+                '}';
+    }
+}
@@ -0,0 +1,113 @@
+package za.ac.cput.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Per-ID outcome of a bulk moderation call. Outcomes are decided from the statuses read, under row
+ * locks, just before the set-based UPDATE, so UPDATED is exactly the set of rows that statement changed.
+ */
+public class BulkModerationResult {
+
+    public static final int MAX_IDS = 1000;
+
+    // LEASED: another admin holds a live review-queue lease on the row
+    public enum Outcome { UPDATED, NOT_FOUND, INVALID_STATE, LEASED }
+
+    private final Map<String, Outcome> outcomes;
+
+    private BulkModerationResult(Map<String, Outcome> outcomes) {
+        this.outcomes = Collections.unmodifiableMap(outcomes);
+    }
+
+    // Drops blanks and duplicates, keeping the caller's order
+    public static List<String> distinctIds(Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one ID is required");
+        }
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String id : ids) {
+            if (id != null && !id.isBlank()) {
+                distinct.add(id.trim());
+            }
+        }
+        if (distinct.isEmpty()) {
+            throw new IllegalArgumentException("At least one ID is required");
+        }
+        if (distinct.size() > MAX_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_IDS + " IDs can be moderated at once");
+        }
+        return new ArrayList<>(distinct);
+    }
+
+    // HashMap rather than Collectors.toMap, which rejects the null status of a row never moderated
+    public static <T> Map<String, String> statusesById(List<T> rows, Function<T, String> id, Function<T, String> status) {
+        Map<String, String> statuses = new HashMap<>();
+        rows.forEach(row -> statuses.put(id.apply(row), status.apply(row)));
+        return statuses;
+    }
+
+    /**
+     * ids: the requested IDs; currentStatuses: status name of each ID that exists;
+     * allowedFrom: the statuses the transition may start from.
+     */
+    public static BulkModerationResult plan(List<String> ids, Map<String, String> currentStatuses,
+                                            Set<? extends Enum<?>> allowedFrom) {
+        return plan(ids, currentStatuses, allowedFrom, Set.of());
+    }
+
+    // As above; IDs in leasedElsewhere are left alone while another admin reviews them
+    public static BulkModerationResult plan(List<String> ids, Map<String, String> currentStatuses,
+                                            Set<? extends Enum<?>> allowedFrom, Set<String> leasedElsewhere) {
+        Set<String> allowed = new LinkedHashSet<>();
+        allowedFrom.forEach(status -> allowed.add(status.name()));
+
+        Map<String, Outcome> outcomes = new LinkedHashMap<>();
+        for (String id : ids) {
+            String status = currentStatuses.get(id);
+            if (!currentStatuses.containsKey(id)) {
+                outcomes.put(id, Outcome.NOT_FOUND);
+            } else if (leasedElsewhere.contains(id)) {
+                outcomes.put(id, Outcome.LEASED);
+            } else {
+                outcomes.put(id, allowed.contains(status) ? Outcome.UPDATED : Outcome.INVALID_STATE);
+            }
+        }
+        return new BulkModerationResult(outcomes);
+    }
+
+    public Map<String, Outcome> getOutcomes() { return outcomes; }
+
+    public List<String> getUpdatedIds() {
+        return outcomes.entrySet().stream()
+                .filter(entry -> entry.getValue() == Outcome.UPDATED)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public int getUpdatedCount() {
+        return count(Outcome.UPDATED);
+    }
+
+    public int count(Outcome outcome) {
+        return (int) outcomes.values().stream().filter(value -> value == outcome).count();
+    }
+
+    @Override
+    public String toString() {
+        return "BulkModerationResult{" +
+                "updated=" + count(Outcome.UPDATED) +
+                ", notFound=" + count(Outcome.NOT_FOUND) +
+                ", invalidState=" + count(Outcome.INVALID_STATE) +
+                ", leased=" + count(Outcome.LEASED) +
+                '}';
+    }
+}
@@ -1,8 +1,12 @@
 package za.ac.cput.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import za.ac.cput.cache.RequestReadCache;
+import za.ac.cput.domain.ActivityFeedEntry;
 import za.ac.cput.domain.Contract;
 import za.ac.cput.domain.Job;
 import za.ac.cput.domain.User;
@@ -11,6 +15,7 @@ import za.ac.cput.factory.ContractFactory;
 import za.ac.cput.util.ValidationHelper;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -20,14 +25,23 @@ public class ContractService implements IService<Contract, String> {
     private final ContractRepository contractRepository;
     private final JobService jobService;
     private final NotificationService notificationService;
+    private final ActivityFeedService activityFeedService;
+    private final RequestReadCache readCache;
+    private final int maxHighestValueLimit;
 
     @Autowired
     public ContractService(ContractRepository contractRepository,
                            JobService jobService,
-                           NotificationService notificationService) {
+                           NotificationService notificationService,
+                           ActivityFeedService activityFeedService,
+                           RequestReadCache readCache,
+                           @Value("${app.contracts.highest-value.max-limit:100}") int maxHighestValueLimit) {
         this.contractRepository = contractRepository;
         this.jobService = jobService;
         this.notificationService = notificationService;
+        this.activityFeedService = activityFeedService;
+        this.readCache = readCache;
+        this.maxHighestValueLimit = maxHighestValueLimit;
     }
 
     @Override
@@ -51,14 +65,23 @@ public class ContractService implements IService<Contract, String> {
                 contract.getWorker(),
                 "You have a new contract for: " + contract.getJob().getTitle()
         );
+        activityFeedService.recordForAll(List.of(contract.getClient(), contract.getWorker()),
+                ActivityFeedEntry.ActivityType.CONTRACT_STARTED, savedContract.getContractId(),
+                "Contract started for '" + contract.getJob().getTitle() + "'");
 
         return savedContract;
     }
 
     @Override
     public Contract read(String contractId) {
-        return contractRepository.findById(contractId)
-                .orElseThrow(() -> new RuntimeException("Contract not found with ID: " + contractId));
+        return readCache.read(Contract.class, contractId, () -> contractRepository.findById(contractId)
+                .orElseThrow(() -> new RuntimeException("Contract not found with ID: " + contractId)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BatchReadResult<Contract, String> readAll(Collection<String> contractIds) {
+        return BatchReadResult.load(contractIds, contractRepository::findAllById, Contract::getContractId);
     }
 
     @Override
@@ -109,6 +132,9 @@ public class ContractService implements IService<Contract, String> {
                 contract.getWorker(),
                 "Contract completed for: " + contract.getJob().getTitle()
         );
+        activityFeedService.recordForAll(List.of(contract.getClient(), contract.getWorker()),
+                ActivityFeedEntry.ActivityType.CONTRACT_COMPLETED, contractId,
+                "Contract completed for '" + contract.getJob().getTitle() + "'");
 
         return completedContract;
     }
@@ -119,10 +145,14 @@ public class ContractService implements IService<Contract, String> {
             throw new IllegalStateException("Cannot cancel completed contract");
         }
 
-        return update(new Contract.Builder()
+        Contract cancelledContract = update(new Contract.Builder()
                 .copy(contract)
                 .setStatus(Contract.ContractStatus.CANCELLED)
                 .build());
+        activityFeedService.recordForAll(List.of(contract.getClient(), contract.getWorker()),
+                ActivityFeedEntry.ActivityType.CONTRACT_CANCELLED, contractId,
+                "Contract cancelled for '" + contract.getJob().getTitle() + "'");
+        return cancelledContract;
     }
 
     public Contract markAsDisputed(String contractId) {
@@ -133,30 +163,46 @@ public class ContractService implements IService<Contract, String> {
                 .build());
     }
 
+    @Transactional(readOnly = true)
     public List<Contract> findActiveContracts() {
         return contractRepository.findActiveContracts();
     }
 
+    @Transactional(readOnly = true)
     public List<Contract> findContractsByClient(User client) {
         return contractRepository.findByClient(client);
     }
 
+    @Transactional(readOnly = true)
     public List<Contract> findContractsByWorker(User worker) {
         return contractRepository.findByWorker(worker);
     }
 
+    @Transactional(readOnly = true)
     public List<Contract> findOverdueContracts() {
         return contractRepository.findOverdueContracts(LocalDateTime.now());
     }
 
+    @Transactional(readOnly = true)
     public List<Contract> findDisputedContracts() {
         return contractRepository.findDisputedContracts();
     }
 
+    @Transactional(readOnly = true)
+    // At most app.contracts.highest-value.max-limit contracts, however many are asked for
+    public List<Contract> findHighestValueContracts(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return contractRepository.findHighestValueContracts(Limit.of(Math.min(limit, maxHighestValueLimit)));
+    }
+
+    @Transactional(readOnly = true)
     public boolean hasActiveContracts(User user) {
         return contractRepository.hasActiveContracts(user);
     }
 
+    @Transactional(readOnly = true)
     public List<Contract> findContractsByUser(User user) {
         return contractRepository.findByClientOrWorker(user);
     }
@@ -10,6 +10,7 @@ import za.ac.cput.repository.DisputeRepository;
 import za.ac.cput.factory.DisputeFactory;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -65,6 +66,12 @@ public class DisputeService implements IService<Dispute, String> {
                 .orElseThrow(() -> new RuntimeException("Dispute not found with ID: " + disputeId));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BatchReadResult<Dispute, String> readAll(Collection<String> disputeIds) {
+        return BatchReadResult.load(disputeIds, disputeRepository::findAllById, Dispute::getDisputeId);
+    }
+
     @Override
     public Dispute update(Dispute dispute) {
         if (!disputeRepository.existsById(dispute.getDisputeId())) {
@@ -140,34 +147,42 @@ public class DisputeService implements IService<Dispute, String> {
                 .build());
     }
 
+    @Transactional(readOnly = true)
     public List<Dispute> findDisputesByContract(Contract contract) {
         return disputeRepository.findByContract(contract);
     }
 
+    @Transactional(readOnly = true)
     public List<Dispute> findDisputesByUser(User user) {
         return disputeRepository.findByOpenedBy(user);
     }
 
+    @Transactional(readOnly = true)
     public List<Dispute> findOpenDisputes() {
         return disputeRepository.findOpenDisputes();
     }
 
+    @Transactional(readOnly = true)
     public List<Dispute> findDisputesByStatus(Dispute.DisputeStatus status) {
         return disputeRepository.findByStatus(status);
     }
 
+    @Transactional(readOnly = true)
     public List<Dispute> findDisputesOpenedBetween(LocalDateTime startDate, LocalDateTime endDate) {
         return disputeRepository.findByDateOpenedBetween(startDate, endDate);
     }
 
+    @Transactional(readOnly = true)
     public List<Dispute> findDisputesByContractParticipant(User user) {
         return disputeRepository.findByContractParticipant(user);
     }
 
+    @Transactional(readOnly = true)
     public Long countDisputesByStatus(Dispute.DisputeStatus status) {
         return disputeRepository.countByStatus(status);
     }
 
+    @Transactional(readOnly = true)
     public boolean hasOpenDisputes(Contract contract) {
         return !disputeRepository.findByContract(contract).stream()
                 .filter(d -> d.getStatus() == Dispute.DisputeStatus.OPEN)
@@ -1,8 +1,12 @@
 package za.ac.cput.service;
 
+import java.util.Collection;
+
 public interface IService <T,ID>{
     T create(T t);
     T read(ID id);
+    // Batch form of read: chunked IN queries, results in request order, unknown IDs reported as missing
+    BatchReadResult<T, ID> readAll(Collection<ID> ids);
     T update(T t);
     T delete(ID id);
-}
+}
\ No newline at end of file
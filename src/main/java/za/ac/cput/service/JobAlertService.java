@@ -0,0 +1,101 @@
+package za.ac.cput.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import za.ac.cput.domain.Job;
+import za.ac.cput.domain.WorkerProfile;
+import za.ac.cput.event.JobEvent;
+import za.ac.cput.event.WorkerProfileEvent;
+import za.ac.cput.repository.WorkerProfileRepository;
+import za.ac.cput.search.JobMatchScorer;
+import za.ac.cput.search.WorkerMatchIndex;
+import za.ac.cput.search.WorkerMatchProfile;
+
+import java.util.List;
+
+/**
+ * Sends job alerts to the available, verified workers whose skills and location match a newly
+ * posted job. Matching runs over an in-memory skill -> worker posting list, and the fan-out runs
+ * on the async executor after the posting transaction commits, so postJob never waits for it.
+ */
+@Service
+public class JobAlertService {
+
+    private final WorkerProfileRepository workerProfileRepository;
+    private final NotificationService notificationService;
+    private final int batchSize;
+    private final WorkerMatchIndex workerIndex = new WorkerMatchIndex();
+
+    @Autowired
+    public JobAlertService(WorkerProfileRepository workerProfileRepository,
+                           NotificationService notificationService,
+                           @Value("${app.job-alerts.batch-size:1000}") int batchSize) {
+        this.workerProfileRepository = workerProfileRepository;
+        this.notificationService = notificationService;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadWorkers() {
+        workerProfileRepository.findAvailableVerifiedWithSkills()
+                .forEach(profile -> workerIndex.put(WorkerMatchProfile.of(profile)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onWorkerProfileEvent(WorkerProfileEvent event) {
+        String profileId = event.getProfileId();
+        if (event.getType() == WorkerProfileEvent.Type.DELETED) {
+            workerIndex.remove(profileId);
+            return;
+        }
+        workerProfileRepository.findByIdWithSkills(profileId)
+                .filter(JobAlertService::canReceiveAlerts)
+                .ifPresentOrElse(
+                        profile -> workerIndex.put(WorkerMatchProfile.of(profile)),
+                        () -> workerIndex.remove(profileId));
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobEvent(JobEvent event) {
+        if (event.getType() == JobEvent.Type.CREATED && event.isOpen()) {
+            sendJobAlerts(event.getJob());
+        }
+    }
+
+    // Returns the number of workers alerted
+    public int sendJobAlerts(Job job) {
+        String clientId = job.getClient().getUserId();
+        List<String> recipients = workerIndex.match(JobMatchScorer.termsOf(job), job.getLocation()).stream()
+                .map(WorkerMatchProfile::getUserId)
+                .filter(userId -> userId != null && !userId.equals(clientId))
+                .distinct()
+                .toList();
+
+        String message = "New job matching your skills: '" + job.getTitle() + "'" +
+                (job.getLocation() != null ? " in " + job.getLocation() : "");
+        for (int from = 0; from < recipients.size(); from += batchSize) {
+            notificationService.createJobAlerts(
+                    recipients.subList(from, Math.min(from + batchSize, recipients.size())), message);
+        }
+        return recipients.size();
+    }
+
+    public int countAlertableWorkers() {
+        return workerIndex.size();
+    }
+
+    private static boolean canReceiveAlerts(WorkerProfile profile) {
+        return profile.getAvailabilityStatus() == WorkerProfile.AvailabilityStatus.AVAILABLE &&
+                profile.getVerificationStatus() == WorkerProfile.VerificationStatus.VERIFIED;
+    }
+}
@@ -0,0 +1,203 @@
+package za.ac.cput.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import za.ac.cput.domain.Job;
+import za.ac.cput.domain.WorkerProfile;
+import za.ac.cput.event.JobEvent;
+import za.ac.cput.event.WorkerProfileEvent;
+import za.ac.cput.repository.JobRepository;
+import za.ac.cput.repository.WorkerProfileRepository;
+import za.ac.cput.search.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Recommends open jobs to workers. Open jobs are held in memory with a term -> job posting list, so
+ * building a worker's feed only touches jobs sharing a term with the worker's skills. Feeds are kept
+ * per worker as a top-N heap and updated in place as jobs are posted, changed or closed; a second
+ * posting list (term -> workers with a live feed) finds the feeds a new job belongs in.
+ *
+ * Feeds hold job IDs and scores only; jobs are resolved against the open-job index when read, so a
+ * job closed since it was scored simply drops out. At most max-feeds feeds are kept, and a feed is
+ * rebuilt once it is older than feed-ttl, which also bounds how long a missed profile change lasts.
+ */
+@Service
+public class JobRecommendationService {
+
+    private final JobRepository jobRepository;
+    private final WorkerProfileRepository workerProfileRepository;
+    private final int feedSize;
+    private final Duration feedTtl;
+    private final Clock clock;
+
+    private final Map<String, Job> openJobs = new ConcurrentHashMap<>();
+    private final TermPostings jobPostings = new TermPostings();
+    private final Map<String, TopNFeed> feeds;
+    private final TermPostings feedSubscriptions = new TermPostings();
+
+    @Autowired
+    public JobRecommendationService(JobRepository jobRepository,
+                                    WorkerProfileRepository workerProfileRepository,
+                                    @Value("${app.recommendations.feed-size:50}") int feedSize,
+                                    @Value("${app.recommendations.max-feeds:10000}") int maxFeeds,
+                                    @Value("${app.recommendations.feed-ttl:30m}") Duration feedTtl) {
+        this.jobRepository = jobRepository;
+        this.workerProfileRepository = workerProfileRepository;
+        this.feedSize = feedSize;
+        this.feedTtl = feedTtl;
+        this.clock = Clock.systemUTC();
+        // insertion order is build order, so the eldest feed is also the first to expire
+        this.feeds = Collections.synchronizedMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TopNFeed> eldest) {
+                if (size() <= maxFeeds) {
+                    return false;
+                }
+                feedSubscriptions.remove(eldest.getKey());
+                return true;
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadOpenJobs() {
+        jobRepository.findOpenJobs().forEach(this::indexJob);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobEvent(JobEvent event) {
+        if (event.isOpen()) {
+            indexJob(event.getJob());
+        } else {
+            removeJob(event.getJob().getJobId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkerProfileEvent(WorkerProfileEvent event) {
+        // skills, rate or location may have changed; rebuild on next read
+        feeds.remove(event.getProfileId());
+        feedSubscriptions.remove(event.getProfileId());
+    }
+
+    @Transactional(readOnly = true)
+    public List<ScoredJob> recommendJobs(String profileId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        TopNFeed feed = feeds.get(profileId);
+        if (feed == null || feed.isStale() || isExpired(feed, clock.millis())) {
+            feed = buildFeed(profileId);
+        }
+        List<ScoredJob> recommended = new ArrayList<>();
+        for (TopNFeed.Entry entry : feed.top(limit)) {
+            Job job = openJobs.get(entry.jobId());
+            if (job != null) {
+                recommended.add(new ScoredJob(job, entry.score()));
+            }
+        }
+        return recommended;
+    }
+
+    public int countIndexedJobs() {
+        return openJobs.size();
+    }
+
+    public int countCachedFeeds() {
+        return feeds.size();
+    }
+
+    @Scheduled(fixedRate = 60_000)
+    public void purgeExpiredFeeds() {
+        long now = clock.millis();
+        synchronized (feeds) {
+            feeds.entrySet().removeIf(entry -> {
+                if (!isExpired(entry.getValue(), now)) {
+                    return false;
+                }
+                feedSubscriptions.remove(entry.getKey());
+                return true;
+            });
+        }
+    }
+
+    private boolean isExpired(TopNFeed feed, long now) {
+        return now - feed.getCreatedAt() >= feedTtl.toMillis();
+    }
+
+    private TopNFeed buildFeed(String profileId) {
+        WorkerProfile profile = workerProfileRepository.findById(profileId)
+                .orElseThrow(() -> new RuntimeException("Worker profile not found with ID: " + profileId));
+        WorkerMatchProfile worker = WorkerMatchProfile.of(profile);
+
+        // subscribe before scanning so a job posted meanwhile is offered rather than missed
+        TopNFeed feed = new TopNFeed(worker, feedSize, clock.millis());
+        synchronized (feeds) {
+            // re-inserted rather than replaced, so a rebuilt feed moves to the young end
+            feeds.remove(profileId);
+            feeds.put(profileId, feed);
+        }
+        feedSubscriptions.put(profileId, worker.getSkillTerms());
+
+        jobPostings.matchCounts(worker.getSkillTerms()).forEach((jobId, matched) -> {
+            Job job = openJobs.get(jobId);
+            if (job != null) {
+                feed.offer(jobId, JobMatchScorer.score(worker, job, matched, jobPostings.termsOf(jobId).size()));
+            }
+        });
+        return feed;
+    }
+
+    private void indexJob(Job job) {
+        String jobId = job.getJobId();
+        Set<String> previousTerms = jobPostings.termsOf(jobId);
+        Set<String> terms = JobMatchScorer.termsOf(job);
+
+        openJobs.put(jobId, job);
+        jobPostings.put(jobId, terms);
+
+        Map<String, Integer> matchingFeeds = feedSubscriptions.matchCounts(terms);
+        // feeds that matched the old wording but not the new one
+        for (String profileId : feedSubscriptions.matchCounts(previousTerms).keySet()) {
+            if (!matchingFeeds.containsKey(profileId)) {
+                TopNFeed feed = feeds.get(profileId);
+                if (feed != null) {
+                    feed.remove(jobId);
+                }
+            }
+        }
+        matchingFeeds.forEach((profileId, matched) -> {
+            TopNFeed feed = feeds.get(profileId);
+            if (feed != null) {
+                feed.offer(jobId, JobMatchScorer.score(feed.getWorker(), job, matched, terms.size()));
+            }
+        });
+    }
+
+    private void removeJob(String jobId) {
+        for (String profileId : feedSubscriptions.matchCounts(jobPostings.termsOf(jobId)).keySet()) {
+            TopNFeed feed = feeds.get(profileId);
+            if (feed != null) {
+                feed.remove(jobId);
+            }
+        }
+        jobPostings.remove(jobId);
+        openJobs.remove(jobId);
+    }
+}
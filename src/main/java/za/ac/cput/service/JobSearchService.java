@@ -0,0 +1,101 @@
+package za.ac.cput.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import za.ac.cput.domain.Job;
+import za.ac.cput.event.JobEvent;
+import za.ac.cput.repository.JobRepository;
+import za.ac.cput.search.JobFacetIndex;
+import za.ac.cput.search.JobFacetQuery;
+import za.ac.cput.search.JobSearchResult;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Faceted job browsing. Filtering, ordering and the category / location / budget band / status
+ * counts all come from an in-memory JobFacetIndex kept in step with JobService's events; only the
+ * requested page of jobs is then loaded from the database by primary key.
+ */
+@Service
+public class JobSearchService {
+
+    private final JobRepository jobRepository;
+    private final JobFacetIndex facetIndex = new JobFacetIndex();
+    // Jobs changed by events while the startup load was running; null once it has finished
+    private Set<String> changedDuringLoad = new HashSet<>();
+
+    @Autowired
+    public JobSearchService(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        List<JobRepository.FacetColumns> rows = jobRepository.findFacetColumns();
+        // an event for a job is at least as new as the snapshot row, so rows never overwrite it
+        synchronized (this) {
+            rows.stream()
+                    .filter(row -> !changedDuringLoad.contains(row.getJobId()))
+                    .forEach(row -> facetIndex.put(row.getJobId(), row.getCategory(), row.getLocation(),
+                            budgetOf(row.getBudget()), epochMillis(row.getDatePosted()), row.getStatus()));
+            changedDuringLoad = null;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onJobEvent(JobEvent event) {
+        Job job = event.getJob();
+        if (changedDuringLoad != null) {
+            changedDuringLoad.add(job.getJobId());
+        }
+        if (event.getType() == JobEvent.Type.DELETED || job.getStatus() == null) {
+            facetIndex.remove(job.getJobId());
+            return;
+        }
+        facetIndex.put(job.getJobId(), job.getCategory(), job.getLocation(),
+                budgetOf(job.getBudget()), epochMillis(job.getDatePosted()), job.getStatus());
+    }
+
+    @Transactional(readOnly = true)
+    public JobSearchResult search(JobFacetQuery query, int page, int size) {
+        if (page < 0 || size <= 0) {
+            throw new IllegalArgumentException("Page must be non-negative and size must be positive");
+        }
+        // offsets past Integer.MAX_VALUE are past every match anyway
+        long offset = (long) page * size;
+        JobFacetIndex.Result result = facetIndex.search(query, (int) Math.min(offset, Integer.MAX_VALUE), size);
+
+        Map<String, Job> jobs = jobRepository.findAllById(result.getJobIds()).stream()
+                .collect(Collectors.toMap(Job::getJobId, Function.identity()));
+        List<Job> pageOfJobs = result.getJobIds().stream()
+                .map(jobs::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new JobSearchResult(pageOfJobs, page, size, result);
+    }
+
+    public int countIndexedJobs() {
+        return facetIndex.size();
+    }
+
+    private static double budgetOf(Double budget) {
+        return budget != null ? budget : 0.0;
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+    }
+}
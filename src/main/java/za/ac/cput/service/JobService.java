@@ -1,15 +1,22 @@
 package za.ac.cput.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import za.ac.cput.cache.RequestReadCache;
+import za.ac.cput.domain.ActivityFeedEntry;
 import za.ac.cput.domain.Job;
 import za.ac.cput.domain.User;
+import za.ac.cput.event.JobEvent;
 import za.ac.cput.repository.JobRepository;
 import za.ac.cput.factory.JobFactory;
 import za.ac.cput.util.ValidationHelper;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -17,10 +24,20 @@ import java.util.List;
 public class JobService implements IService<Job, String> {
 
     private final JobRepository jobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ActivityFeedService activityFeedService;
+    private final RequestReadCache readCache;
+    private final int maxHighestPayingLimit;
 
     @Autowired
-    public JobService(JobRepository jobRepository) {
+    public JobService(JobRepository jobRepository, ApplicationEventPublisher eventPublisher,
+                      ActivityFeedService activityFeedService, RequestReadCache readCache,
+                      @Value("${app.jobs.highest-paying.max-limit:100}") int maxHighestPayingLimit) {
         this.jobRepository = jobRepository;
+        this.eventPublisher = eventPublisher;
+        this.activityFeedService = activityFeedService;
+        this.readCache = readCache;
+        this.maxHighestPayingLimit = maxHighestPayingLimit;
     }
 
     @Override
@@ -29,13 +46,23 @@ public class JobService implements IService<Job, String> {
         if (!result.isValid()) {
             throw new IllegalArgumentException("Invalid job data: " + result.getErrorMessage());
         }
-        return jobRepository.save(job);
+        Job savedJob = jobRepository.save(job);
+        eventPublisher.publishEvent(JobEvent.created(savedJob));
+        activityFeedService.record(savedJob.getClient(), ActivityFeedEntry.ActivityType.JOB_POSTED,
+                savedJob.getJobId(), "You posted '" + savedJob.getTitle() + "'");
+        return savedJob;
     }
 
     @Override
     public Job read(String jobId) {
-        return jobRepository.findById(jobId)
-                .orElseThrow(() -> new RuntimeException("Job not found with ID: " + jobId));
+        return readCache.read(Job.class, jobId, () -> jobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Job not found with ID: " + jobId)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BatchReadResult<Job, String> readAll(Collection<String> jobIds) {
+        return BatchReadResult.load(jobIds, jobRepository::findAllById, Job::getJobId);
     }
 
     @Override
@@ -49,13 +76,16 @@ public class JobService implements IService<Job, String> {
             throw new IllegalArgumentException("Invalid job data: " + result.getErrorMessage());
         }
 
-        return jobRepository.save(job);
+        Job savedJob = jobRepository.save(job);
+        eventPublisher.publishEvent(JobEvent.updated(savedJob));
+        return savedJob;
     }
 
     @Override
     public Job delete(String jobId) {
         Job job = read(jobId);
         jobRepository.deleteById(jobId);
+        eventPublisher.publishEvent(JobEvent.deleted(job));
         return job;
     }
 
@@ -93,46 +123,68 @@ public class JobService implements IService<Job, String> {
             throw new IllegalStateException("Cannot cancel completed job");
         }
 
-        return update(new Job.Builder().copy(job).setStatus(Job.JobStatus.CANCELLED).build());
+        Job cancelledJob = update(new Job.Builder().copy(job).setStatus(Job.JobStatus.CANCELLED).build());
+        activityFeedService.record(job.getClient(), ActivityFeedEntry.ActivityType.JOB_CANCELLED,
+                jobId, "You cancelled '" + job.getTitle() + "'");
+        return cancelledJob;
     }
 
+    @Transactional(readOnly = true)
     public List<Job> findOpenJobs() {
         return jobRepository.findOpenJobs();
     }
 
+    @Transactional(readOnly = true)
     public List<Job> findJobsByClient(User client) {
         return jobRepository.findByClient(client);
     }
 
+    @Transactional(readOnly = true)
     public List<Job> findJobsByCategory(String category) {
         return jobRepository.findByCategory(category);
     }
 
+    @Transactional(readOnly = true)
     public List<Job> findJobsByLocation(String location) {
         return jobRepository.findByLocation(location);
     }
 
+    @Transactional(readOnly = true)
     public List<Job> searchJobs(String keyword) {
         return jobRepository.searchByKeyword(keyword);
     }
 
+    @Transactional(readOnly = true)
     public List<Job> findJobsByBudgetRange(Double minBudget, Double maxBudget) {
         return jobRepository.findByBudgetRange(minBudget, maxBudget);
     }
 
+    @Transactional(readOnly = true)
     public List<Job> findRecentJobs(int days) {
         LocalDateTime date = LocalDateTime.now().minusDays(days);
         return jobRepository.findRecentJobs(date);
     }
 
+    @Transactional(readOnly = true)
     public List<Job> findHighestPayingJobs() {
         return jobRepository.findHighestPayingJobs();
     }
 
+    @Transactional(readOnly = true)
+    // At most app.jobs.highest-paying.max-limit jobs, however many are asked for
+    public List<Job> findHighestPayingJobs(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return jobRepository.findHighestPayingJobs(Limit.of(Math.min(limit, maxHighestPayingLimit)));
+    }
+
+    @Transactional(readOnly = true)
     public List<Job> findJobsByCategories(List<String> categories) {
         return jobRepository.findByCategoriesIn(categories);
     }
 
+    @Transactional(readOnly = true)
     public Long countJobsByStatus(Job.JobStatus status) {
         return jobRepository.countByStatus(status);
     }
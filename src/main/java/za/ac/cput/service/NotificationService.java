@@ -6,23 +6,31 @@ import org.springframework.transaction.annotation.Transactional;
 import za.ac.cput.domain.Notification;
 import za.ac.cput.domain.User;
 import za.ac.cput.repository.NotificationRepository;
+import za.ac.cput.repository.UserRepository;
 import za.ac.cput.factory.NotificationFactory;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @Transactional
 public class NotificationService implements IService<Notification, String> {
 
     private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
 
     @Autowired
-    public NotificationService(NotificationRepository notificationRepository) {
+    public NotificationService(NotificationRepository notificationRepository, UserRepository userRepository) {
         this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
     }
 
     @Override
     public Notification create(Notification notification) {
+        if (notification == null) {
+            throw new IllegalArgumentException("Invalid notification data");
+        }
         return notificationRepository.save(notification);
     }
 
@@ -32,6 +40,12 @@ public class NotificationService implements IService<Notification, String> {
                 .orElseThrow(() -> new RuntimeException("Notification not found with ID: " + notificationId));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BatchReadResult<Notification, String> readAll(Collection<String> notificationIds) {
+        return BatchReadResult.load(notificationIds, notificationRepository::findAllById, Notification::getNotificationId);
+    }
+
     @Override
     public Notification update(Notification notification) {
         return notificationRepository.save(notification);
@@ -61,6 +75,37 @@ public class NotificationService implements IService<Notification, String> {
         return create(NotificationFactory.createSystemNotification(user, message));
     }
 
+    // All or nothing: a null (what the factory returns for invalid input) fails the whole batch, as in create()
+    public List<Notification> createAll(List<Notification> notifications) {
+        if (notifications.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Invalid notification data");
+        }
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+        return notificationRepository.insertAll(notifications);
+    }
+
+    public List<Notification> createApplicationUpdates(List<User> users, String message) {
+        return createAll(users.stream()
+                .map(user -> NotificationFactory.createApplicationUpdate(user, message))
+                .toList());
+    }
+
+    // Recipients are referenced by ID only, so no user rows are loaded
+    public List<Notification> createJobAlerts(List<String> userIds, String message) {
+        return createAll(userIds.stream()
+                .map(userId -> NotificationFactory.createJobAlert(userRepository.getReferenceById(userId), message))
+                .toList());
+    }
+
+    // Same message to many users in one batch; recipients are referenced by ID only
+    public List<Notification> createSystemNotifications(List<String> userIds, String message) {
+        return createAll(userIds.stream()
+                .map(userId -> NotificationFactory.createSystemNotification(userRepository.getReferenceById(userId), message))
+                .toList());
+    }
+
     public Notification markAsRead(String notificationId) {
         Notification notification = read(notificationId);
         return update(new Notification.Builder()
@@ -79,18 +124,22 @@ public class NotificationService implements IService<Notification, String> {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<Notification> findNotificationsByUser(User user) {
         return notificationRepository.findByUserOrderByDateSentDesc(user);
     }
 
+    @Transactional(readOnly = true)
     public List<Notification> findUnreadNotifications(User user) {
         return notificationRepository.findUnreadByUser(user);
     }
 
+    @Transactional(readOnly = true)
     public Long countUnreadNotifications(User user) {
         return notificationRepository.countUnreadByUser(user);
     }
 
+    @Transactional(readOnly = true)
     public List<Notification> findNotificationsByType(Notification.NotificationType type) {
         return notificationRepository.findByType(type);
     }
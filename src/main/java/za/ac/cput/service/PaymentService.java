@@ -3,14 +3,17 @@ package za.ac.cput.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import za.ac.cput.domain.ActivityFeedEntry;
 import za.ac.cput.domain.Contract;
 import za.ac.cput.domain.Payment;
 import za.ac.cput.domain.User;
 import za.ac.cput.repository.PaymentRepository;
+import za.ac.cput.factory.NotificationFactory;
 import za.ac.cput.factory.PaymentFactory;
 import za.ac.cput.util.ValidationHelper;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -19,12 +22,15 @@ public class PaymentService implements IService<Payment, String> {
 
     private final PaymentRepository paymentRepository;
     private final NotificationService notificationService;
+    private final ActivityFeedService activityFeedService;
 
     @Autowired
     public PaymentService(PaymentRepository paymentRepository,
-                          NotificationService notificationService) {
+                          NotificationService notificationService,
+                          ActivityFeedService activityFeedService) {
         this.paymentRepository = paymentRepository;
         this.notificationService = notificationService;
+        this.activityFeedService = activityFeedService;
     }
 
     @Override
@@ -41,6 +47,10 @@ public class PaymentService implements IService<Payment, String> {
 
         // Notify relevant parties
         notifyPaymentCreated(savedPayment);
+        activityFeedService.recordForAll(
+                List.of(payment.getContract().getClient(), payment.getContract().getWorker()),
+                ActivityFeedEntry.ActivityType.PAYMENT_CREATED, savedPayment.getPaymentId(),
+                "Payment of R" + payment.getAmount() + " created for '" + payment.getContract().getJob().getTitle() + "'");
 
         return savedPayment;
     }
@@ -51,6 +61,12 @@ public class PaymentService implements IService<Payment, String> {
                 .orElseThrow(() -> new RuntimeException("Payment not found with ID: " + paymentId));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BatchReadResult<Payment, String> readAll(Collection<String> paymentIds) {
+        return BatchReadResult.load(paymentIds, paymentRepository::findAllById, Payment::getPaymentId);
+    }
+
     @Override
     public Payment update(Payment payment) {
         if (!paymentRepository.existsById(payment.getPaymentId())) {
@@ -121,17 +137,19 @@ public class PaymentService implements IService<Payment, String> {
                 .setDateProcessed(LocalDateTime.now())
                 .build());
 
-        // Notify worker about payment release
-        notificationService.createPaymentNotification(
-                payment.getContract().getWorker(),
-                "Payment of R" + payment.getAmount() + " has been released to you"
-        );
-
-        // Notify client about payment release
-        notificationService.createPaymentNotification(
-                payment.getContract().getClient(),
-                "Payment of R" + payment.getAmount() + " has been released to the worker"
-        );
+        // Notify worker and client about payment release in one batched insert
+        notificationService.createAll(List.of(
+                NotificationFactory.createPaymentNotification(
+                        payment.getContract().getWorker(),
+                        "Payment of R" + payment.getAmount() + " has been released to you"),
+                NotificationFactory.createPaymentNotification(
+                        payment.getContract().getClient(),
+                        "Payment of R" + payment.getAmount() + " has been released to the worker")
+        ));
+        activityFeedService.recordForAll(
+                List.of(payment.getContract().getClient(), payment.getContract().getWorker()),
+                ActivityFeedEntry.ActivityType.PAYMENT_RELEASED, paymentId,
+                "Payment of R" + payment.getAmount() + " released for '" + payment.getContract().getJob().getTitle() + "'");
 
         return releasedPayment;
     }
@@ -154,64 +172,80 @@ public class PaymentService implements IService<Payment, String> {
                 payment.getContract().getClient(),
                 "Payment of R" + payment.getAmount() + " has been refunded. Reason: " + reason
         );
+        activityFeedService.record(payment.getContract().getClient(), ActivityFeedEntry.ActivityType.PAYMENT_REFUNDED,
+                paymentId, "Payment of R" + payment.getAmount() + " refunded");
 
         return refundedPayment;
     }
 
+    @Transactional(readOnly = true)
     public List<Payment> findPaymentsByContract(Contract contract) {
         return paymentRepository.findByContract(contract);
     }
 
+    @Transactional(readOnly = true)
     public List<Payment> findPaymentsByStatus(Payment.PaymentStatus status) {
         return paymentRepository.findByStatus(status);
     }
 
+    @Transactional(readOnly = true)
     public List<Payment> findPendingPayments() {
         return paymentRepository.findPendingPayments();
     }
 
+    @Transactional(readOnly = true)
     public List<Payment> findEscrowPayments() {
         return paymentRepository.findEscrowPayments();
     }
 
+    @Transactional(readOnly = true)
     public List<Payment> findPaymentsByClient(User client) {
         return paymentRepository.findByContractClient(client);
     }
 
+    @Transactional(readOnly = true)
     public List<Payment> findPaymentsByWorker(User worker) {
         return paymentRepository.findByContractWorker(worker);
     }
 
+    @Transactional(readOnly = true)
     public List<Payment> findPaymentsByMethod(Payment.PaymentMethod method) {
         return paymentRepository.findByMethod(method);
     }
 
+    @Transactional(readOnly = true)
     public List<Payment> findPaymentsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
         return paymentRepository.findByDateProcessedBetween(startDate, endDate);
     }
 
+    @Transactional(readOnly = true)
     public List<Payment> findRecentPayments(int days) {
         LocalDateTime date = LocalDateTime.now().minusDays(days);
         return paymentRepository.findRecentPayments(date);
     }
 
+    @Transactional(readOnly = true)
     public List<Payment> findStuckPayments(int days) {
         LocalDateTime date = LocalDateTime.now().minusDays(days);
         return paymentRepository.findStuckPayments(date);
     }
 
+    @Transactional(readOnly = true)
     public Double getTotalEscrowAmount() {
         return paymentRepository.getTotalEscrowAmount();
     }
 
+    @Transactional(readOnly = true)
     public Double getTotalAmountByStatus(Payment.PaymentStatus status) {
         return paymentRepository.getTotalAmountByStatus(status);
     }
 
+    @Transactional(readOnly = true)
     public Long countPaymentsByStatus(Payment.PaymentStatus status) {
         return paymentRepository.countByStatus(status);
     }
 
+    @Transactional(readOnly = true)
     public Long countPaymentsByMethod(Payment.PaymentMethod method) {
         return paymentRepository.countByMethod(method);
     }
@@ -0,0 +1,41 @@
+package za.ac.cput.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Orders the verification review queue. A verification's priority time is its submission time moved
+ * earlier by a boost for the submitting user's recent activity, so the queue is served oldest first
+ * while an active user's documents jump ahead by a bounded amount. Age keeps counting after
+ * submission, so nothing waits behind newer, busier users for longer than the maximum boost.
+ */
+@Component
+public class ReviewPriorityPolicy {
+
+    private final Duration activityWindow;
+    private final Duration boostPerActivity;
+    private final Duration maxBoost;
+
+    @Autowired
+    public ReviewPriorityPolicy(@Value("${app.review-queue.activity-window:30d}") Duration activityWindow,
+                                @Value("${app.review-queue.boost-per-activity:1h}") Duration boostPerActivity,
+                                @Value("${app.review-queue.max-boost:48h}") Duration maxBoost) {
+        this.activityWindow = activityWindow;
+        this.boostPerActivity = boostPerActivity;
+        this.maxBoost = maxBoost;
+    }
+
+    // Start of the window whose activity counts towards the boost
+    public LocalDateTime activitySince(LocalDateTime submittedAt) {
+        return submittedAt.minus(activityWindow);
+    }
+
+    public LocalDateTime priorityAt(LocalDateTime submittedAt, long recentActivity) {
+        long boostMillis = Math.min(maxBoost.toMillis(), boostPerActivity.toMillis() * Math.max(0, recentActivity));
+        return submittedAt.minus(Duration.ofMillis(boostMillis));
+    }
+}
@@ -3,6 +3,7 @@ package za.ac.cput.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import za.ac.cput.cache.RequestReadCache;
 import za.ac.cput.domain.Contract;
 import za.ac.cput.domain.Review;
 import za.ac.cput.domain.User;
@@ -11,6 +12,7 @@ import za.ac.cput.factory.ReviewFactory;
 import za.ac.cput.util.ValidationHelper;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -20,14 +22,17 @@ public class ReviewService implements IService<Review, String> {
     private final ReviewRepository reviewRepository;
     private final NotificationService notificationService;
     private final UserService userService;
+    private final RequestReadCache readCache;
 
     @Autowired
     public ReviewService(ReviewRepository reviewRepository,
                          NotificationService notificationService,
-                         UserService userService) {
+                         UserService userService,
+                         RequestReadCache readCache) {
         this.reviewRepository = reviewRepository;
         this.notificationService = notificationService;
         this.userService = userService;
+        this.readCache = readCache;
     }
 
     @Override
@@ -58,6 +63,12 @@ public class ReviewService implements IService<Review, String> {
                 .orElseThrow(() -> new RuntimeException("Review not found with ID: " + reviewId));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BatchReadResult<Review, String> readAll(Collection<String> reviewIds) {
+        return BatchReadResult.load(reviewIds, reviewRepository::findAllById, Review::getReviewId);
+    }
+
     @Override
     public Review update(Review review) {
         if (!reviewRepository.existsById(review.getReviewId())) {
@@ -121,45 +132,57 @@ public class ReviewService implements IService<Review, String> {
         return createReview(contract, reviewer, reviewed, rating, null);
     }
 
+    @Transactional(readOnly = true)
     public List<Review> findReviewsByContract(Contract contract) {
         return reviewRepository.findByContract(contract);
     }
 
+    @Transactional(readOnly = true)
     public List<Review> findReviewsByReviewer(User reviewer) {
         return reviewRepository.findByReviewer(reviewer);
     }
 
+    @Transactional(readOnly = true)
     public List<Review> findReviewsByReviewed(User reviewed) {
         return reviewRepository.findByReviewed(reviewed);
     }
 
+    @Transactional(readOnly = true)
     public List<Review> findReviewsByRating(Integer rating) {
         return reviewRepository.findByRating(rating);
     }
 
+    @Transactional(readOnly = true)
     public List<Review> findReviewsWithMinimumRating(Integer minRating) {
         return reviewRepository.findByRatingGreaterThanEqual(minRating);
     }
 
+    @Transactional(readOnly = true)
     public List<Review> findRecentReviews(int days) {
         LocalDateTime date = LocalDateTime.now().minusDays(days);
         return reviewRepository.findRecentReviews(date);
     }
 
+    @Transactional(readOnly = true)
     public Double getAverageRatingForUser(User user) {
         Double averageRating = reviewRepository.getAverageRatingForUser(user);
         return averageRating != null ? Math.round(averageRating * 10.0) / 10.0 : null;
     }
 
+    @Transactional(readOnly = true)
     public Long countReviewsByRating(Integer rating) {
         return reviewRepository.countByRating(rating);
     }
 
+    @Transactional(readOnly = true)
     public boolean hasReviewed(Contract contract, User reviewer) {
-        List<Review> reviews = reviewRepository.findByContract(contract);
-        return reviews.stream().anyMatch(review -> review.getReviewer().equals(reviewer));
+        // Memoized under Review, so creating or deleting a review in this request invalidates it
+        return readCache.read(Review.class, "hasReviewed:" + contract.getContractId() + ":" + reviewer.getUserId(),
+                () -> reviewRepository.findByContract(contract).stream()
+                        .anyMatch(review -> review.getReviewer().equals(reviewer)));
     }
 
+    @Transactional(readOnly = true)
     public boolean canReview(Contract contract, User user) {
         // Can only review completed contracts
         if (contract.getStatus() != Contract.ContractStatus.COMPLETED) {
@@ -190,6 +213,7 @@ public class ReviewService implements IService<Review, String> {
         }
     }
 
+    @Transactional(readOnly = true)
     public List<Review> getTopRatedUserReviews(User user, int limit) {
         return reviewRepository.findByReviewed(user).stream()
                 .sorted((r1, r2) -> r2.getRating().compareTo(r1.getRating()))
@@ -197,6 +221,7 @@ public class ReviewService implements IService<Review, String> {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public boolean hasGoodRating(User user, double minimumRating) {
         Double averageRating = getAverageRatingForUser(user);
         return averageRating != null && averageRating >= minimumRating;
@@ -0,0 +1,69 @@
+package za.ac.cput.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import za.ac.cput.domain.Skill;
+import za.ac.cput.event.SkillEvent;
+import za.ac.cput.repository.SkillRepository;
+import za.ac.cput.search.SkillSuggestion;
+import za.ac.cput.search.SkillTrie;
+
+import java.util.List;
+
+/**
+ * Typeahead over skill names and categories. Lookups read an immutable SkillTrie snapshot; every
+ * skill write rebuilds the snapshot after commit and swaps it in, so readers never touch the
+ * database or wait on a lock. Rejected skills are not suggested.
+ */
+@Service
+public class SkillAutocompleteService {
+
+    private final SkillRepository skillRepository;
+    private final int topK;
+    private volatile SkillTrie trie = SkillTrie.EMPTY;
+
+    @Autowired
+    public SkillAutocompleteService(SkillRepository skillRepository,
+                                    @Value("${app.skills.autocomplete.top-k:20}") int topK) {
+        this.skillRepository = skillRepository;
+        this.topK = topK;
+    }
+
+    public List<SkillSuggestion> complete(String prefix, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return trie.complete(prefix, Math.min(limit, topK));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onSkillEvent(SkillEvent event) {
+        rebuild();
+    }
+
+    public int countIndexedSkills() {
+        return trie.size();
+    }
+
+    // Callers hold a read-only transaction; synchronized so overlapping writes cannot swap in an older snapshot
+    private synchronized void rebuild() {
+        List<SkillSuggestion> skills = skillRepository.findAll().stream()
+                .filter(skill -> skill.getVerificationStatus() != Skill.VerificationStatus.REJECTED)
+                .map(SkillSuggestion::of)
+                .toList();
+        trie = SkillTrie.build(skills, topK);
+    }
+}
@@ -1,25 +1,33 @@
 package za.ac.cput.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import za.ac.cput.cache.RequestReadCache;
 import za.ac.cput.domain.Skill;
+import za.ac.cput.event.SkillEvent;
 import za.ac.cput.repository.SkillRepository;
 import za.ac.cput.factory.SkillFactory;
 import za.ac.cput.util.ValidationHelper;
 
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
 public class SkillService implements IService<Skill, String> {
 
     private final SkillRepository skillRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public SkillService(SkillRepository skillRepository) {
+    public SkillService(SkillRepository skillRepository, ApplicationEventPublisher eventPublisher) {
         this.skillRepository = skillRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -34,7 +42,9 @@ public class SkillService implements IService<Skill, String> {
             throw new IllegalArgumentException("Skill with this name already exists");
         }
 
-        return skillRepository.save(skill);
+        Skill savedSkill = skillRepository.save(skill);
+        eventPublisher.publishEvent(SkillEvent.saved(savedSkill));
+        return savedSkill;
     }
 
     @Override
@@ -43,6 +53,12 @@ public class SkillService implements IService<Skill, String> {
                 .orElseThrow(() -> new RuntimeException("Skill not found with ID: " + skillId));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BatchReadResult<Skill, String> readAll(Collection<String> skillIds) {
+        return BatchReadResult.load(skillIds, skillRepository::findAllById, Skill::getSkillId);
+    }
+
     @Override
     public Skill update(Skill skill) {
         if (!skillRepository.existsById(skill.getSkillId())) {
@@ -60,13 +76,16 @@ public class SkillService implements IService<Skill, String> {
             throw new IllegalArgumentException("Skill with this name already exists");
         }
 
-        return skillRepository.save(skill);
+        Skill savedSkill = skillRepository.save(skill);
+        eventPublisher.publishEvent(SkillEvent.saved(savedSkill));
+        return savedSkill;
     }
 
     @Override
     public Skill delete(String skillId) {
         Skill skill = read(skillId);
         skillRepository.deleteById(skillId);
+        eventPublisher.publishEvent(SkillEvent.deleted(skill));
         return skill;
     }
 
@@ -113,6 +132,36 @@ public class SkillService implements IService<Skill, String> {
                 .build());
     }
 
+    // Bulk variants of verify/reject: one locking read and one guarded UPDATE for the whole list
+    public BulkModerationResult verifySkills(List<String> skillIds) {
+        return moderate(skillIds, EnumSet.of(Skill.VerificationStatus.PENDING, Skill.VerificationStatus.REJECTED),
+                Skill.VerificationStatus.VERIFIED);
+    }
+
+    public BulkModerationResult rejectSkills(List<String> skillIds) {
+        return moderate(skillIds, EnumSet.of(Skill.VerificationStatus.PENDING, Skill.VerificationStatus.VERIFIED),
+                Skill.VerificationStatus.REJECTED);
+    }
+
+    private BulkModerationResult moderate(List<String> skillIds, Set<Skill.VerificationStatus> from,
+                                          Skill.VerificationStatus to) {
+        List<String> ids = BulkModerationResult.distinctIds(skillIds);
+        BulkModerationResult result = BulkModerationResult.plan(ids,
+                BulkModerationResult.statusesById(skillRepository.lockForModeration(ids),
+                        SkillRepository.ModerationRow::getId, SkillRepository.ModerationRow::getStatus), from);
+        if (result.getUpdatedCount() == 0) {
+            return result;
+        }
+
+        int updated = skillRepository.updateVerificationStatus(result.getUpdatedIds(), from, to);
+        RequestReadCache.invalidateAfterBulkUpdate();
+        if (updated != result.getUpdatedCount()) {
+            throw new IllegalStateException("Skills changed during bulk moderation");
+        }
+        eventPublisher.publishEvent(SkillEvent.statusChanged(result.getUpdatedIds()));
+        return result;
+    }
+
     public Skill resetSkillVerification(String skillId) {
         Skill skill = read(skillId);
 
@@ -122,38 +171,47 @@ public class SkillService implements IService<Skill, String> {
                 .build());
     }
 
+    @Transactional(readOnly = true)
     public Optional<Skill> findByName(String name) {
         return skillRepository.findByName(name);
     }
 
+    @Transactional(readOnly = true)
     public List<Skill> findSkillsByCategory(String category) {
         return skillRepository.findByCategory(category);
     }
 
+    @Transactional(readOnly = true)
     public List<Skill> findSkillsByVerificationStatus(Skill.VerificationStatus status) {
         return skillRepository.findByVerificationStatus(status);
     }
 
+    @Transactional(readOnly = true)
     public List<Skill> findVerifiedSkills() {
         return skillRepository.findVerifiedSkills();
     }
 
+    @Transactional(readOnly = true)
     public List<Skill> findPendingSkills() {
         return skillRepository.findByVerificationStatus(Skill.VerificationStatus.PENDING);
     }
 
+    @Transactional(readOnly = true)
     public List<Skill> searchSkillsByName(String keyword) {
         return skillRepository.searchByName(keyword);
     }
 
+    @Transactional(readOnly = true)
     public List<Skill> findVerifiedSkillsByCategory(String category) {
         return skillRepository.findByCategoryAndVerificationStatus(category, Skill.VerificationStatus.VERIFIED);
     }
 
+    @Transactional(readOnly = true)
     public boolean skillExists(String name) {
         return skillRepository.existsByName(name);
     }
 
+    @Transactional(readOnly = true)
     public List<String> getAllCategories() {
         return skillRepository.findAll().stream()
                 .map(Skill::getCategory)
@@ -162,10 +220,12 @@ public class SkillService implements IService<Skill, String> {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<Skill> getSkillsRequiringVerification() {
         return findPendingSkills();
     }
 
+    @Transactional(readOnly = true)
     public long countSkillsByStatus(Skill.VerificationStatus status) {
         return skillRepository.findByVerificationStatus(status).size();
     }
@@ -2,24 +2,43 @@ package za.ac.cput.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import za.ac.cput.cache.RequestReadCache;
 import za.ac.cput.domain.User;
 import za.ac.cput.repository.UserRepository;
 import za.ac.cput.factory.UserFactory;
+import za.ac.cput.security.LoginAttemptLimiter;
+import za.ac.cput.security.PasswordHasher;
+import za.ac.cput.security.TokenRevocationCache;
 import za.ac.cput.util.ValidationHelper;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
 public class UserService implements IService<User, String> {
 
     private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final TokenRevocationCache tokenRevocationCache;
+    private final RequestReadCache readCache;
 
     @Autowired
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository,
+                       PasswordHasher passwordHasher,
+                       LoginAttemptLimiter loginAttemptLimiter,
+                       TokenRevocationCache tokenRevocationCache,
+                       RequestReadCache readCache) {
         this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.loginAttemptLimiter = loginAttemptLimiter;
+        this.tokenRevocationCache = tokenRevocationCache;
+        this.readCache = readCache;
     }
 
     @Override
@@ -29,42 +48,68 @@ public class UserService implements IService<User, String> {
             throw new IllegalArgumentException("Invalid user data: " + result.getErrorMessage());
         }
 
+        // Hash before the first query so no connection is held while hashing
+        String passwordHash = passwordHasher.hash(user.getPassword());
+
         if (userRepository.existsByEmail(user.getEmail())) {
             throw new IllegalArgumentException("Email already exists");
         }
 
-        // Save password as-is for now (plain text)
-        return userRepository.save(user);
+        return userRepository.save(new User.Builder().copy(user).setPassword(passwordHash).build());
     }
 
     @Override
     public User read(String userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found with ID: " + userId));
+        return readCache.read(User.class, userId, () -> userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found with ID: " + userId)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BatchReadResult<User, String> readAll(Collection<String> userIds) {
+        return BatchReadResult.load(userIds, userRepository::findAllById, User::getUserId);
     }
 
+    // A password that differs from the stored hash is new raw input and is hashed like in create().
+    // Changing the password or anything a token carries (roles, mode, status) revokes the user's tokens
     @Override
     public User update(User user) {
-        if (!userRepository.existsById(user.getUserId())) {
-            throw new RuntimeException("User not found");
-        }
+        User stored = userRepository.findById(user.getUserId())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        boolean passwordChanged = !stored.getPassword().equals(user.getPassword());
 
-        ValidationHelper.ValidationResult result = ValidationHelper.validateUser(user);
+        ValidationHelper.ValidationResult result = passwordChanged
+                ? ValidationHelper.validateUser(user)
+                : ValidationHelper.validateUserWithStoredPassword(user);
         if (!result.isValid()) {
             throw new IllegalArgumentException("Invalid user data: " + result.getErrorMessage());
         }
 
-        return userRepository.save(user);
+        // compared before saving, which merges the new state into the stored instance
+        boolean claimsChanged = passwordChanged
+                || stored.getStatus() != user.getStatus()
+                || stored.getCurrentMode() != user.getCurrentMode()
+                || !Set.copyOf(stored.getRoles()).equals(Set.copyOf(user.getRoles()));
+
+        User saved = userRepository.save(passwordChanged
+                ? new User.Builder().copy(user).setPassword(passwordHasher.hash(user.getPassword())).build()
+                : user);
+        if (claimsChanged) {
+            tokenRevocationCache.revoke(user.getUserId());
+        }
+        return saved;
     }
 
     @Override
     public User delete(String userId) {
         User user = read(userId);
         userRepository.deleteById(userId);
+        tokenRevocationCache.revoke(userId);
         return user;
     }
 
     // Business Logic Methods
+    @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
         return userRepository.findByEmail(email);
     }
@@ -78,10 +123,30 @@ public class UserService implements IService<User, String> {
         return create(newUser);
     }
 
-    public boolean authenticateUser(String email, String rawPassword) {
-        Optional<User> user = findByEmail(email);
-        // Plain text check
-        return user.isPresent() && rawPassword.equals(user.get().getPassword());
+    // Runs outside a transaction so no connection is held while the password is hashed.
+    // clientAddress scopes the failed-login lockout, so failures from one address cannot lock the account elsewhere
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean authenticateUser(String email, String rawPassword, String clientAddress) {
+        if (loginAttemptLimiter.isLocked(email, clientAddress)) {
+            return false;
+        }
+
+        Optional<User> user = userRepository.findByEmail(email);
+        String storedPassword = user.map(User::getPassword).orElse(null);
+        if (!passwordHasher.matches(rawPassword, storedPassword)) {
+            loginAttemptLimiter.recordFailure(email, clientAddress);
+            return false;
+        }
+        loginAttemptLimiter.recordSuccess(email, clientAddress);
+
+        // Hashes made with a lower work factor than the configured one are upgraded on a successful login
+        if (passwordHasher.needsRehash(storedPassword)) {
+            userRepository.save(new User.Builder()
+                    .copy(user.get())
+                    .setPassword(passwordHasher.hash(rawPassword))
+                    .build());
+        }
+        return true;
     }
 
     public User switchMode(String userId, User.Mode newMode) {
@@ -105,22 +170,27 @@ public class UserService implements IService<User, String> {
         return update(new User.Builder().copy(user).setStatus(User.Status.ACTIVE).build());
     }
 
+    @Transactional(readOnly = true)
     public List<User> findActiveUsers() {
         return userRepository.findActiveUsers();
     }
 
+    @Transactional(readOnly = true)
     public List<User> findUsersByRole(User.Role role) {
         return userRepository.findByRole(role);
     }
 
+    @Transactional(readOnly = true)
     public List<User> searchUsersByName(String name) {
         return userRepository.findByNameContaining(name);
     }
 
+    @Transactional(readOnly = true)
     public boolean emailExists(String email) {
         return userRepository.existsByEmail(email);
     }
 
+    @Transactional(readOnly = true)
     public List<User> findUsersWithWorkerProfile() {
         return userRepository.findUsersWithWorkerProfile();
     }
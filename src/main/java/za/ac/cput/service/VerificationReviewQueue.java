@@ -0,0 +1,110 @@
+package za.ac.cput.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import za.ac.cput.cache.RequestReadCache;
+import za.ac.cput.domain.Verification;
+import za.ac.cput.repository.VerificationRepository;
+import za.ac.cput.util.ValidationHelper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hands pending verifications to reviewing admins without overlap. A claim locks the next
+ * unleased verifications in priority order with FOR UPDATE SKIP LOCKED, so concurrent claims from
+ * other admins (or other instances) take the following rows instead of waiting, and stamps them
+ * with a lease. Leases expire; an expired lease is simply claimable again, which is how work held
+ * by an admin who walked away is picked up by the others. Approving or rejecting through the queue
+ * requires a live lease, and VerificationService refuses to decide a verification leased to another
+ * admin, so two admins never decide the same verification.
+ */
+@Service
+@Transactional
+public class VerificationReviewQueue {
+
+    private final VerificationRepository verificationRepository;
+    private final VerificationService verificationService;
+    private final Duration leaseDuration;
+    private final int maxClaim;
+
+    @Autowired
+    public VerificationReviewQueue(VerificationRepository verificationRepository,
+                                   VerificationService verificationService,
+                                   @Value("${app.review-queue.lease:10m}") Duration leaseDuration,
+                                   @Value("${app.review-queue.max-claim:50}") int maxClaim) {
+        this.verificationRepository = verificationRepository;
+        this.verificationService = verificationService;
+        this.leaseDuration = leaseDuration;
+        this.maxClaim = maxClaim;
+    }
+
+    // Tops the admin's live leases up to count and extends them all; a repeated claim returns the same work
+    public List<Verification> claim(String adminId, int count) {
+        if (ValidationHelper.isNullOrEmpty(adminId)) {
+            throw new IllegalArgumentException("Admin ID is required");
+        }
+        if (count <= 0 || count > maxClaim) {
+            throw new IllegalArgumentException("Count must be between 1 and " + maxClaim);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<String> ids = new ArrayList<>(verificationRepository.findLeasedTo(adminId, now).stream()
+                .map(Verification::getVerificationId)
+                .toList());
+        if (ids.size() < count) {
+            ids.addAll(verificationRepository.lockClaimable(now, count - ids.size()));
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        verificationRepository.lease(ids, adminId, now.plus(leaseDuration));
+        RequestReadCache.invalidateAfterBulkUpdate();
+        return verificationRepository.findLeasedTo(adminId, now);
+    }
+
+    // Returns how many of the given leases were still held and have been extended
+    public int renew(String adminId, List<String> verificationIds) {
+        if (verificationIds == null || verificationIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int renewed = verificationRepository.renewLeases(verificationIds, adminId, now, now.plus(leaseDuration));
+        RequestReadCache.invalidateAfterBulkUpdate();
+        return renewed;
+    }
+
+    public void release(String adminId, String verificationId) {
+        int released = verificationRepository.releaseLease(verificationId, adminId);
+        RequestReadCache.invalidateAfterBulkUpdate();
+        if (released == 0) {
+            throw new IllegalStateException("Verification is not leased to this admin");
+        }
+    }
+
+    public Verification approve(String adminId, String verificationId) {
+        requireLease(adminId, verificationId);
+        return verificationService.approveVerification(verificationId, adminId);
+    }
+
+    public Verification reject(String adminId, String verificationId, String reason) {
+        requireLease(adminId, verificationId);
+        return verificationService.rejectVerification(verificationId, reason, adminId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Verification> findLeasedTo(String adminId) {
+        return verificationRepository.findLeasedTo(adminId, LocalDateTime.now());
+    }
+
+    // Renewing is the check: it only succeeds on a live lease, and the row stays locked until commit
+    private void requireLease(String adminId, String verificationId) {
+        if (renew(adminId, List.of(verificationId)) == 0) {
+            throw new IllegalStateException("Verification is not leased to this admin");
+        }
+    }
+}
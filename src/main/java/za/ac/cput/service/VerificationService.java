@@ -2,28 +2,69 @@ package za.ac.cput.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import za.ac.cput.cache.RequestReadCache;
 import za.ac.cput.domain.User;
 import za.ac.cput.domain.Verification;
+import za.ac.cput.repository.ActivityFeedEntryRepository;
+import za.ac.cput.repository.UserRepository;
 import za.ac.cput.repository.VerificationRepository;
 import za.ac.cput.factory.VerificationFactory;
+import za.ac.cput.storage.ContentAddressedFileStore;
+import za.ac.cput.storage.DocumentPreviewGenerator;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class VerificationService implements IService<Verification, String> {
 
+    // Uploaded documents are served from here, followed by the content hash
+    public static final String DOCUMENT_PATH = "/api/verifications/documents/";
+
+    private static final List<Verification.DocumentType> REQUIRED_DOCUMENTS =
+            List.of(Verification.DocumentType.ID, Verification.DocumentType.CERTIFICATE);
+
     private final VerificationRepository verificationRepository;
+    private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final ActivityFeedEntryRepository activityFeedEntryRepository;
+    private final ReviewPriorityPolicy reviewPriorityPolicy;
+    private final ContentAddressedFileStore documentStore;
+    private final DocumentPreviewGenerator previewGenerator;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
     public VerificationService(VerificationRepository verificationRepository,
-                               NotificationService notificationService) {
+                               UserRepository userRepository,
+                               NotificationService notificationService,
+                               ActivityFeedEntryRepository activityFeedEntryRepository,
+                               ReviewPriorityPolicy reviewPriorityPolicy,
+                               ContentAddressedFileStore documentStore,
+                               DocumentPreviewGenerator previewGenerator,
+                               PlatformTransactionManager transactionManager) {
         this.verificationRepository = verificationRepository;
+        this.userRepository = userRepository;
         this.notificationService = notificationService;
+        this.activityFeedEntryRepository = activityFeedEntryRepository;
+        this.reviewPriorityPolicy = reviewPriorityPolicy;
+        this.documentStore = documentStore;
+        this.previewGenerator = previewGenerator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
@@ -32,7 +73,17 @@ public class VerificationService implements IService<Verification, String> {
             throw new IllegalArgumentException("Verification cannot be null");
         }
 
-        Verification savedVerification = verificationRepository.save(verification);
+        // Queue position: submission time, boosted by the user's recent activity
+        LocalDateTime submittedAt = verification.getDateSubmitted() != null
+                ? verification.getDateSubmitted()
+                : LocalDateTime.now();
+        long recentActivity = activityFeedEntryRepository.countByUserIdAndDateCreatedAfter(
+                verification.getUser().getUserId(), reviewPriorityPolicy.activitySince(submittedAt));
+
+        Verification savedVerification = verificationRepository.save(new Verification.Builder()
+                .copy(verification)
+                .setReviewPriorityAt(reviewPriorityPolicy.priorityAt(submittedAt, recentActivity))
+                .build());
 
         // Notify user that verification was submitted
         notificationService.createSystemNotification(
@@ -50,18 +101,30 @@ public class VerificationService implements IService<Verification, String> {
                 .orElseThrow(() -> new RuntimeException("Verification not found with ID: " + verificationId));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BatchReadResult<Verification, String> readAll(Collection<String> verificationIds) {
+        return BatchReadResult.load(verificationIds, verificationRepository::findAllById, Verification::getVerificationId);
+    }
+
+    // Every status change (approve, reject) goes through here, so the user's verified-document mask follows it
     @Override
     public Verification update(Verification verification) {
         if (!verificationRepository.existsById(verification.getVerificationId())) {
             throw new RuntimeException("Verification not found");
         }
-        return verificationRepository.save(verification);
+        Verification saved = verificationRepository.save(verification);
+        userRepository.refreshVerifiedDocumentMasks(List.of(saved.getUser().getUserId()));
+        RequestReadCache.invalidateAfterBulkUpdate();
+        return saved;
     }
 
     @Override
     public Verification delete(String verificationId) {
         Verification verification = read(verificationId);
         verificationRepository.deleteById(verificationId);
+        userRepository.refreshVerifiedDocumentMasks(List.of(verification.getUser().getUserId()));
+        RequestReadCache.invalidateAfterBulkUpdate();
         return verification;
     }
 
@@ -76,6 +139,43 @@ public class VerificationService implements IService<Verification, String> {
         return create(verification);
     }
 
+    // Streams the document into the store first, outside any transaction, so a slow upload never
+    // holds a connection; only the insert of the verification row runs in a transaction. The review
+    // preview is queued once the row has committed and is rendered off the request thread. If the
+    // insert fails, a file this upload added is removed again unless another verification uses it
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Verification submitVerification(User user, Verification.DocumentType documentType,
+                                           InputStream document, String verificationCode) throws IOException {
+        if (user == null || documentType == null || document == null) {
+            throw new IllegalArgumentException("Invalid verification creation data");
+        }
+        ContentAddressedFileStore.StoredFile stored = documentStore.store(document);
+        String documentUrl = DOCUMENT_PATH + stored.getSha256();
+        Verification verification;
+        try {
+            verification = transactionTemplate.execute(status ->
+                    submitVerification(user, documentType, documentUrl, verificationCode));
+        } catch (RuntimeException e) {
+            if (!stored.isDuplicate() && !verificationRepository.existsByDocumentUrl(documentUrl)) {
+                try {
+                    documentStore.delete(stored.getSha256());
+                } catch (IOException deleteError) {
+                    e.addSuppressed(deleteError);
+                }
+            }
+            throw e;
+        }
+        previewGenerator.submit(stored.getSha256());
+        return verification;
+    }
+
+    // Documents are only served to a user who submitted them in a verification
+    @Transactional(readOnly = true)
+    public boolean isDocumentOwner(String userId, String sha256) {
+        return userId != null && sha256 != null
+                && verificationRepository.existsByUserUserIdAndDocumentUrl(userId, DOCUMENT_PATH + sha256);
+    }
+
     public Verification submitIdVerification(User user, String documentUrl) {
         return submitVerification(user, Verification.DocumentType.ID, documentUrl, null);
     }
@@ -89,16 +189,19 @@ public class VerificationService implements IService<Verification, String> {
     }
 
     public Verification approveVerification(String verificationId, String approvedBy) {
+        requireReviewer(approvedBy);
         Verification verification = read(verificationId);
 
         if (verification.getStatus() != Verification.VerificationStatus.PENDING) {
             throw new IllegalStateException("Verification is not pending");
         }
+        requireNotLeasedElsewhere(verification, approvedBy);
 
         Verification approvedVerification = update(new Verification.Builder()
                 .copy(verification)
                 .setStatus(Verification.VerificationStatus.VERIFIED)
                 .setDateVerified(LocalDateTime.now())
+                .setReviewedBy(approvedBy)
                 .build());
 
         // Notify user of approval
@@ -111,17 +214,20 @@ public class VerificationService implements IService<Verification, String> {
         return approvedVerification;
     }
 
-    public Verification rejectVerification(String verificationId, String reason) {
+    public Verification rejectVerification(String verificationId, String reason, String rejectedBy) {
+        requireReviewer(rejectedBy);
         Verification verification = read(verificationId);
 
         if (verification.getStatus() != Verification.VerificationStatus.PENDING) {
             throw new IllegalStateException("Verification is not pending");
         }
+        requireNotLeasedElsewhere(verification, rejectedBy);
 
         Verification rejectedVerification = update(new Verification.Builder()
                 .copy(verification)
                 .setStatus(Verification.VerificationStatus.REJECTED)
                 .setDateVerified(LocalDateTime.now())
+                .setReviewedBy(rejectedBy)
                 .build());
 
         // Notify user of rejection
@@ -134,57 +240,139 @@ public class VerificationService implements IService<Verification, String> {
         return rejectedVerification;
     }
 
+    // Bulk variants of approve/reject: one locking read, one guarded UPDATE, one notification batch per document type
+    public BulkModerationResult approveVerifications(List<String> verificationIds, String approvedBy) {
+        return moderate(verificationIds, Verification.VerificationStatus.VERIFIED, approvedBy,
+                " verification has been approved!");
+    }
+
+    public BulkModerationResult rejectVerifications(List<String> verificationIds, String reason, String rejectedBy) {
+        return moderate(verificationIds, Verification.VerificationStatus.REJECTED, rejectedBy,
+                " verification has been rejected. " + (reason != null ? "Reason: " + reason : ""));
+    }
+
+    private BulkModerationResult moderate(List<String> verificationIds, Verification.VerificationStatus to,
+                                          String reviewedBy, String messageSuffix) {
+        requireReviewer(reviewedBy);
+        Set<Verification.VerificationStatus> from = EnumSet.of(Verification.VerificationStatus.PENDING);
+        List<String> ids = BulkModerationResult.distinctIds(verificationIds);
+        LocalDateTime now = LocalDateTime.now();
+        // The row locks also block claims and renewals, so leases cannot change before the UPDATE
+        List<VerificationRepository.ModerationRow> rows = verificationRepository.lockForModeration(ids, now);
+        Set<String> leasedElsewhere = rows.stream()
+                .filter(row -> row.getLeaseHolder() != null && !row.getLeaseHolder().equals(reviewedBy))
+                .map(VerificationRepository.ModerationRow::getId)
+                .collect(Collectors.toSet());
+        BulkModerationResult result = BulkModerationResult.plan(ids,
+                BulkModerationResult.statusesById(rows, VerificationRepository.ModerationRow::getId,
+                        VerificationRepository.ModerationRow::getStatus), from, leasedElsewhere);
+        if (result.getUpdatedCount() == 0) {
+            return result;
+        }
+
+        int updated = verificationRepository.updateStatus(result.getUpdatedIds(), from, to, now, reviewedBy);
+        RequestReadCache.invalidateAfterBulkUpdate();
+        if (updated != result.getUpdatedCount()) {
+            throw new IllegalStateException("Verifications changed during bulk moderation");
+        }
+
+        Set<String> updatedIds = new HashSet<>(result.getUpdatedIds());
+        userRepository.refreshVerifiedDocumentMasks(rows.stream()
+                .filter(row -> updatedIds.contains(row.getId()))
+                .map(VerificationRepository.ModerationRow::getUserId)
+                .collect(Collectors.toSet()));
+        RequestReadCache.invalidateAfterBulkUpdate();
+        Map<String, List<String>> recipientsByType = rows.stream()
+                .filter(row -> updatedIds.contains(row.getId()))
+                .collect(Collectors.groupingBy(VerificationRepository.ModerationRow::getDocumentType, LinkedHashMap::new,
+                        Collectors.mapping(VerificationRepository.ModerationRow::getUserId, Collectors.toList())));
+        recipientsByType.forEach((documentType, userIds) -> notificationService.createSystemNotifications(
+                userIds, "Your " + documentType.toLowerCase() + messageSuffix));
+
+        return result;
+    }
+
+    @Transactional(readOnly = true)
     public List<Verification> findVerificationsByUser(User user) {
         return verificationRepository.findByUser(user);
     }
 
+    @Transactional(readOnly = true)
     public List<Verification> findVerificationsByDocumentType(Verification.DocumentType documentType) {
         return verificationRepository.findByDocumentType(documentType);
     }
 
+    @Transactional(readOnly = true)
     public List<Verification> findVerificationsByStatus(Verification.VerificationStatus status) {
         return verificationRepository.findByStatus(status);
     }
 
+    @Transactional(readOnly = true)
     public List<Verification> findPendingVerifications() {
         return verificationRepository.findPendingVerifications();
     }
 
+    @Transactional(readOnly = true)
     public List<Verification> findUserVerificationsByStatus(User user, Verification.VerificationStatus status) {
         return verificationRepository.findByUserAndStatus(user, status);
     }
 
+    @Transactional(readOnly = true)
     public Optional<Verification> findByVerificationCode(String verificationCode) {
         return verificationRepository.findByVerificationCode(verificationCode);
     }
 
+    // The checks below read the user's verified-document mask: one primary-key lookup, whatever they ask
+    @Transactional(readOnly = true)
     public boolean hasVerifiedDocument(User user, Verification.DocumentType documentType) {
-        return verificationRepository.hasVerifiedDocument(user, documentType);
+        return getVerifiedDocuments(user).contains(documentType);
     }
 
+    @Transactional(readOnly = true)
     public boolean isUserVerified(User user) {
         // Check if user has at least ID verified
         return hasVerifiedDocument(user, Verification.DocumentType.ID);
     }
 
+    @Transactional(readOnly = true)
     public boolean isUserFullyVerified(User user) {
         // Check if user has all document types verified
-        return hasVerifiedDocument(user, Verification.DocumentType.ID) &&
-                hasVerifiedDocument(user, Verification.DocumentType.CERTIFICATE);
+        return getVerifiedDocuments(user).containsAll(REQUIRED_DOCUMENTS);
     }
 
+    @Transactional(readOnly = true)
+    public Set<Verification.DocumentType> getVerifiedDocuments(User user) {
+        return Verification.DocumentType.fromMask(userRepository.findVerifiedDocumentMask(user.getUserId()).orElse(0));
+    }
+
+    // Verified document types for a whole page of users (e.g. worker cards in search results) in one query;
+    // unknown users are absent from the map
+    @Transactional(readOnly = true)
+    public Map<String, Set<Verification.DocumentType>> getVerifiedDocuments(Collection<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findVerifiedDocumentMasks(userIds).stream()
+                .collect(Collectors.toMap(UserRepository.VerifiedDocumentMaskRow::getUserId,
+                        row -> Verification.DocumentType.fromMask(row.getMask())));
+    }
+
+    @Transactional(readOnly = true)
     public List<Verification> getVerificationsRequiringReview() {
         return findPendingVerifications();
     }
 
+    @Transactional(readOnly = true)
     public long countPendingVerifications() {
         return findPendingVerifications().size();
     }
 
+    @Transactional(readOnly = true)
     public long countVerificationsByStatus(Verification.VerificationStatus status) {
         return findVerificationsByStatus(status).size();
     }
 
+    @Transactional(readOnly = true)
     public boolean canSubmitVerification(User user, Verification.DocumentType documentType) {
         // Check if user already has a pending or verified document of this type
         List<Verification> existingVerifications = verificationRepository.findByUserAndStatus(
@@ -201,15 +389,30 @@ public class VerificationService implements IService<Verification, String> {
     }
 
     public List<Verification.DocumentType> getRequiredDocuments() {
-        return List.of(
-                Verification.DocumentType.ID,
-                Verification.DocumentType.CERTIFICATE
-        );
+        return REQUIRED_DOCUMENTS;
     }
 
+    @Transactional(readOnly = true)
     public List<Verification.DocumentType> getMissingDocuments(User user) {
-        return getRequiredDocuments().stream()
-                .filter(docType -> !hasVerifiedDocument(user, docType))
+        Set<Verification.DocumentType> verified = getVerifiedDocuments(user);
+        return REQUIRED_DOCUMENTS.stream()
+                .filter(docType -> !verified.contains(docType))
                 .toList();
     }
+
+    // A verification another admin holds a live review-queue lease on is theirs to decide
+    private static void requireNotLeasedElsewhere(Verification verification, String reviewedBy) {
+        if (verification.getLeaseOwner() != null && !verification.getLeaseOwner().equals(reviewedBy)
+                && verification.getLeaseExpiresAt() != null
+                && !verification.getLeaseExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new IllegalStateException("Verification is leased to another admin");
+        }
+    }
+
+    // Every approval or rejection records the admin who made it
+    private static void requireReviewer(String reviewedBy) {
+        if (reviewedBy == null || reviewedBy.isBlank()) {
+            throw new IllegalArgumentException("Reviewing admin is required");
+        }
+    }
 }
\ No newline at end of file
@@ -1,17 +1,24 @@
 package za.ac.cput.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import za.ac.cput.cache.RequestReadCache;
 import za.ac.cput.domain.Skill;
 import za.ac.cput.domain.User;
 import za.ac.cput.domain.WorkerProfile;
+import za.ac.cput.event.WorkerProfileEvent;
 import za.ac.cput.repository.WorkerProfileRepository;
 import za.ac.cput.factory.WorkerProfileFactory;
 import za.ac.cput.util.ValidationHelper;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -20,14 +27,17 @@ public class WorkerProfileService implements IService<WorkerProfile, String> {
     private final WorkerProfileRepository workerProfileRepository;
     private final ReviewService reviewService;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public WorkerProfileService(WorkerProfileRepository workerProfileRepository,
                                 ReviewService reviewService,
-                                NotificationService notificationService) {
+                                NotificationService notificationService,
+                                ApplicationEventPublisher eventPublisher) {
         this.workerProfileRepository = workerProfileRepository;
         this.reviewService = reviewService;
         this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -43,6 +53,7 @@ public class WorkerProfileService implements IService<WorkerProfile, String> {
         }
 
         WorkerProfile savedProfile = workerProfileRepository.save(workerProfile);
+        eventPublisher.publishEvent(WorkerProfileEvent.saved(savedProfile));
 
         // Notify user that profile was created
         notificationService.createSystemNotification(
@@ -59,6 +70,12 @@ public class WorkerProfileService implements IService<WorkerProfile, String> {
                 .orElseThrow(() -> new RuntimeException("Worker profile not found with ID: " + profileId));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BatchReadResult<WorkerProfile, String> readAll(Collection<String> profileIds) {
+        return BatchReadResult.load(profileIds, workerProfileRepository::findAllById, WorkerProfile::getProfileId);
+    }
+
     @Override
     public WorkerProfile update(WorkerProfile workerProfile) {
         if (!workerProfileRepository.existsById(workerProfile.getProfileId())) {
@@ -70,13 +87,16 @@ public class WorkerProfileService implements IService<WorkerProfile, String> {
             throw new IllegalArgumentException("Invalid worker profile data: " + result.getErrorMessage());
         }
 
-        return workerProfileRepository.save(workerProfile);
+        WorkerProfile savedProfile = workerProfileRepository.save(workerProfile);
+        eventPublisher.publishEvent(WorkerProfileEvent.saved(savedProfile));
+        return savedProfile;
     }
 
     @Override
     public WorkerProfile delete(String profileId) {
         WorkerProfile profile = read(profileId);
         workerProfileRepository.deleteById(profileId);
+        eventPublisher.publishEvent(WorkerProfileEvent.deleted(profile));
         return profile;
     }
 
@@ -101,6 +121,7 @@ public class WorkerProfileService implements IService<WorkerProfile, String> {
         return create(profile);
     }
 
+    @Transactional(readOnly = true)
     public Optional<WorkerProfile> findByUser(User user) {
         return workerProfileRepository.findByUser(user);
     }
@@ -136,6 +157,52 @@ public class WorkerProfileService implements IService<WorkerProfile, String> {
                 .build());
     }
 
+    // Bulk variants of verify/reject: one locking read, one guarded UPDATE and one notification batch
+    public BulkModerationResult verifyProfiles(List<String> profileIds) {
+        return moderate(profileIds,
+                EnumSet.of(WorkerProfile.VerificationStatus.PENDING, WorkerProfile.VerificationStatus.REJECTED),
+                WorkerProfile.VerificationStatus.VERIFIED,
+                "Your worker profile has been verified! You can now receive job offers.");
+    }
+
+    // Like rejectProfile, sends no notification
+    public BulkModerationResult rejectProfiles(List<String> profileIds, String reason) {
+        return moderate(profileIds,
+                EnumSet.of(WorkerProfile.VerificationStatus.PENDING, WorkerProfile.VerificationStatus.VERIFIED),
+                WorkerProfile.VerificationStatus.REJECTED, null);
+    }
+
+    private BulkModerationResult moderate(List<String> profileIds, Set<WorkerProfile.VerificationStatus> from,
+                                          WorkerProfile.VerificationStatus to, String notification) {
+        List<String> ids = BulkModerationResult.distinctIds(profileIds);
+        List<WorkerProfileRepository.ModerationRow> rows = workerProfileRepository.lockForModeration(ids);
+        BulkModerationResult result = BulkModerationResult.plan(ids,
+                BulkModerationResult.statusesById(rows, WorkerProfileRepository.ModerationRow::getId,
+                        WorkerProfileRepository.ModerationRow::getStatus), from);
+        if (result.getUpdatedCount() == 0) {
+            return result;
+        }
+
+        int updated = workerProfileRepository.updateVerificationStatus(result.getUpdatedIds(), from, to);
+        RequestReadCache.invalidateAfterBulkUpdate();
+        if (updated != result.getUpdatedCount()) {
+            throw new IllegalStateException("Worker profiles changed during bulk moderation");
+        }
+
+        // Listeners only use the profile ID, so an unloaded reference is enough
+        result.getUpdatedIds().forEach(id ->
+                eventPublisher.publishEvent(WorkerProfileEvent.saved(workerProfileRepository.getReferenceById(id))));
+
+        if (notification != null) {
+            Set<String> updatedIds = new HashSet<>(result.getUpdatedIds());
+            notificationService.createSystemNotifications(rows.stream()
+                    .filter(row -> updatedIds.contains(row.getId()))
+                    .map(WorkerProfileRepository.ModerationRow::getUserId)
+                    .toList(), notification);
+        }
+        return result;
+    }
+
     public WorkerProfile updateAvailabilityStatus(String profileId,
                                                   WorkerProfile.AvailabilityStatus status) {
         WorkerProfile profile = read(profileId);
@@ -200,42 +267,52 @@ public class WorkerProfileService implements IService<WorkerProfile, String> {
         return profile;
     }
 
+    @Transactional(readOnly = true)
     public List<WorkerProfile> findAvailableProfiles() {
         return workerProfileRepository.findAvailableProfiles();
     }
 
+    @Transactional(readOnly = true)
     public List<WorkerProfile> findProfilesByLocation(String location) {
         return workerProfileRepository.findByLocation(location);
     }
 
+    @Transactional(readOnly = true)
     public List<WorkerProfile> findProfilesByHourlyRateRange(Double minRate, Double maxRate) {
         return workerProfileRepository.findByHourlyRateRange(minRate, maxRate);
     }
 
+    @Transactional(readOnly = true)
     public List<WorkerProfile> findProfilesByMinimumRating(Double minRating) {
         return workerProfileRepository.findByMinimumRating(minRating);
     }
 
+    @Transactional(readOnly = true)
     public List<WorkerProfile> findProfilesBySkill(Skill skill) {
         return workerProfileRepository.findBySkill(skill);
     }
 
+    @Transactional(readOnly = true)
     public List<WorkerProfile> findProfilesBySkillNames(List<String> skillNames) {
         return workerProfileRepository.findBySkillNames(skillNames);
     }
 
+    @Transactional(readOnly = true)
     public List<WorkerProfile> findVerifiedProfiles() {
         return workerProfileRepository.findVerifiedProfiles();
     }
 
+    @Transactional(readOnly = true)
     public List<WorkerProfile> findProfilesByVerificationStatus(WorkerProfile.VerificationStatus status) {
         return workerProfileRepository.findByVerificationStatus(status);
     }
 
+    @Transactional(readOnly = true)
     public List<WorkerProfile> findProfilesByAvailabilityStatus(WorkerProfile.AvailabilityStatus status) {
         return workerProfileRepository.findByAvailabilityStatus(status);
     }
 
+    @Transactional(readOnly = true)
     public List<WorkerProfile> searchProfiles(String location, List<String> skillNames,
                                               Double maxHourlyRate, Double minRating) {
         List<WorkerProfile> profiles = findVerifiedProfiles();
@@ -259,6 +336,7 @@ public class WorkerProfileService implements IService<WorkerProfile, String> {
         }
     }
 
+    @Transactional(readOnly = true)
     public boolean isProfileComplete(String profileId) {
         WorkerProfile profile = read(profileId);
         return profile.getBio() != null && !profile.getBio().trim().isEmpty() &&
@@ -267,6 +345,7 @@ public class WorkerProfileService implements IService<WorkerProfile, String> {
                 profile.getLocation() != null && !profile.getLocation().trim().isEmpty();
     }
 
+    @Transactional(readOnly = true)
     public boolean canReceiveJobs(String profileId) {
         WorkerProfile profile = read(profileId);
         return profile.getVerificationStatus() == WorkerProfile.VerificationStatus.VERIFIED &&
@@ -274,10 +353,12 @@ public class WorkerProfileService implements IService<WorkerProfile, String> {
                 isProfileComplete(profileId);
     }
 
+    @Transactional(readOnly = true)
     public long countProfilesByStatus(WorkerProfile.VerificationStatus status) {
         return findProfilesByVerificationStatus(status).size();
     }
 
+    @Transactional(readOnly = true)
     public long countAvailableProfiles() {
         return findAvailableProfiles().size();
     }
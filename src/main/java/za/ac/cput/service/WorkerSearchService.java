@@ -0,0 +1,99 @@
+package za.ac.cput.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import za.ac.cput.domain.Skill;
+import za.ac.cput.domain.WorkerProfile;
+import za.ac.cput.event.SkillEvent;
+import za.ac.cput.event.WorkerProfileEvent;
+import za.ac.cput.repository.WorkerProfileRepository;
+import za.ac.cput.search.SkillQuery;
+import za.ac.cput.search.WorkerSkillBitmapIndex;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Multi-skill worker search (AND / OR / NOT) over an in-memory WorkerSkillBitmapIndex. The index
+ * answers which profiles match and in which order; only the requested page of profiles is then
+ * loaded from the database by primary key.
+ */
+@Service
+public class WorkerSearchService {
+
+    private final WorkerProfileRepository workerProfileRepository;
+    private final WorkerSkillBitmapIndex skillIndex = new WorkerSkillBitmapIndex();
+
+    @Autowired
+    public WorkerSearchService(WorkerProfileRepository workerProfileRepository) {
+        this.workerProfileRepository = workerProfileRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        workerProfileRepository.findAllWithSkills().forEach(this::index);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onWorkerProfileEvent(WorkerProfileEvent event) {
+        String profileId = event.getProfileId();
+        if (event.getType() == WorkerProfileEvent.Type.DELETED) {
+            skillIndex.remove(profileId);
+            return;
+        }
+        workerProfileRepository.findByIdWithSkills(profileId)
+                .ifPresentOrElse(this::index, () -> skillIndex.remove(profileId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSkillEvent(SkillEvent event) {
+        // a verification status change leaves skill IDs and names, all this index holds, as they were
+        if (event.getType() == SkillEvent.Type.STATUS_CHANGED) {
+            return;
+        }
+        Skill skill = event.getSkill();
+        if (event.getType() == SkillEvent.Type.DELETED) {
+            skillIndex.removeSkill(skill.getSkillId());
+        } else {
+            skillIndex.renameSkill(skill.getSkillId(), skill.getName());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Page<WorkerProfile> searchBySkills(SkillQuery query, Pageable pageable) {
+        WorkerSkillBitmapIndex.Result result = skillIndex.search(
+                query, (int) pageable.getOffset(), pageable.getPageSize());
+
+        Map<String, WorkerProfile> profiles = workerProfileRepository.findAllById(result.getProfileIds()).stream()
+                .collect(Collectors.toMap(WorkerProfile::getProfileId, Function.identity()));
+        List<WorkerProfile> page = result.getProfileIds().stream()
+                .map(profiles::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(page, pageable, result.getTotal());
+    }
+
+    private void index(WorkerProfile profile) {
+        Map<String, String> skills = new LinkedHashMap<>();
+        if (profile.getSkills() != null) {
+            profile.getSkills().forEach(skill -> skills.put(skill.getSkillId(), skill.getName()));
+        }
+        skillIndex.put(profile.getProfileId(), skills,
+                profile.getAvailabilityStatus() == WorkerProfile.AvailabilityStatus.AVAILABLE,
+                profile.getVerificationStatus() == WorkerProfile.VerificationStatus.VERIFIED);
+    }
+}
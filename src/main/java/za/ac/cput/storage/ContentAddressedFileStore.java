@@ -0,0 +1,145 @@
+package za.ac.cput.storage;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Local file store keyed by the SHA-256 of the content. Uploads are copied from the request stream
+ * into a temporary file with FileChannel.transferFrom, hashing on the way through, so only the
+ * channel's transfer buffer is ever on heap. The finished file is then moved to
+ * root/ab/cd/abcd... ; if that path already exists the same bytes are stored and the temporary copy
+ * is dropped, so identical documents are kept once however often they are uploaded.
+ *
+ * Stored files are never modified, which is what lets downloads hand the file straight to the
+ * socket (see VerificationController) without any locking.
+ */
+@Component
+public class ContentAddressedFileStore {
+
+    private static final long TRANSFER_CHUNK = 1 << 20;
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+    private final Path incoming;
+    private final long maxSize;
+
+    @Autowired
+    public ContentAddressedFileStore(@Value("${app.documents.root:./data/documents}") Path root,
+                                     @Value("${app.documents.max-size:20971520}") long maxSize) {
+        this.root = root.toAbsolutePath().normalize();
+        this.incoming = this.root.resolve("incoming");
+        this.maxSize = maxSize;
+        try {
+            Files.createDirectories(incoming);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create document store at " + this.root, e);
+        }
+    }
+
+    public static class StoredFile {
+        private final String sha256;
+        private final long size;
+        private final boolean duplicate;
+
+        public StoredFile(String sha256, long size, boolean duplicate) {
+            this.sha256 = sha256;
+            this.size = size;
+            this.duplicate = duplicate;
+        }
+
+        public String getSha256() { return sha256; }
+        public long getSize() { return size; }
+        // true when the content was already in the store and nothing new was written
+        public boolean isDuplicate() { return duplicate; }
+    }
+
+    public StoredFile store(InputStream content) throws IOException {
+        MessageDigest digest = sha256();
+        Path temp = Files.createTempFile(incoming, "upload-", ".part");
+        try {
+            long size;
+            try (ReadableByteChannel source = Channels.newChannel(new DigestInputStream(content, digest));
+                 FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                size = copy(source, target);
+            }
+            if (size == 0) {
+                throw new IllegalArgumentException("Document is empty");
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path path = pathOf(hash);
+            if (Files.exists(path)) {
+                return new StoredFile(hash, size, true);
+            }
+            Files.createDirectories(path.getParent());
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // a concurrent upload of the same bytes got there first
+                return new StoredFile(hash, size, true);
+            }
+            return new StoredFile(hash, size, false);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Empty for malformed hashes as well as unknown ones, so a caller can never address outside the store
+    public Optional<Path> find(String sha256) {
+        if (sha256 == null || !HASH.matcher(sha256).matches()) {
+            return Optional.empty();
+        }
+        Path path = pathOf(sha256);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    // Removes a stored document; false for malformed or unknown hashes
+    public boolean delete(String sha256) throws IOException {
+        Optional<Path> path = find(sha256);
+        return path.isPresent() && Files.deleteIfExists(path.get());
+    }
+
+        private long copy(ReadableByteChannel source, FileChannel target) throws IOException {
+        long position = 0;
+        long transferred;
+        // transferFrom returns 0 once the source stream is exhausted
+        while ((transferred = target.transferFrom(source, position, TRANSFER_CHUNK)) > 0) {
+            position += transferred;
+            if (position > maxSize) {
+                throw new IllegalArgumentException("Document exceeds the maximum size of " + maxSize + " bytes");
+            }
+        }
+        return position;
+    }
+
+    private Path pathOf(String sha256) {
+        return root.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package za.ac.cput.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Downscaled JPEG previews of stored documents, for the admin review pages. Requests are queued
+ * on a bounded work queue drained by a fixed number of virtual-thread workers, so submitting never
+ * waits on image decoding and a burst of uploads cannot pile up unbounded work; when the queue is
+ * full the request is dropped and the preview is requested again the first time someone asks for it.
+ *
+ * Previews are cached on disk next to the store, named by the document's hash, and never change.
+ * Documents that are not images (PDFs, or any format ImageIO has no reader for) or are too large to
+ * decode get an empty marker file instead so they are not looked at again. An image that fails to
+ * decode gets no marker: the failure may be transient, so the next request() queues it again.
+ */
+@Component
+public class DocumentPreviewGenerator implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(DocumentPreviewGenerator.class);
+
+    public enum Status { READY, PENDING, UNAVAILABLE }
+
+    private final ContentAddressedFileStore documentStore;
+    private final Path previewRoot;
+    private final int maxDimension;
+    private final long maxPixels;
+    private final ThreadPoolExecutor workers;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public DocumentPreviewGenerator(ContentAddressedFileStore documentStore,
+                                    @Value("${app.documents.root:./data/documents}") Path documentRoot,
+                                    @Value("${app.documents.preview.max-dimension:320}") int maxDimension,
+                                    @Value("${app.documents.preview.max-pixels:50000000}") long maxPixels,
+                                    @Value("${app.documents.preview.workers:4}") int workerCount,
+                                    @Value("${app.documents.preview.queue-capacity:1000}") int queueCapacity) {
+        this.documentStore = documentStore;
+        this.previewRoot = documentRoot.toAbsolutePath().normalize().resolve("previews");
+        this.maxDimension = maxDimension;
+        this.maxPixels = maxPixels;
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofVirtual().name("document-preview-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        try {
+            Files.createDirectories(previewRoot);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create preview directory at " + previewRoot, e);
+        }
+    }
+
+    // Returns false if the document is unknown or the queue is full; a later request() will try again
+    public boolean submit(String sha256) {
+        if (documentStore.find(sha256).isEmpty()) {
+            return false;
+        }
+        if (Files.exists(previewPath(sha256)) || Files.exists(markerPath(sha256)) || !inFlight.add(sha256)) {
+            return true;
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    generate(sha256);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Preview generation failed for document {}", sha256, e);
+                } finally {
+                    inFlight.remove(sha256);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(sha256);
+            return false;
+        }
+    }
+
+    // READY means find() has the preview; PENDING means it has been (re)queued
+    public Status request(String sha256) {
+        if (documentStore.find(sha256).isEmpty() || Files.exists(markerPath(sha256))) {
+            return Status.UNAVAILABLE;
+        }
+        if (Files.exists(previewPath(sha256))) {
+            return Status.READY;
+        }
+        submit(sha256);
+        return Status.PENDING;
+    }
+
+    public Optional<Path> find(String sha256) {
+        if (documentStore.find(sha256).isEmpty()) {
+            return Optional.empty();
+        }
+        Path path = previewPath(sha256);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    public int countQueued() {
+        return workers.getQueue().size();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    void generate(String sha256) throws IOException {
+        Optional<Path> document = documentStore.find(sha256);
+        if (document.isEmpty()) {
+            return;
+        }
+        BufferedImage image = read(document.get());
+        Path target = previewPath(sha256);
+        Files.createDirectories(target.getParent());
+        if (image == null) {
+            Files.write(markerPath(sha256), new byte[0]);
+            return;
+        }
+
+        Path temp = Files.createTempFile(target.getParent(), "preview-", ".part");
+        try {
+            ImageIO.write(downscale(image), "jpg", temp.toFile());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Decodes with source subsampling so a large scan is never fully materialised; null if no reader
+    // knows the format or the image is too large to be a genuine document photo. Decoding errors are
+    // thrown, not treated as "not an image"
+    private BufferedImage read(Path document) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(document.toFile())) {
+            if (input == null) {
+                throw new IOException("Cannot open document " + document);
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / (maxDimension * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage downscale(BufferedImage source) {
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        // RGB so that PNGs with alpha still encode as JPEG
+        BufferedImage preview = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = preview.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return preview;
+    }
+
+    private Path previewPath(String sha256) {
+        return previewRoot.resolve(sha256.substring(0, 2)).resolve(sha256 + ".jpg");
+    }
+
+    private Path markerPath(String sha256) {
+        return previewRoot.resolve(sha256.substring(0, 2)).resolve(sha256 + ".none");
+    }
+}
@@ -14,6 +14,7 @@ public class ValidationHelper {
     // Constants for validation
     private static final Pattern PHONE_PATTERN = Pattern.compile("^(\\+27|0)[6-8][0-9]{8}$"); // South African phone numbers
     private static final Pattern PASSWORD_PATTERN = Pattern.compile("^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,}$");
+    private static final Pattern PASSWORD_HASH_PATTERN = Pattern.compile("^\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$"); // BCrypt
     private static final Pattern NAME_PATTERN = Pattern.compile("^[a-zA-Z\\s]{2,50}$");
     private static final Pattern POSTAL_CODE_PATTERN = Pattern.compile("^[0-9]{4}$"); // South African postal codes
     private static final int MIN_RATING = 1;
@@ -50,6 +51,12 @@ public class ValidationHelper {
         return PASSWORD_PATTERN.matcher(password).matches();
     }
 
+    // Stored passwords are BCrypt hashes; only legacy rows still hold plain text
+    public static boolean isPasswordHash(String password) {
+        if (isNullOrEmpty(password)) return false;
+        return PASSWORD_HASH_PATTERN.matcher(password).matches();
+    }
+
     public static boolean isValidName(String name) {
         if (isNullOrEmpty(name)) return false;
         return NAME_PATTERN.matcher(name.trim()).matches();
@@ -75,8 +82,17 @@ public class ValidationHelper {
         }
     }
 
-    // User-specific validation
+    // User-specific validation; the password is raw input that must meet the policy before it is hashed
     public static ValidationResult validateUser(User user) {
+        return validateUser(user, false);
+    }
+
+    // Same checks for a user whose password is the stored BCrypt hash, left unchanged
+    public static ValidationResult validateUserWithStoredPassword(User user) {
+        return validateUser(user, true);
+    }
+
+    private static ValidationResult validateUser(User user, boolean storedPassword) {
         ValidationResult result = new ValidationResult();
 
         if (user == null) {
@@ -100,7 +116,7 @@ public class ValidationHelper {
             result.addError("Invalid email format");
         }
 
-        if (!isValidPassword(user.getPassword())) {
+        if (storedPassword ? !isPasswordHash(user.getPassword()) : !isValidPassword(user.getPassword())) {
             result.addError("Password must be at least 8 characters with uppercase, lowercase, number, and special character");
         }
 
@@ -0,0 +1,12 @@
+-- Audit events the flush could not insert after app.admin-audit.max-attempts tries (see AdminAuditService).
+-- Kept apart from admin_audit_event so a bad row is parked for inspection instead of blocking the queue.
+
+CREATE TABLE IF NOT EXISTS admin_audit_dead_letter (
+    event_id     VARCHAR(255)  NOT NULL,
+    admin_id     VARCHAR(255)  NOT NULL,
+    action       VARCHAR(1000) NOT NULL,
+    occurred_at  DATETIME(6)   NOT NULL,
+    error        VARCHAR(1000),
+    failed_at    DATETIME(6)   NOT NULL,
+    PRIMARY KEY (event_id)
+) ENGINE = InnoDB;
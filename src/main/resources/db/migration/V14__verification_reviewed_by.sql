@@ -0,0 +1,4 @@
+-- Records which admin approved or rejected a verification (see VerificationService).
+
+ALTER TABLE verification
+    ADD COLUMN reviewed_by VARCHAR(255);
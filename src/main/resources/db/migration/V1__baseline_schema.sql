@@ -0,0 +1,175 @@
+-- Baseline schema, matching the entity mappings in za.ac.cput.domain.
+-- Hibernate only validates against it (ddl-auto=validate); every later change is a new V<n> script.
+
+CREATE TABLE IF NOT EXISTS `user` (
+    user_id      VARCHAR(255) NOT NULL,
+    first_name   VARCHAR(255) NOT NULL,
+    last_name    VARCHAR(255) NOT NULL,
+    email        VARCHAR(255) NOT NULL,
+    password     VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255),
+    current_mode ENUM ('CLIENT','WORKER'),
+    status       ENUM ('ACTIVE','SUSPENDED','DEACTIVATED'),
+    date_joined  DATETIME(6),
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_user_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS user_roles (
+    user_id VARCHAR(255) NOT NULL,
+    role    ENUM ('CLIENT','WORKER','BOTH'),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS skill (
+    skill_id            VARCHAR(255) NOT NULL,
+    name                VARCHAR(255) NOT NULL,
+    category            VARCHAR(255),
+    description         TEXT,
+    verification_status ENUM ('PENDING','VERIFIED','REJECTED'),
+    PRIMARY KEY (skill_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS worker_profile (
+    profile_id          VARCHAR(255) NOT NULL,
+    user_id             VARCHAR(255) NOT NULL,
+    bio                 TEXT,
+    experience          VARCHAR(255),
+    hourly_rate         DOUBLE,
+    availability_status ENUM ('AVAILABLE','BUSY','OFFLINE'),
+    location            VARCHAR(255),
+    rating              DOUBLE,
+    verification_status ENUM ('PENDING','VERIFIED','REJECTED'),
+    verification_code   VARCHAR(255),
+    PRIMARY KEY (profile_id),
+    CONSTRAINT uk_worker_profile_user UNIQUE (user_id),
+    CONSTRAINT fk_worker_profile_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS worker_skills (
+    profile_id VARCHAR(255) NOT NULL,
+    skill_id   VARCHAR(255) NOT NULL,
+    CONSTRAINT fk_worker_skills_profile FOREIGN KEY (profile_id) REFERENCES worker_profile (profile_id),
+    CONSTRAINT fk_worker_skills_skill FOREIGN KEY (skill_id) REFERENCES skill (skill_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS job (
+    job_id      VARCHAR(255) NOT NULL,
+    client_id   VARCHAR(255) NOT NULL,
+    title       VARCHAR(255) NOT NULL,
+    description TEXT,
+    category    VARCHAR(255),
+    budget      DOUBLE,
+    location    VARCHAR(255),
+    date_posted DATETIME(6),
+    status      ENUM ('OPEN','ASSIGNED','COMPLETED','CANCELLED'),
+    PRIMARY KEY (job_id),
+    CONSTRAINT fk_job_client FOREIGN KEY (client_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS application (
+    application_id VARCHAR(255) NOT NULL,
+    job_id         VARCHAR(255) NOT NULL,
+    worker_id      VARCHAR(255) NOT NULL,
+    cover_letter   TEXT,
+    expected_pay   DOUBLE,
+    status         ENUM ('PENDING','ACCEPTED','REJECTED','WITHDRAWN'),
+    date_applied   DATETIME(6),
+    PRIMARY KEY (application_id),
+    CONSTRAINT fk_application_job FOREIGN KEY (job_id) REFERENCES job (job_id),
+    CONSTRAINT fk_application_worker FOREIGN KEY (worker_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS contract (
+    contract_id VARCHAR(255) NOT NULL,
+    job_id      VARCHAR(255) NOT NULL,
+    client_id   VARCHAR(255) NOT NULL,
+    worker_id   VARCHAR(255) NOT NULL,
+    start_date  DATETIME(6),
+    end_date    DATETIME(6),
+    agreed_pay  DOUBLE,
+    status      ENUM ('ACTIVE','COMPLETED','CANCELLED','DISPUTED','TERMINATED'),
+    terms       TEXT,
+    PRIMARY KEY (contract_id),
+    CONSTRAINT fk_contract_job FOREIGN KEY (job_id) REFERENCES job (job_id),
+    CONSTRAINT fk_contract_client FOREIGN KEY (client_id) REFERENCES `user` (user_id),
+    CONSTRAINT fk_contract_worker FOREIGN KEY (worker_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS payment (
+    payment_id     VARCHAR(255) NOT NULL,
+    contract_id    VARCHAR(255) NOT NULL,
+    amount         DOUBLE,
+    method         ENUM ('CARD','MOBILE_MONEY','EFT','CASH'),
+    status         ENUM ('PENDING','ESCROW','RELEASED','REFUNDED'),
+    date_processed DATETIME(6),
+    PRIMARY KEY (payment_id),
+    CONSTRAINT fk_payment_contract FOREIGN KEY (contract_id) REFERENCES contract (contract_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS review (
+    review_id   VARCHAR(255) NOT NULL,
+    contract_id VARCHAR(255) NOT NULL,
+    reviewer_id VARCHAR(255) NOT NULL,
+    reviewed_id VARCHAR(255) NOT NULL,
+    rating      INTEGER,
+    comment     TEXT,
+    date_posted DATETIME(6),
+    PRIMARY KEY (review_id),
+    CONSTRAINT fk_review_contract FOREIGN KEY (contract_id) REFERENCES contract (contract_id),
+    CONSTRAINT fk_review_reviewer FOREIGN KEY (reviewer_id) REFERENCES `user` (user_id),
+    CONSTRAINT fk_review_reviewed FOREIGN KEY (reviewed_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS dispute (
+    dispute_id         VARCHAR(255) NOT NULL,
+    contract_id        VARCHAR(255) NOT NULL,
+    opened_by          VARCHAR(255) NOT NULL,
+    reason             TEXT,
+    status             ENUM ('OPEN','RESOLVED','DISMISSED'),
+    resolution_details TEXT,
+    date_opened        DATETIME(6),
+    PRIMARY KEY (dispute_id),
+    CONSTRAINT fk_dispute_contract FOREIGN KEY (contract_id) REFERENCES contract (contract_id),
+    CONSTRAINT fk_dispute_opened_by FOREIGN KEY (opened_by) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS notification (
+    notification_id VARCHAR(255) NOT NULL,
+    user_id         VARCHAR(255) NOT NULL,
+    message         TEXT,
+    type            ENUM ('JOB_ALERT','APPLICATION_UPDATE','PAYMENT','SYSTEM'),
+    status          ENUM ('UNREAD','READ'),
+    date_sent       DATETIME(6),
+    PRIMARY KEY (notification_id),
+    CONSTRAINT fk_notification_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS verification (
+    verification_id   VARCHAR(255) NOT NULL,
+    user_id           VARCHAR(255) NOT NULL,
+    document_type     ENUM ('ID','CERTIFICATE','LICENSE'),
+    document_url      VARCHAR(255),
+    verification_code VARCHAR(255),
+    status            ENUM ('PENDING','VERIFIED','REJECTED'),
+    date_submitted    DATETIME(6),
+    date_verified     DATETIME(6),
+    PRIMARY KEY (verification_id),
+    CONSTRAINT fk_verification_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS admin (
+    admin_id     VARCHAR(255) NOT NULL,
+    user_id      VARCHAR(255) NOT NULL,
+    actions_log  TEXT,
+    date_created DATETIME(6),
+    PRIMARY KEY (admin_id),
+    CONSTRAINT uk_admin_user UNIQUE (user_id),
+    CONSTRAINT fk_admin_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS admin_permissions (
+    admin_id   VARCHAR(255) NOT NULL,
+    permission ENUM ('MANAGE_USERS','VERIFY_SKILLS','RESOLVE_DISPUTES','MANAGE_PAYMENTS','VIEW_REPORTS'),
+    CONSTRAINT fk_admin_permissions_admin FOREIGN KEY (admin_id) REFERENCES admin (admin_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,19 @@
+-- Append-only per-user activity feed backing the dashboard (see ActivityFeedService).
+-- Rows are never updated; the feed is read newest first through idx_activity_feed_user_date.
+
+CREATE TABLE IF NOT EXISTS activity_feed_entry (
+    entry_id      VARCHAR(255) NOT NULL,
+    user_id       VARCHAR(255) NOT NULL,
+    activity_type ENUM ('JOB_POSTED','JOB_CANCELLED',
+                        'APPLICATION_SUBMITTED','APPLICATION_RECEIVED','APPLICATION_ACCEPTED',
+                        'APPLICATION_REJECTED','APPLICATION_WITHDRAWN',
+                        'CONTRACT_STARTED','CONTRACT_COMPLETED','CONTRACT_CANCELLED',
+                        'PAYMENT_CREATED','PAYMENT_RELEASED','PAYMENT_REFUNDED') NOT NULL,
+    subject_id    VARCHAR(255),
+    summary       VARCHAR(500),
+    date_created  DATETIME(6) NOT NULL,
+    PRIMARY KEY (entry_id),
+    CONSTRAINT fk_activity_feed_entry_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_activity_feed_user_date ON activity_feed_entry (user_id, date_created);
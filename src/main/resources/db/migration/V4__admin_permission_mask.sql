@@ -0,0 +1,22 @@
+-- Admin permissions move from the admin_permissions collection table to a bitmask on admin.
+-- Bit values must match Admin.Permission.bit(); permission checks become a single AND and
+-- membership queries read idx_admin_permission_mask instead of joining.
+
+ALTER TABLE admin ADD COLUMN permission_mask INT NOT NULL DEFAULT 0;
+
+UPDATE admin a
+SET a.permission_mask = (
+    SELECT COALESCE(BIT_OR(CASE p.permission
+                               WHEN 'MANAGE_USERS' THEN 1
+                               WHEN 'VERIFY_SKILLS' THEN 2
+                               WHEN 'RESOLVE_DISPUTES' THEN 4
+                               WHEN 'MANAGE_PAYMENTS' THEN 8
+                               WHEN 'VIEW_REPORTS' THEN 16
+                               ELSE 0 END), 0)
+    FROM admin_permissions p
+    WHERE p.admin_id = a.admin_id
+);
+
+CREATE INDEX idx_admin_permission_mask ON admin (permission_mask);
+
+DROP TABLE admin_permissions;
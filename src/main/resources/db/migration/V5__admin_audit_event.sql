@@ -0,0 +1,13 @@
+-- Append-only admin audit trail replacing appends to admin.actions_log (see AdminAuditService).
+-- No foreign key on admin_id: the trail is kept after an admin is deleted.
+
+CREATE TABLE IF NOT EXISTS admin_audit_event (
+    event_id     VARCHAR(255)  NOT NULL,
+    admin_id     VARCHAR(255)  NOT NULL,
+    action       VARCHAR(1000) NOT NULL,
+    occurred_at  DATETIME(6)   NOT NULL,
+    PRIMARY KEY (event_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_admin_audit_admin_time ON admin_audit_event (admin_id, occurred_at);
+CREATE INDEX idx_admin_audit_time ON admin_audit_event (occurred_at);
@@ -0,0 +1,11 @@
+-- Review queue for pending verifications (see VerificationReviewQueue).
+-- review_priority_at orders the queue; lease_owner / lease_expires_at record which admin holds a
+-- verification and until when. V8 backfills review_priority_at for existing rows.
+
+ALTER TABLE verification
+    ADD COLUMN review_priority_at DATETIME(6),
+    ADD COLUMN lease_owner        VARCHAR(255),
+    ADD COLUMN lease_expires_at   DATETIME(6);
+
+CREATE INDEX idx_verification_review_queue ON verification (status, review_priority_at);
+CREATE INDEX idx_verification_lease_owner ON verification (lease_owner);
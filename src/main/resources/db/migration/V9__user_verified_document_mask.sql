@@ -0,0 +1,6 @@
+-- Per-user bitmask of the document types the user has a VERIFIED verification for
+-- (bit values: Verification.DocumentType.bit()). Maintained by VerificationService through
+-- UserRepository.refreshVerifiedDocumentMasks; V10 backfills existing users.
+
+ALTER TABLE `user`
+    ADD COLUMN verified_document_mask INT NOT NULL DEFAULT 0;
@@ -0,0 +1,97 @@
+package za.ac.cput.benchmark;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.*;
+import org.springframework.beans.factory.annotation.*;
+import org.springframework.boot.test.context.*;
+import za.ac.cput.domain.*;
+import za.ac.cput.factory.*;
+import za.ac.cput.repository.NotificationRepository;
+import za.ac.cput.service.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Rows per second for bulk notification insertion: one save() per row against the batched
+ * createAll(). Run with the prod profile so JDBC batching and rewriteBatchedStatements are on:
+ *
+ *   mvn test -Dtest=NotificationInsertBenchmark -Dbenchmark=true -Dspring.profiles.active=prod
+ *
+ * -Dbenchmark.rows sets the number of rows per run (default 10000).
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class NotificationInsertBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 10_000);
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserService userService;
+
+    private static User recipient;
+    private static final List<String> createdIds = new ArrayList<>();
+
+    @Test
+    @Order(1)
+    void createRecipient() {
+        recipient = userService.create(UserFactory.createClientUser(
+                "Bench", "Recipient", "bench.recipient@test.com", "Password123!"));
+        assertNotNull(recipient.getUserId());
+    }
+
+    @Test
+    @Order(2)
+    void rowByRowInsert() {
+        List<Notification> notifications = notifications("row-by-row");
+
+        long start = System.nanoTime();
+        for (Notification notification : notifications) {
+            notificationService.create(notification);
+        }
+        report("save() per row", start);
+
+        notifications.forEach(n -> createdIds.add(n.getNotificationId()));
+    }
+
+    @Test
+    @Order(3)
+    void batchedInsert() {
+        List<Notification> notifications = notifications("batched");
+
+        long start = System.nanoTime();
+        List<Notification> saved = notificationService.createAll(notifications);
+        report("createAll() batched", start);
+
+        assertEquals(ROWS, saved.size());
+        saved.forEach(n -> createdIds.add(n.getNotificationId()));
+    }
+
+    @Test
+    @Order(4)
+    void cleanUp() {
+        notificationRepository.deleteAllByIdInBatch(createdIds);
+        userService.delete(recipient.getUserId());
+    }
+
+    private List<Notification> notifications(String label) {
+        return IntStream.range(0, ROWS)
+                .mapToObj(i -> NotificationFactory.createSystemNotification(recipient, label + " notification " + i))
+                .toList();
+    }
+
+    private void report(String label, long startNanos) {
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        System.out.printf("%-22s %,d rows in %.2fs = %,.0f rows/sec%n", label, ROWS, seconds, ROWS / seconds);
+    }
+}
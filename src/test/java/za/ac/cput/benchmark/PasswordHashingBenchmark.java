@@ -0,0 +1,91 @@
+package za.ac.cput.benchmark;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import za.ac.cput.security.PasswordHasher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Login verification throughput: BCrypt run directly on many request threads against the same work
+ * handed to PasswordHasher's per-core pool. Reports logins per second, per second per core, and
+ * latency percentiles.
+ *
+ *   mvn test -Dtest=PasswordHashingBenchmark -Dbenchmark=true
+ *
+ * -Dbenchmark.strength sets the BCrypt work factor (default 10), -Dbenchmark.logins the number of
+ * verifications per run (default 2000) and -Dbenchmark.callers the concurrent request threads
+ * (default 8 per core).
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PasswordHashingBenchmark {
+
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+    private static final int STRENGTH = Integer.getInteger("benchmark.strength", 10);
+    private static final int LOGINS = Integer.getInteger("benchmark.logins", 2000);
+    private static final int CALLERS = Integer.getInteger("benchmark.callers", CORES * 8);
+    private static final String PASSWORD = "Password123!";
+
+    @Test
+    void loginsPerSecond() throws Exception {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(STRENGTH);
+        String hash = encoder.encode(PASSWORD);
+        PasswordHasher hasher = new PasswordHasher(STRENGTH, 0, LOGINS);
+        try {
+            // warm-up
+            run(() -> encoder.matches(PASSWORD, hash), CORES * 4);
+            run(() -> hasher.matches(PASSWORD, hash), CORES * 4);
+
+            long[] direct = run(() -> encoder.matches(PASSWORD, hash), LOGINS);
+            long[] pooled = run(() -> hasher.matches(PASSWORD, hash), LOGINS);
+
+            System.out.println("BCrypt strength " + STRENGTH + ", " + CORES + " cores, " + CALLERS + " callers, "
+                    + LOGINS + " logins");
+            report("On request threads", direct);
+            report("Dedicated pool (" + hasher.getPoolSize() + " threads)", pooled);
+        } finally {
+            hasher.destroy();
+        }
+    }
+
+    // Returns per-login latencies in nanoseconds, with total wall time as the last element
+    private static long[] run(Callable<Boolean> login, int logins) throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<Long>> futures = new ArrayList<>(logins);
+            long start = System.nanoTime();
+            for (int i = 0; i < logins; i++) {
+                futures.add(callers.submit(() -> {
+                    long t0 = System.nanoTime();
+                    assertTrue(login.call());
+                    return System.nanoTime() - t0;
+                }));
+            }
+            long[] latencies = new long[logins + 1];
+            for (int i = 0; i < logins; i++) {
+                latencies[i] = futures.get(i).get();
+            }
+            latencies[logins] = System.nanoTime() - start;
+            return latencies;
+        } finally {
+            callers.shutdown();
+        }
+    }
+
+    private static void report(String label, long[] result) {
+        long wallNanos = result[result.length - 1];
+        long[] latencies = Arrays.copyOf(result, result.length - 1);
+        Arrays.sort(latencies);
+        double perSecond = latencies.length / (wallNanos / 1_000_000_000.0);
+        System.out.printf("%s: %.1f logins/s, %.1f logins/s/core, p50 %.1f ms, p99 %.1f ms%n",
+                label, perSecond, perSecond / CORES,
+                latencies[latencies.length / 2] / 1_000_000.0,
+                latencies[(int) (latencies.length * 0.99)] / 1_000_000.0);
+    }
+}
@@ -0,0 +1,124 @@
+package za.ac.cput.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.*;
+import org.springframework.beans.factory.annotation.*;
+import org.springframework.boot.test.context.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import za.ac.cput.domain.*;
+import za.ac.cput.factory.*;
+import za.ac.cput.repository.JobRepository;
+import za.ac.cput.service.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Heap allocated and CPU time for a large finder result, run once in a read-write transaction (the
+ * old class-level @Transactional) and once through the read-only service method:
+ *
+ *   mvn test -Dtest=ReadOnlyFinderBenchmark -Dbenchmark=true
+ *
+ * -Dbenchmark.rows sets the number of jobs loaded (default 20000).
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ReadOnlyFinderBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 20_000);
+    private static final int ROUNDS = 5;
+    private static final String CATEGORY = "ReadOnlyBenchmark";
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private static User client;
+
+    @Test
+    @Order(1)
+    void seedJobs() {
+        client = userService.create(UserFactory.createClientUser(
+                "Bench", "Client", "bench.readonly@test.com", "Password123!"));
+        jobRepository.saveAll(IntStream.range(0, ROWS)
+                .mapToObj(i -> JobFactory.createJob(client, "Benchmark job " + i,
+                        "Read-only finder benchmark row " + i, CATEGORY, 100.0 + i, "Cape Town"))
+                .toList());
+        assertEquals(ROWS, jobRepository.findByCategory(CATEGORY).size());
+    }
+
+    @Test
+    @Order(2)
+    void readOnlySessionSettings() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.execute(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            assertTrue(session.isDefaultReadOnly());
+            assertEquals(FlushMode.MANUAL, session.getHibernateFlushMode());
+            return null;
+        });
+    }
+
+    @Test
+    @Order(3)
+    void compareReadWriteAndReadOnly() {
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        // warm-up
+        readWrite.execute(status -> jobRepository.findByCategory(CATEGORY));
+        jobService.findJobsByCategory(CATEGORY);
+
+        long[] rw = measure("read-write", () -> readWrite.execute(status -> jobRepository.findByCategory(CATEGORY)));
+        long[] ro = measure("read-only", () -> jobService.findJobsByCategory(CATEGORY));
+
+        System.out.printf("Saved per call: %,d KB allocated, %.1f ms CPU%n",
+                (rw[0] - ro[0]) / 1024, (rw[1] - ro[1]) / 1_000_000.0);
+    }
+
+    @Test
+    @Order(4)
+    void cleanUp() {
+        jobRepository.deleteAllInBatch(jobRepository.findByCategory(CATEGORY));
+        userService.delete(client.getUserId());
+    }
+
+    // Returns average {bytes allocated, CPU nanos} per call on this thread
+    private long[] measure(String label, Supplier<List<Job>> finder) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long cpuBefore = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            assertEquals(ROWS, finder.get().size());
+        }
+        long bytes = (threads.getThreadAllocatedBytes(threadId) - bytesBefore) / ROUNDS;
+        long cpu = (threads.getCurrentThreadCpuTime() - cpuBefore) / ROUNDS;
+
+        System.out.printf("%-10s %,d rows: %,d KB allocated, %.1f ms CPU per call%n",
+                label, ROWS, bytes / 1024, cpu / 1_000_000.0);
+        return new long[]{bytes, cpu};
+    }
+}
@@ -0,0 +1,125 @@
+package za.ac.cput.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import za.ac.cput.domain.Job;
+import za.ac.cput.domain.User;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestReadCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private RequestReadCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        cache = new RequestReadCache(registry);
+        loads = new AtomicInteger();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private String load(String value) {
+        loads.incrementAndGet();
+        return value;
+    }
+
+    private double duplicateReads(String entity) {
+        Counter counter = registry.find("app.read_cache.duplicate_reads").tag("entity", entity).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    void repeatedReadIsLoadedOnce() {
+        assertEquals("alice", cache.read(User.class, "u1", () -> load("alice")));
+        assertEquals("alice", cache.read(User.class, "u1", () -> load("alice")));
+        assertEquals("alice", cache.read(User.class, "u1", () -> load("alice")));
+        assertEquals(1, loads.get());
+        assertEquals(2, duplicateReads("User"));
+        System.out.println("Duplicate reads avoided: " + duplicateReads("User"));
+    }
+
+    @Test
+    void keysAreScopedByType() {
+        cache.read(User.class, "1", () -> load("user"));
+        assertEquals("job", cache.read(Job.class, "1", () -> load("job")));
+        assertEquals(2, loads.get());
+        assertEquals(0, duplicateReads("Job"));
+    }
+
+    @Test
+    void invalidateDropsOnlyThatType() {
+        cache.read(User.class, "u1", () -> load("alice"));
+        cache.read(Job.class, "j1", () -> load("job"));
+        RequestReadCache.invalidate(User.class);
+
+        assertEquals("alice v2", cache.read(User.class, "u1", () -> load("alice v2")));
+        cache.read(Job.class, "j1", () -> load("job"));
+        assertEquals(3, loads.get());
+
+        RequestReadCache.invalidateAll();
+        cache.read(Job.class, "j1", () -> load("job"));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void bulkUpdateDropsEveryType() {
+        cache.read(User.class, "u1", () -> load("alice"));
+        cache.read(Job.class, "j1", () -> load("job"));
+        RequestReadCache.invalidateAfterBulkUpdate();
+
+        cache.read(User.class, "u1", () -> load("alice"));
+        cache.read(Job.class, "j1", () -> load("job"));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void firstReadDoesNotCreateSession() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        cache.read(User.class, "u1", () -> load("alice"));
+        assertNull(request.getSession(false));
+    }
+
+    @Test
+    void nullAndFailedReadsAreNotCached() {
+        assertNull(cache.read(User.class, "missing", () -> load(null)));
+        assertNull(cache.read(User.class, "missing", () -> load(null)));
+        assertThrows(RuntimeException.class, () -> cache.read(User.class, "broken", () -> {
+            throw new RuntimeException("User not found with ID: broken");
+        }));
+        assertEquals("found", cache.read(User.class, "broken", () -> load("found")));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void requestsDoNotShareEntries() {
+        cache.read(User.class, "u1", () -> load("alice"));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        cache.read(User.class, "u1", () -> load("alice"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void passesThroughOutsideRequest() {
+        RequestContextHolder.resetRequestAttributes();
+        cache.read(User.class, "u1", () -> load("alice"));
+        cache.read(User.class, "u1", () -> load("alice"));
+        RequestReadCache.invalidateAll();
+        assertEquals(2, loads.get());
+        assertEquals(0, duplicateReads("User"));
+    }
+}
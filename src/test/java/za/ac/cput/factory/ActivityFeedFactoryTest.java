@@ -0,0 +1,57 @@
+package za.ac.cput.factory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import za.ac.cput.domain.ActivityFeedEntry;
+import za.ac.cput.domain.User;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActivityFeedFactoryTest {
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = UserFactory.createClientUser("Test", "User", "test@email.com", "Password123!");
+    }
+
+    @Test
+    void createEntry() {
+        ActivityFeedEntry entry = ActivityFeedFactory.createEntry(user,
+                ActivityFeedEntry.ActivityType.JOB_POSTED, "job-1", "  You posted 'Fix my geyser'  ");
+
+        assertNotNull(entry);
+        assertNotNull(entry.getEntryId());
+        assertEquals(user.getUserId(), entry.getUserId());
+        assertEquals(ActivityFeedEntry.ActivityType.JOB_POSTED, entry.getActivityType());
+        assertEquals("job-1", entry.getSubjectId());
+        assertEquals("You posted 'Fix my geyser'", entry.getSummary());
+        assertNotNull(entry.getDateCreated());
+        System.out.println(entry);
+    }
+
+    @Test
+    void createEntry_LongSummaryIsTruncated() {
+        ActivityFeedEntry entry = ActivityFeedFactory.createEntry(user,
+                ActivityFeedEntry.ActivityType.JOB_POSTED, "job-1", "x".repeat(600));
+        assertNotNull(entry);
+        assertEquals(500, entry.getSummary().length());
+    }
+
+    @Test
+    void createEntry_InvalidUser() {
+        assertNull(ActivityFeedFactory.createEntry(null,
+                ActivityFeedEntry.ActivityType.JOB_POSTED, "job-1", "Summary"));
+    }
+
+    @Test
+    void createEntry_InvalidType() {
+        assertNull(ActivityFeedFactory.createEntry(user, null, "job-1", "Summary"));
+    }
+
+    @Test
+    void createEntry_InvalidSummary() {
+        assertNull(ActivityFeedFactory.createEntry(user, ActivityFeedEntry.ActivityType.JOB_POSTED, "job-1", null));
+        assertNull(ActivityFeedFactory.createEntry(user, ActivityFeedEntry.ActivityType.JOB_POSTED, "job-1", "   "));
+    }
+}
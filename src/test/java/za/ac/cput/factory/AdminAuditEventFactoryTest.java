@@ -0,0 +1,51 @@
+package za.ac.cput.factory;
+
+import org.junit.jupiter.api.Test;
+import za.ac.cput.domain.AdminAuditEvent;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminAuditEventFactoryTest {
+
+    @Test
+    void createEvent() {
+        AdminAuditEvent event = AdminAuditEventFactory.createEvent("admin-1", "  Suspended user u-42  ");
+
+        assertNotNull(event);
+        assertNotNull(event.getEventId());
+        assertEquals("admin-1", event.getAdminId());
+        assertEquals("Suspended user u-42", event.getAction());
+        assertNotNull(event.getOccurredAt());
+        System.out.println(event);
+    }
+
+    @Test
+    void createEvent_KeepsGivenTime() {
+        LocalDateTime occurredAt = LocalDateTime.of(2024, 5, 1, 10, 15, 30);
+        AdminAuditEvent event = AdminAuditEventFactory.createEvent("admin-1", "Verified skill", occurredAt);
+        assertNotNull(event);
+        assertEquals(occurredAt, event.getOccurredAt());
+    }
+
+    @Test
+    void createEvent_LongActionIsTruncated() {
+        AdminAuditEvent event = AdminAuditEventFactory.createEvent("admin-1", "x".repeat(1200));
+        assertNotNull(event);
+        assertEquals(1000, event.getAction().length());
+    }
+
+    @Test
+    void createEvent_InvalidAdmin() {
+        assertNull(AdminAuditEventFactory.createEvent(null, "Action"));
+        assertNull(AdminAuditEventFactory.createEvent("  ", "Action"));
+    }
+
+    @Test
+    void createEvent_InvalidAction() {
+        assertNull(AdminAuditEventFactory.createEvent("admin-1", null));
+        assertNull(AdminAuditEventFactory.createEvent("admin-1", ""));
+        assertNull(AdminAuditEventFactory.createEvent("admin-1", "Action", null));
+    }
+}
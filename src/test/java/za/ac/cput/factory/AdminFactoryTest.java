@@ -19,14 +19,13 @@ class AdminFactoryTest {
     @Test
     void createAdmin() {
         List<Admin.Permission> permissions = List.of(Admin.Permission.MANAGE_USERS, Admin.Permission.VERIFY_SKILLS);
-        String actionsLog = "Admin created with manage users and verify skills permissions";
 
-        Admin admin = AdminFactory.createAdmin(user, permissions, actionsLog);
+        Admin admin = AdminFactory.createAdmin(user, permissions);
 
         assertNotNull(admin);
         assertEquals(user, admin.getUser());
         assertEquals(permissions, admin.getPermissions());
-        assertEquals(actionsLog, admin.getActionsLog());
+        assertNotNull(admin.getDateCreated());
         assertNotNull(admin.getAdminId());
         System.out.println(admin);
     }
@@ -34,30 +33,21 @@ class AdminFactoryTest {
     @Test
     void createAdmin_InvalidUser() {
         List<Admin.Permission> permissions = List.of(Admin.Permission.MANAGE_USERS);
-        Admin admin = AdminFactory.createAdmin(null, permissions, "Actions log");
+        Admin admin = AdminFactory.createAdmin(null, permissions);
         assertNull(admin);
     }
 
     @Test
     void createAdmin_InvalidPermissions() {
         // Test with null permissions
-        Admin admin = AdminFactory.createAdmin(user, null, "Actions log");
+        Admin admin = AdminFactory.createAdmin(user, null);
         assertNull(admin);
 
         // Test with empty permissions
-        admin = AdminFactory.createAdmin(user, List.of(), "Actions log");
+        admin = AdminFactory.createAdmin(user, List.of());
         assertNull(admin);
     }
 
-    @Test
-    void createAdmin_WithNullActionsLog() {
-        List<Admin.Permission> permissions = List.of(Admin.Permission.RESOLVE_DISPUTES);
-        Admin admin = AdminFactory.createAdmin(user, permissions, null);
-
-        assertNotNull(admin);
-        assertEquals("", admin.getActionsLog()); // Should be empty string when null is passed
-    }
-
     @Test
     void createSuperAdmin() {
         Admin admin = AdminFactory.createSuperAdmin(user);
@@ -67,7 +57,6 @@ class AdminFactoryTest {
         assertTrue(admin.getPermissions().contains(Admin.Permission.MANAGE_USERS));
         assertTrue(admin.getPermissions().contains(Admin.Permission.VERIFY_SKILLS));
         assertTrue(admin.getPermissions().contains(Admin.Permission.RESOLVE_DISPUTES));
-        assertEquals("Super admin created", admin.getActionsLog());
         System.out.println(admin);
     }
 
@@ -79,7 +68,21 @@ class AdminFactoryTest {
         assertEquals(user, admin.getUser());
         assertTrue(admin.getPermissions().contains(Admin.Permission.VERIFY_SKILLS));
         assertEquals(1, admin.getPermissions().size());
-        assertEquals("Skill verifier created", admin.getActionsLog());
         System.out.println(admin);
     }
-}
\ No newline at end of file
+
+    @Test
+    void createAdmin_PermissionMask() {
+        Admin admin = AdminFactory.createAdmin(user,
+                List.of(Admin.Permission.VIEW_REPORTS, Admin.Permission.MANAGE_USERS));
+
+        assertNotNull(admin);
+        assertEquals(Admin.Permission.MANAGE_USERS.bit() | Admin.Permission.VIEW_REPORTS.bit(), admin.getPermissionMask());
+        assertTrue(admin.hasPermission(Admin.Permission.VIEW_REPORTS));
+        assertFalse(admin.hasPermission(Admin.Permission.MANAGE_PAYMENTS));
+        assertEquals(16, Admin.Permission.VERIFY_SKILLS.masksContaining().size());
+        assertTrue(Admin.Permission.VERIFY_SKILLS.masksContaining().stream()
+                .allMatch(mask -> (mask & Admin.Permission.VERIFY_SKILLS.bit()) != 0));
+        System.out.println(admin);
+    }
+}
@@ -4,6 +4,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import za.ac.cput.domain.User;
 import za.ac.cput.domain.Verification;
+
+import java.util.EnumSet;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class VerificationFactoryTest {
@@ -129,4 +133,20 @@ class VerificationFactoryTest {
         Verification verification = VerificationFactory.createLicenseVerification(user, "");
         assertNull(verification);
     }
+
+    @Test
+    void documentTypeMask() {
+        int mask = Verification.DocumentType.toMask(
+                List.of(Verification.DocumentType.ID, Verification.DocumentType.LICENSE));
+
+        assertEquals(Verification.DocumentType.ID.bit() | Verification.DocumentType.LICENSE.bit(), mask);
+        assertEquals(EnumSet.of(Verification.DocumentType.ID, Verification.DocumentType.LICENSE),
+                Verification.DocumentType.fromMask(mask));
+        assertTrue(Verification.DocumentType.fromMask(0).isEmpty());
+
+        User verifiedUser = new User.Builder().copy(user).setVerifiedDocumentMask(mask).build();
+        assertTrue(verifiedUser.hasVerifiedDocument(Verification.DocumentType.ID));
+        assertFalse(verifiedUser.hasVerifiedDocument(Verification.DocumentType.CERTIFICATE));
+        System.out.println(verifiedUser);
+    }
 }
\ No newline at end of file
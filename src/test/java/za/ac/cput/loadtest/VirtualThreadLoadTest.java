@@ -0,0 +1,111 @@
+package za.ac.cput.loadtest;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load harness for comparing the platform-thread and virtual-thread modes. Start the application
+ * twice, once with VIRTUAL_THREADS_ENABLED=false and once with VIRTUAL_THREADS_ENABLED=true (both
+ * with RATE_LIMIT_ENABLED=false, since every client shares one address), and run this against each:
+ *
+ *   mvn test -Dtest=VirtualThreadLoadTest -Dloadtest.url=http://localhost:8080
+ *
+ * Optional: -Dloadtest.clients (default 5000), -Dloadtest.requests (per client, default 20),
+ * -Dloadtest.path (default a public top-N job query that hits the database on every call),
+ * -Dloadtest.token (sent as a Bearer token, for paths that need a login).
+ */
+@EnabledIfSystemProperty(named = "loadtest.url", matches = ".+")
+class VirtualThreadLoadTest {
+
+    private static final String DEFAULT_PATH = "/api/jobs/highest-paying?limit=20";
+
+    @Test
+    void concurrentClients() throws Exception {
+        String baseUrl = System.getProperty("loadtest.url");
+        String path = System.getProperty("loadtest.path", DEFAULT_PATH);
+        int clients = Integer.getInteger("loadtest.clients", 5000);
+        int requestsPerClient = Integer.getInteger("loadtest.requests", 20);
+        String token = System.getProperty("loadtest.token");
+
+        HttpClient http = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(60))
+                .GET();
+        if (token != null && !token.isBlank()) {
+            requestBuilder.header("Authorization", "Bearer " + token);
+        }
+        HttpRequest request = requestBuilder.build();
+
+        // warm-up so JIT and pool start-up are not measured; a rejected request would only measure the error path
+        for (int i = 0; i < 200; i++) {
+            int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            assertTrue(status < 400, "Warm-up request to " + path + " returned " + status);
+        }
+
+        AtomicInteger errors = new AtomicInteger();
+        List<long[]> latenciesPerClient = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                futures.add(executor.submit(() -> {
+                    long[] latencies = new long[requestsPerClient];
+                    start.await();
+                    for (int r = 0; r < requestsPerClient; r++) {
+                        long t0 = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[r] = System.nanoTime() - t0;
+                    }
+                    return latencies;
+                }));
+            }
+
+            long wallStart = System.nanoTime();
+            start.countDown();
+            for (Future<long[]> future : futures) {
+                latenciesPerClient.add(future.get());
+            }
+            long wallNanos = System.nanoTime() - wallStart;
+
+            long[] all = latenciesPerClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            double seconds = wallNanos / 1_000_000_000.0;
+
+            System.out.println("Load test against " + baseUrl + path);
+            System.out.println("Clients: " + clients + ", requests: " + all.length + ", errors: " + errors.get());
+            System.out.printf("Throughput: %.1f req/s%n", all.length / seconds);
+            System.out.printf("p50: %.1f ms, p99: %.1f ms, max: %.1f ms%n",
+                    percentile(all, 0.50), percentile(all, 0.99), all[all.length - 1] / 1_000_000.0);
+
+            assertEquals((long) clients * requestsPerClient, all.length);
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
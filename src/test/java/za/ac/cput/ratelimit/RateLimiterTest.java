@@ -0,0 +1,92 @@
+package za.ac.cput.ratelimit;
+
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private AtomicLong clock;
+    private RateLimiter limiter;
+
+    @BeforeEach
+    void setup() {
+        clock = new AtomicLong(1_000 * SECOND);
+        // burst of 3, one token back every 2 seconds, 8 one-second wheel slots
+        limiter = new RateLimiter(3, 2 * SECOND, 8, SECOND, clock::get);
+    }
+
+    @Test
+    void burstThenReject() {
+        assertEquals(0, limiter.tryAcquire("ip:1"));
+        assertEquals(0, limiter.tryAcquire("ip:1"));
+        assertEquals(0, limiter.tryAcquire("ip:1"));
+        long wait = limiter.tryAcquire("ip:1");
+        assertEquals(2 * SECOND, wait);
+    }
+
+    @Test
+    void refillsOverTime() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("ip:1");
+        }
+        clock.addAndGet(2 * SECOND);
+        assertEquals(0, limiter.tryAcquire("ip:1"));
+        assertTrue(limiter.tryAcquire("ip:1") > 0);
+    }
+
+    @Test
+    void clientsAreIndependent() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("ip:1");
+        }
+        assertTrue(limiter.tryAcquire("ip:1") > 0);
+        assertEquals(0, limiter.tryAcquire("ip:2"));
+    }
+
+    @Test
+    void sweepExpiresOnlyFullBuckets() {
+        limiter.tryAcquire("idle");
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("busy");
+        }
+        assertEquals(2, limiter.size());
+
+        // "idle" is full again after 2s; "busy" keeps spending tokens as they come back
+        for (int second = 1; second <= 5; second++) {
+            clock.addAndGet(SECOND);
+            if (second % 2 == 0) {
+                limiter.tryAcquire("busy");
+            }
+            limiter.sweep();
+        }
+        assertEquals(1, limiter.size());
+
+        clock.addAndGet(10 * SECOND);
+        limiter.sweep();
+        assertEquals(0, limiter.size());
+    }
+
+    @Test
+    void expiredClientStartsWithFullBucket() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("ip:1");
+        }
+        clock.addAndGet(20 * SECOND);
+        limiter.sweep();
+        assertEquals(0, limiter.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("ip:1"));
+        }
+    }
+
+    @Test
+    void invalidBucket() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, SECOND, 0));
+    }
+}
@@ -0,0 +1,312 @@
+package za.ac.cput.repository;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// ========================= REPOSITORY INDEX PLAN TEST =========================
+// Calls every query method declared on a repository interface with sample arguments, records the
+// SQL and bind values Hibernate actually sends, and runs EXPLAIN on each statement. Fails if MySQL
+// would answer any of them with a full table scan (access type ALL). A new repository method is
+// covered automatically; one that needs a scan has to be listed in ACCEPTED_SCANS with a reason.
+// Run in CI with "mvn -Prepository-plan test" against a MySQL at MYSQL_HOST; under that profile a
+// non-MySQL database fails the test instead of skipping it.
+@SpringBootTest
+class RepositoryIndexPlanTest {
+
+    private static final String ID = "00000000-0000-0000-0000-000000000000";
+    private static final LocalDateTime DATE = LocalDateTime.of(2024, 1, 1, 0, 0);
+    // Set by the repository-plan Maven profile
+    private static final String REQUIRED_PROPERTY = "repository.plan.required";
+
+    // Repository methods allowed to scan, because no B-tree index can serve them or they read every row by design
+    private static final Map<String, String> ACCEPTED_SCANS = Map.ofEntries(
+            Map.entry("JobRepository.searchByKeyword", "LIKE '%keyword%' has no usable index prefix"),
+            Map.entry("UserRepository.findByNameContaining", "LIKE '%keyword%' has no usable index prefix"),
+            Map.entry("SkillRepository.searchByName", "LIKE '%keyword%' has no usable index prefix"),
+            Map.entry("UserRepository.findUsersWithWorkerProfile", "returns every worker profile with its user"),
+            Map.entry("WorkerProfileRepository.findAllWithSkills", "loads every profile to build the skill bitmap index at startup"),
+            Map.entry("JobRepository.findFacetColumns", "loads every job to build the facet index at startup"));
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @TestConfiguration
+    static class RecordingDataSourceConfig {
+
+        // Unordered, like the application's DataSource post-processors; the test configuration is
+        // registered after them, so the recorder wraps whatever they produced
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new RecordingDataSourcePostProcessor();
+        }
+    }
+
+    static class RecordingDataSourcePostProcessor implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+            return bean instanceof DataSource dataSource && "dataSource".equals(beanName)
+                    ? new StatementRecorder(dataSource)
+                    : bean;
+        }
+    }
+
+    record Binding(Method setter, Object[] args) {}
+
+    record RecordedStatement(String sql, List<Binding> bindings) {}
+
+    // Records the prepared statements (and their bind values) issued by the current thread while recording
+    static class StatementRecorder extends DelegatingDataSource {
+
+        private static final ThreadLocal<List<RecordedStatement>> RECORDING = new ThreadLocal<>();
+
+        StatementRecorder(DataSource target) {
+            super(target);
+        }
+
+        static List<RecordedStatement> record(Runnable work) {
+            List<RecordedStatement> statements = new ArrayList<>();
+            RECORDING.set(statements);
+            try {
+                work.run();
+            } finally {
+                RECORDING.remove();
+            }
+            return statements;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return recording(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return recording(super.getConnection(username, password));
+        }
+
+        private static Connection recording(Connection connection) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                List<RecordedStatement> statements = RECORDING.get();
+                if (statements != null && "prepareStatement".equals(method.getName())) {
+                    RecordedStatement statement = new RecordedStatement((String) args[0], new ArrayList<>());
+                    statements.add(statement);
+                    return recording((PreparedStatement) result, statement);
+                }
+                return result;
+            };
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, handler);
+        }
+
+        private static PreparedStatement recording(PreparedStatement statement, RecordedStatement recorded) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                if (method.getName().startsWith("set") && args != null && args.length >= 2
+                        && method.getParameterTypes()[0] == int.class) {
+                    recorded.bindings().add(new Binding(method, args.clone()));
+                }
+                return invoke(statement, method, args);
+            };
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, handler);
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    @Test
+    void everyRepositoryQueryUsesAnIndex() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        if (Boolean.getBoolean(REQUIRED_PROPERTY)) {
+            assertEquals("MySQL", database, "The repository-plan profile needs a MySQL database");
+        }
+        assumeTrue("MySQL".equals(database), "EXPLAIN access types are MySQL-specific");
+
+        Map<String, List<RecordedStatement>> queries = recordRepositoryQueries();
+        assertFalse(queries.isEmpty());
+
+        List<String> fullScans = jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> {
+            List<String> scans = new ArrayList<>();
+            try (Statement session = connection.createStatement()) {
+                // The test schema holds a handful of rows, which makes a table scan look cheaper than
+                // any index lookup. Capping the assumed seeks per key restores production-like plans.
+                session.execute("SET SESSION max_seeks_for_key = 1");
+            }
+            for (Map.Entry<String, List<RecordedStatement>> query : queries.entrySet()) {
+                for (RecordedStatement statement : query.getValue()) {
+                    for (String table : scannedTables(connection, statement)) {
+                        scans.add(query.getKey() + " scans table " + table + ": " + statement.sql());
+                    }
+                }
+            }
+            return scans;
+        });
+
+        assertNotNull(fullScans);
+        assertTrue(fullScans.isEmpty(), () -> "Full table scans detected: " + fullScans);
+    }
+
+    // Every declared query method, keyed "Repository.method", with the statements one call of it issued
+    private Map<String, List<RecordedStatement>> recordRepositoryQueries() {
+        Map<String, List<RecordedStatement>> queries = new LinkedHashMap<>();
+        Repositories repositories = new Repositories(applicationContext);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        for (Class<?> domainType : repositories) {
+            Class<?> repositoryInterface = repositories.getRequiredRepositoryInformation(domainType)
+                    .getRepositoryInterface();
+            Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+
+            List<Method> methods = Arrays.stream(repositoryInterface.getDeclaredMethods())
+                    .filter(method -> !method.isDefault() && !method.isSynthetic()
+                            && !Modifier.isStatic(method.getModifiers()))
+                    .sorted(Comparator.comparing(Method::getName))
+                    .toList();
+            for (Method method : methods) {
+                String key = repositoryInterface.getSimpleName() + "." + method.getName();
+                if (ACCEPTED_SCANS.containsKey(key)) {
+                    continue;
+                }
+                if (methods.stream().filter(other -> other.getName().equals(method.getName())).count() > 1) {
+                    key += Arrays.stream(method.getParameterTypes()).map(Class::getSimpleName)
+                            .reduce((a, b) -> a + ", " + b).map(p -> "(" + p + ")").orElse("()");
+                }
+                // Rolled back, so @Modifying queries leave the test schema as they found it
+                queries.put(key, StatementRecorder.record(() -> transaction.executeWithoutResult(status -> {
+                    status.setRollbackOnly();
+                    invoke(repository, method);
+                })));
+            }
+        }
+        return queries;
+    }
+
+    private void invoke(Object repository, Method method) {
+        Type[] parameterTypes = method.getGenericParameterTypes();
+        Object[] args = new Object[parameterTypes.length];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = sampleArgument(parameterTypes[i]);
+        }
+        try {
+            method.invoke(repository, args);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Calling " + method + " failed", e);
+        }
+    }
+
+    private Object sampleArgument(Type type) {
+        Class<?> raw = (Class<?>) (type instanceof ParameterizedType parameterized ? parameterized.getRawType() : type);
+        if (Collection.class.isAssignableFrom(raw)) {
+            return List.of(sampleArgument(((ParameterizedType) type).getActualTypeArguments()[0]));
+        }
+        if (raw == String.class) {
+            return ID;
+        }
+        if (raw.isEnum()) {
+            return raw.getEnumConstants()[0];
+        }
+        if (raw == LocalDateTime.class) {
+            return DATE;
+        }
+        if (raw == int.class || raw == Integer.class) {
+            return 10;
+        }
+        if (raw == long.class || raw == Long.class) {
+            return 10L;
+        }
+        if (raw == double.class || raw == Double.class) {
+            return 1000.0;
+        }
+        if (raw == boolean.class || raw == Boolean.class) {
+            return true;
+        }
+        if (raw == Limit.class) {
+            return Limit.of(10);
+        }
+        if (raw == Pageable.class) {
+            return PageRequest.of(1, 20);
+        }
+        if (raw.isAnnotationPresent(Entity.class)) {
+            // An uninitialised reference: binds as its ID without loading anything
+            return entityManager.getReference(raw, ID);
+        }
+        throw new IllegalArgumentException("No sample argument for " + type + "; add one to sampleArgument");
+    }
+
+    private static List<String> scannedTables(Connection connection, RecordedStatement statement) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+            for (Binding binding : statement.bindings()) {
+                binding.setter().invoke(explain, binding.args());
+            }
+            try (ResultSet plan = explain.executeQuery()) {
+                while (plan.next()) {
+                    if ("ALL".equalsIgnoreCase(plan.getString("type"))) {
+                        tables.add(plan.getString("table"));
+                    }
+                }
+            }
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new SQLException("Could not bind " + statement.sql(), e);
+        }
+        return tables;
+    }
+}
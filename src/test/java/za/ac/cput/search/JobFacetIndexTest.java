@@ -0,0 +1,94 @@
+package za.ac.cput.search;
+
+import org.junit.jupiter.api.*;
+import za.ac.cput.domain.Job;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobFacetIndexTest {
+
+    private JobFacetIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new JobFacetIndex();
+        index.put("j1", "Plumbing", "Cape Town", 800.0, 1_000L, Job.JobStatus.OPEN);
+        index.put("j2", "Plumbing", "Durban", 3000.0, 2_000L, Job.JobStatus.OPEN);
+        index.put("j3", "Design", "Cape Town", 1500.0, 3_000L, Job.JobStatus.OPEN);
+        index.put("j4", "Electrical", "Cape Town", 12000.0, 4_000L, Job.JobStatus.OPEN);
+        index.put("j5", "Plumbing", "Cape Town", 450.0, 5_000L, Job.JobStatus.ASSIGNED);
+    }
+
+    @Test
+    void defaultsToOpenJobsNewestFirst() {
+        JobFacetIndex.Result result = index.search(query(null, null, null), 0, 10);
+        assertEquals(4, result.getTotal());
+        assertEquals(List.of("j4", "j3", "j2", "j1"), result.getJobIds());
+        assertEquals(Map.of(Job.JobStatus.OPEN, 4, Job.JobStatus.ASSIGNED, 1), result.getStatusCounts());
+        System.out.println("Category counts: " + result.getCategoryCounts());
+    }
+
+    @Test
+    void facetCountsIgnoreTheirOwnFilter() {
+        JobFacetIndex.Result result = index.search(query(Set.of("plumbing"), Set.of("Cape Town"), null), 0, 10);
+
+        assertEquals(List.of("j1"), result.getJobIds());
+        // categories available in Cape Town, locations available for Plumbing
+        assertEquals(Map.of("Plumbing", 1, "Design", 1, "Electrical", 1), result.getCategoryCounts());
+        assertEquals(Map.of("Cape Town", 1, "Durban", 1), result.getLocationCounts());
+        assertEquals(Map.of(BudgetBand.FROM_500_TO_1000, 1), result.getBudgetBandCounts());
+    }
+
+    @Test
+    void budgetBandsAndSorting() {
+        JobFacetQuery query = new JobFacetQuery(null, null,
+                Set.of(BudgetBand.FROM_1000_TO_2500, BudgetBand.FROM_2500_TO_5000, BudgetBand.OVER_10000),
+                null, JobFacetQuery.SortOrder.BUDGET_DESC);
+        JobFacetIndex.Result result = index.search(query, 0, 10);
+        assertEquals(List.of("j4", "j2", "j3"), result.getJobIds());
+        assertEquals(1, result.getBudgetBandCounts().get(BudgetBand.FROM_500_TO_1000));
+    }
+
+    @Test
+    void paging() {
+        JobFacetIndex.Result result = index.search(query(null, null, null), 1, 2);
+        assertEquals(4, result.getTotal());
+        assertEquals(List.of("j3", "j2"), result.getJobIds());
+        assertTrue(index.search(query(null, null, null), 10, 2).getJobIds().isEmpty());
+    }
+
+    @Test
+    void updateAndRemoveReuseSlots() {
+        index.put("j1", "Plumbing", "Cape Town", 800.0, 1_000L, Job.JobStatus.CANCELLED);
+        index.remove("j3");
+        index.put("j6", "Gardening", "Stellenbosch", 600.0, 6_000L, Job.JobStatus.OPEN);
+
+        JobFacetIndex.Result result = index.search(query(null, null, null), 0, 10);
+        assertEquals(List.of("j6", "j4", "j2"), result.getJobIds());
+        assertFalse(result.getCategoryCounts().containsKey("Design"));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void unknownFacetValueMatchesNothing() {
+        assertEquals(0, index.search(query(Set.of("Welding"), null, null), 0, 10).getTotal());
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        for (int i = 0; i < 5000; i++) {
+            index.put("bulk-" + i, "Category " + (i % 7), "Town " + (i % 13), i, i, Job.JobStatus.OPEN);
+        }
+        JobFacetIndex.Result result = index.search(query(Set.of("Category 3"), null, null), 0, 5);
+        assertEquals(714, result.getTotal());
+        assertEquals(5, result.getJobIds().size());
+    }
+
+    private static JobFacetQuery query(Set<String> categories, Set<String> locations, Set<BudgetBand> bands) {
+        return new JobFacetQuery(categories, locations, bands, null, null);
+    }
+}
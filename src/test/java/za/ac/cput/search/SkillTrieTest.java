@@ -0,0 +1,80 @@
+package za.ac.cput.search;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillTrieTest {
+
+    private static SkillTrie trie;
+
+    @BeforeAll
+    static void setup() {
+        trie = SkillTrie.build(List.of(
+                new SkillSuggestion("1", "Plumbing", "Home Maintenance", true),
+                new SkillSuggestion("2", "Plastering", "Building", false),
+                new SkillSuggestion("3", "Plant Care", "Gardening", true),
+                new SkillSuggestion("4", "Web Development", "Programming", true),
+                new SkillSuggestion("5", "Mobile Development", "Programming", false),
+                new SkillSuggestion("6", "Java Programming", "Programming", true),
+                new SkillSuggestion("7", "Pla", "Other", false)
+        ), 10);
+    }
+
+    @Test
+    void completePrefix() {
+        List<String> names = names(trie.complete("pla", 10));
+        assertEquals(List.of("Plant Care", "Pla", "Plastering"), names);
+        System.out.println("pla -> " + names);
+    }
+
+    @Test
+    void verifiedSkillsRankFirst() {
+        List<String> names = names(trie.complete("pl", 10));
+        assertEquals(List.of("Plumbing", "Plant Care", "Pla", "Plastering"), names);
+        System.out.println("pl -> " + names);
+    }
+
+    @Test
+    void prefixEndingInsideEdge() {
+        assertEquals(List.of("Plumbing"), names(trie.complete("plum", 10)));
+        assertEquals(List.of("Plumbing"), names(trie.complete("PLUMBING", 10)));
+    }
+
+    @Test
+    void matchesLaterWordsAndCategories() {
+        // "dev" only occurs as the second word of two skill names
+        assertEquals(List.of("Web Development", "Mobile Development"), names(trie.complete("dev", 10)));
+        // name match on "Java Programming" outranks the category matches
+        List<String> names = names(trie.complete("progr", 10));
+        assertEquals("Java Programming", names.get(0));
+        assertEquals(3, names.size());
+        System.out.println("progr -> " + names);
+    }
+
+    @Test
+    void eachSkillAppearsOnce() {
+        // "Java Programming" matches both as a word and through its category
+        List<String> names = names(trie.complete("programming", 10));
+        assertEquals(names.size(), names.stream().distinct().count());
+    }
+
+    @Test
+    void limitAndMisses() {
+        assertEquals(2, trie.complete("p", 2).size());
+        assertTrue(trie.complete("plx", 10).isEmpty());
+        assertTrue(trie.complete("zzz", 10).isEmpty());
+        assertEquals(7, trie.complete("", 10).size());
+    }
+
+    @Test
+    void emptyTrie() {
+        assertTrue(SkillTrie.EMPTY.complete("any", 5).isEmpty());
+    }
+
+    private static List<String> names(List<SkillSuggestion> suggestions) {
+        return suggestions.stream().map(SkillSuggestion::getName).toList();
+    }
+}
@@ -0,0 +1,78 @@
+package za.ac.cput.search;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopNFeedTest {
+
+    private TopNFeed feed;
+
+    @BeforeEach
+    void setup() {
+        feed = new TopNFeed(null, 3, 0);
+    }
+
+    private List<String> jobIds() {
+        return feed.top(10).stream().map(TopNFeed.Entry::jobId).toList();
+    }
+
+    @Test
+    void keepsBestScoresHighestFirst() {
+        feed.offer("a", 1);
+        feed.offer("b", 5);
+        feed.offer("c", 3);
+        feed.offer("d", 4);
+        assertEquals(List.of("b", "d", "c"), jobIds());
+        assertFalse(feed.isStale());
+    }
+
+    @Test
+    void rescoringAboveFloorStaysExact() {
+        feed.offer("a", 1);
+        feed.offer("b", 5);
+        feed.offer("c", 3);
+        feed.offer("d", 4);
+
+        feed.offer("c", 6);
+        feed.offer("b", 4.5);
+        assertEquals(List.of("c", "b", "d"), jobIds());
+        assertFalse(feed.isStale());
+    }
+
+    @Test
+    void rescoringBelowFloorAfterCutIsStale() {
+        feed.offer("a", 1);
+        feed.offer("b", 5);
+        feed.offer("c", 3);
+        feed.offer("d", 4);
+
+        feed.offer("b", 2);
+        assertTrue(feed.isStale());
+    }
+
+    @Test
+    void rescoringWithNothingCutStaysExact() {
+        feed.offer("a", 1);
+        feed.offer("b", 5);
+        feed.offer("b", 0.5);
+        assertEquals(List.of("a", "b"), jobIds());
+        assertFalse(feed.isStale());
+    }
+
+    @Test
+    void removalIsStaleOnlyAfterCut() {
+        feed.offer("a", 1);
+        feed.offer("b", 5);
+        feed.offer("c", 3);
+        feed.remove("a");
+        assertFalse(feed.isStale());
+
+        feed.offer("a", 1);
+        feed.offer("d", 4);
+        feed.remove("d");
+        assertTrue(feed.isStale());
+    }
+}
@@ -0,0 +1,98 @@
+package za.ac.cput.search;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkerSkillBitmapIndexTest {
+
+    private WorkerSkillBitmapIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new WorkerSkillBitmapIndex();
+        index.put("w1", Map.of("s1", "Electrician", "s2", "Solar Installation"), true, true);
+        index.put("w2", Map.of("s1", "Electrician"), true, false);
+        index.put("w3", Map.of("s2", "Solar Installation", "s3", "Plumbing"), false, true);
+        index.put("w4", Map.of("s1", "Electrician", "s3", "Plumbing"), true, true);
+    }
+
+    @Test
+    void allOf() {
+        assertEquals(List.of("w1"), ids(query(List.of("Electrician", "solar installation"), null, null)));
+        System.out.println("Electrician AND Solar -> " + ids(query(List.of("Electrician", "Solar Installation"), null, null)));
+    }
+
+    @Test
+    void anyOf() {
+        assertEquals(List.of("w1", "w3", "w4"), ids(query(null, List.of("Solar Installation", "Plumbing"), null)));
+    }
+
+    @Test
+    void noneOf() {
+        assertEquals(List.of("w1", "w2"), ids(query(List.of("Electrician"), null, List.of("Plumbing"))));
+    }
+
+    @Test
+    void availabilityAndVerification() {
+        SkillQuery query = new SkillQuery(List.of("Electrician"), null, null, true, true);
+        assertEquals(List.of("w1", "w4"), index.search(query, 0, 10).getProfileIds());
+    }
+
+    @Test
+    void unknownRequiredSkillMatchesNobody() {
+        assertEquals(0, index.search(query(List.of("Welding"), null, null), 0, 10).getTotal());
+    }
+
+    @Test
+    void paging() {
+        SkillQuery everyone = query(null, null, null);
+        WorkerSkillBitmapIndex.Result page = index.search(everyone, 1, 2);
+        assertEquals(4, page.getTotal());
+        assertEquals(List.of("w2", "w3"), page.getProfileIds());
+        assertTrue(index.search(everyone, 4, 2).getProfileIds().isEmpty());
+    }
+
+    @Test
+    void updateAndRemoveWorker() {
+        index.put("w2", Map.of("s2", "Solar Installation"), true, true);
+        assertEquals(List.of("w1"), ids(query(List.of("Electrician", "Solar Installation"), null, null)));
+        assertFalse(ids(query(List.of("Electrician"), null, null)).contains("w2"));
+
+        index.remove("w1");
+        assertEquals(List.of("w2", "w3"), ids(query(List.of("Solar Installation"), null, null)));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void renameAndRemoveSkill() {
+        index.renameSkill("s2", "Solar PV");
+        assertEquals(List.of("w1", "w3"), ids(query(List.of("Solar PV"), null, null)));
+        assertEquals(0, index.search(query(List.of("Solar Installation"), null, null), 0, 10).getTotal());
+
+        index.removeSkill("s3");
+        assertEquals(0, index.search(query(List.of("Plumbing"), null, null), 0, 10).getTotal());
+    }
+
+    @Test
+    void namesDifferingOnlyInCaseBothMatch() {
+        index.put("w5", Map.of("s4", "plumbing"), true, true);
+        assertEquals(List.of("w3", "w4", "w5"), ids(query(List.of("Plumbing"), null, null)));
+
+        index.removeSkill("s4");
+        assertEquals(List.of("w3", "w4"), ids(query(List.of("PLUMBING"), null, null)));
+        index.removeSkill("s3");
+        assertEquals(0, index.search(query(List.of("Plumbing"), null, null), 0, 10).getTotal());
+    }
+
+    private SkillQuery query(List<String> allOf, List<String> anyOf, List<String> noneOf) {
+        return new SkillQuery(allOf, anyOf, noneOf, false, false);
+    }
+
+    private List<String> ids(SkillQuery query) {
+        return index.search(query, 0, 100).getProfileIds();
+    }
+}
@@ -0,0 +1,158 @@
+package za.ac.cput.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.server.ResponseStatusException;
+import za.ac.cput.domain.Admin;
+import za.ac.cput.domain.User;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthenticationFilterTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private AtomicLong now;
+    private TokenCodec codec;
+    private TokenRevocationCache revocationCache;
+    private AuthenticationFilter filter;
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        now = new AtomicLong(1_700_000_000_000L);
+        Clock clock = new Clock() {
+            @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+            @Override public Clock withZone(ZoneId zone) { return this; }
+            @Override public Instant instant() { return Instant.ofEpochMilli(now.get()); }
+        };
+        codec = new TokenCodec(SECRET, TTL, Duration.ofHours(12), clock);
+        revocationCache = new TokenRevocationCache(TTL, clock);
+        filter = new AuthenticationFilter(codec, revocationCache);
+        user = new User.Builder()
+                .setUserId("user-1")
+                .setRoles(List.of(User.Role.BOTH))
+                .setCurrentMode(User.Mode.CLIENT)
+                .setStatus(User.Status.ACTIVE)
+                .build();
+    }
+
+    private MockHttpServletRequest request(String uri, AuthToken token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (token != null) {
+            request.addHeader("Authorization", "Bearer " + codec.encode(token));
+        }
+        return request;
+    }
+
+    @Test
+    void validTokenBecomesPrincipal() throws Exception {
+        AuthToken token = codec.issue(user, Set.of(Admin.Permission.VERIFY_SKILLS));
+        MockHttpServletRequest request = request("/api/jobs/search", token);
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        HttpServletRequest passed = (HttpServletRequest) chain.getRequest();
+        assertEquals("user-1", passed.getUserPrincipal().getName());
+        assertTrue(passed.isUserInRole("WORKER"));
+        assertTrue(passed.isUserInRole("VERIFY_SKILLS"));
+        assertFalse(passed.isUserInRole("MANAGE_USERS"));
+        assertEquals("user-1", AuthenticationFilter.currentToken(request).orElseThrow().getUserId());
+    }
+
+    @Test
+    void missingTokenPassesAnonymously() throws Exception {
+        MockHttpServletRequest request = request("/api/jobs/search", null);
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertTrue(AuthenticationFilter.currentToken(request).isEmpty());
+        assertThrows(ResponseStatusException.class, () -> AccessControl.requireToken(request));
+    }
+
+    @Test
+    void tamperedTokenIsUnauthorized() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs/search");
+        request.addHeader("Authorization", "Bearer " + codec.encode(codec.issue(user, Set.of())) + "x");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+
+        assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void revokedTokenIsUnauthorized() throws Exception {
+        AuthToken token = codec.issue(user, Set.of());
+        now.addAndGet(1);
+        revocationCache.revoke("user-1");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request("/api/jobs/search", token), response, chain);
+
+        assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void authPathsAreLeftToAuthService() throws Exception {
+        AuthToken token = codec.issue(user, Set.of());
+        revocationCache.revoke("user-1");
+
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request("/api/auth/refresh", token), new MockHttpServletResponse(), chain);
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void accessControlChecksOwnershipAndPermissions() throws Exception {
+        MockHttpServletRequest request = request("/api/activity-feed/user-1", codec.issue(user, Set.of()));
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertEquals("user-1", AccessControl.requireSelfOrPermission(request, "user-1",
+                Admin.Permission.MANAGE_USERS).getUserId());
+        ResponseStatusException otherUser = assertThrows(ResponseStatusException.class, () ->
+                AccessControl.requireSelfOrPermission(request, "user-2", Admin.Permission.MANAGE_USERS));
+        assertEquals(HttpStatus.FORBIDDEN.value(), otherUser.getStatusCode().value());
+        assertThrows(ResponseStatusException.class, () ->
+                AccessControl.requirePermission(request, Admin.Permission.VERIFY_SKILLS));
+        assertEquals("user-1", AccessControl.requireOwnerOrPermission(request, "user-1"::equals,
+                Admin.Permission.VERIFY_SKILLS).getUserId());
+        assertThrows(ResponseStatusException.class, () ->
+                AccessControl.requireOwnerOrPermission(request, userId -> false, Admin.Permission.VERIFY_SKILLS));
+    }
+
+    @Test
+    void requireAdminResolvesTheCallersAdminRecord() throws Exception {
+        MockHttpServletRequest request = request("/api/moderation/skills/verify",
+                codec.issue(user, Set.of(Admin.Permission.VERIFY_SKILLS)));
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Admin admin = new Admin.Builder().setAdminId("admin-1").setUser(user).build();
+
+        assertEquals("admin-1", AccessControl.requireAdmin(request, Admin.Permission.VERIFY_SKILLS,
+                userId -> userId.equals("user-1") ? Optional.of(admin) : Optional.empty()).getAdminId());
+        assertThrows(ResponseStatusException.class, () -> AccessControl.requireAdmin(request,
+                Admin.Permission.VERIFY_SKILLS, userId -> Optional.empty()));
+        assertThrows(ResponseStatusException.class, () -> AccessControl.requireAdmin(request,
+                Admin.Permission.MANAGE_USERS, userId -> Optional.of(admin)));
+    }
+}
@@ -0,0 +1,147 @@
+package za.ac.cput.security;
+
+import org.junit.jupiter.api.*;
+import za.ac.cput.domain.Admin;
+import za.ac.cput.domain.User;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenCodecTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final Duration TTL = Duration.ofHours(1);
+    private static final Duration MAX_SESSION = Duration.ofHours(3);
+
+    private AtomicLong now;
+    private Clock clock;
+    private TokenCodec codec;
+    private TokenRevocationCache revocationCache;
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        now = new AtomicLong(1_700_000_000_000L);
+        clock = new Clock() {
+            @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+            @Override public Clock withZone(ZoneId zone) { return this; }
+            @Override public Instant instant() { return Instant.ofEpochMilli(now.get()); }
+        };
+        codec = new TokenCodec(SECRET, TTL, MAX_SESSION, clock);
+        revocationCache = new TokenRevocationCache(TTL, clock);
+        user = new User.Builder()
+                .setUserId("user-1")
+                .setRoles(List.of(User.Role.BOTH))
+                .setCurrentMode(User.Mode.WORKER)
+                .setStatus(User.Status.ACTIVE)
+                .build();
+    }
+
+    @Test
+    void roundTripKeepsClaims() {
+        AuthToken issued = codec.issue(user, Set.of(Admin.Permission.VERIFY_SKILLS));
+        Optional<AuthToken> decoded = codec.decode(codec.encode(issued));
+
+        assertTrue(decoded.isPresent());
+        assertEquals("user-1", decoded.get().getUserId());
+        assertEquals(User.Mode.WORKER, decoded.get().getCurrentMode());
+        assertTrue(decoded.get().hasRole(User.Role.CLIENT));
+        assertTrue(decoded.get().hasPermission(Admin.Permission.VERIFY_SKILLS));
+        assertEquals(issued.getExpiresAt(), decoded.get().getExpiresAt());
+        assertEquals(issued.getSessionStartedAt(), decoded.get().getSessionStartedAt());
+    }
+
+    @Test
+    void tamperedTokenRejected() {
+        String encoded = codec.encode(codec.issue(user, Set.of()));
+        String forgedClaims = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                ("v2|user-1|BOTH|WORKER|" + Admin.Permission.VERIFY_SKILLS + "|0|0|" + Long.MAX_VALUE).getBytes());
+        String forged = forgedClaims + encoded.substring(encoded.indexOf('.'));
+
+        assertTrue(codec.decode(forged).isEmpty());
+        assertTrue(codec.decode("not-a-token").isEmpty());
+        assertTrue(codec.decode(null).isEmpty());
+    }
+
+    @Test
+    void otherSecretRejected() {
+        byte[] otherSecret = new byte[32];
+        otherSecret[0] = 1;
+        TokenCodec other = new TokenCodec(Base64.getEncoder().encodeToString(otherSecret), TTL, MAX_SESSION, clock);
+        assertTrue(other.decode(codec.encode(codec.issue(user, Set.of()))).isEmpty());
+    }
+
+    @Test
+    void expiredTokenRejected() {
+        String encoded = codec.encode(codec.issue(user, Set.of()));
+        now.addAndGet(TTL.toMillis());
+        assertTrue(codec.decode(encoded).isEmpty());
+    }
+
+    @Test
+    void revocationRejectsOlderTokensOnly() {
+        AuthToken before = codec.issue(user, Set.of());
+        now.addAndGet(1);
+        revocationCache.revoke("user-1");
+        now.addAndGet(1);
+        AuthToken after = codec.issue(user, Set.of());
+
+        assertTrue(revocationCache.isRevoked(before));
+        assertFalse(revocationCache.isRevoked(after));
+        assertFalse(revocationCache.isRevoked(codec.issue(new User.Builder().copy(user).setUserId("user-2").build(), Set.of())));
+    }
+
+    @Test
+    void revocationRejectsTokenIssuedInSameMillisecond() {
+        AuthToken sameInstant = codec.issue(user, Set.of());
+        revocationCache.revoke("user-1");
+        assertTrue(revocationCache.isRevoked(sameInstant));
+    }
+
+    @Test
+    void renewKeepsSessionStart() {
+        AuthToken first = codec.issue(user, Set.of());
+        now.addAndGet(TTL.toMillis() / 2);
+        AuthToken renewed = codec.renew(first, user, Set.of()).orElseThrow();
+
+        assertEquals(first.getSessionStartedAt(), renewed.getSessionStartedAt());
+        assertEquals(now.get(), renewed.getIssuedAt());
+        assertEquals(now.get() + TTL.toMillis(), renewed.getExpiresAt());
+    }
+
+    @Test
+    void renewStopsAtMaxSession() {
+        AuthToken token = codec.issue(user, Set.of());
+        long sessionEnd = token.getSessionStartedAt() + MAX_SESSION.toMillis();
+        while (now.addAndGet(TTL.toMillis() - 1) < sessionEnd) {
+            token = codec.renew(token, user, Set.of()).orElseThrow();
+            assertTrue(token.getExpiresAt() <= sessionEnd);
+        }
+        assertTrue(codec.renew(token, user, Set.of()).isEmpty());
+    }
+
+    @Test
+    void revocationEntriesExpireWithTokens() {
+        revocationCache.revoke("user-1");
+        assertEquals(1, revocationCache.size());
+        now.addAndGet(TTL.toMillis() + 1);
+        revocationCache.purgeExpired();
+        assertEquals(0, revocationCache.size());
+    }
+
+    @Test
+    void shortSecretRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TokenCodec(Base64.getEncoder().encodeToString(new byte[16]), TTL, MAX_SESSION, clock));
+    }
+}
@@ -0,0 +1,103 @@
+package za.ac.cput.service;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.*;
+import org.springframework.boot.test.context.*;
+import org.springframework.data.domain.Slice;
+import za.ac.cput.domain.*;
+import za.ac.cput.factory.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ActivityFeedServiceTest {
+
+    @Autowired
+    private ActivityFeedService activityFeedService;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private UserService userService;
+
+    private static User clientUser;
+    private static Job firstJob;
+    private static Job secondJob;
+
+    @Test
+    @Order(1)
+    void setup() {
+        clientUser = userService.create(UserFactory.createClientUser(
+                "Feed", "Client", "feedclient@test.com", "Password123!"));
+        assertNotNull(clientUser.getUserId());
+    }
+
+    @Test
+    @Order(2)
+    void postingJobsWritesFeed() {
+        firstJob = jobService.postJob(clientUser, "Paint the lounge",
+                "Two walls, paint supplied", "Home Maintenance", 1200.0, "Cape Town");
+        secondJob = jobService.postJob(clientUser, "Fix garden gate",
+                "Hinge has come loose", "Home Maintenance", 400.0, "Cape Town");
+
+        Slice<ActivityFeedEntry> feed = activityFeedService.getFeed(clientUser.getUserId(), 0, 10);
+        assertEquals(2, feed.getContent().size());
+        assertEquals(secondJob.getJobId(), feed.getContent().get(0).getSubjectId());
+        assertEquals(firstJob.getJobId(), feed.getContent().get(1).getSubjectId());
+        assertFalse(feed.hasNext());
+        feed.forEach(System.out::println);
+    }
+
+    @Test
+    @Order(3)
+    void cachedFeedSeesNewEntries() {
+        assertTrue(activityFeedService.countCachedFeeds() >= 1);
+        jobService.cancelJob(firstJob.getJobId());
+
+        Slice<ActivityFeedEntry> feed = activityFeedService.getFeed(clientUser.getUserId(), 0, 10);
+        assertEquals(3, feed.getContent().size());
+        assertEquals(ActivityFeedEntry.ActivityType.JOB_CANCELLED, feed.getContent().get(0).getActivityType());
+    }
+
+    @Test
+    @Order(4)
+    void paging() {
+        Slice<ActivityFeedEntry> firstPage = activityFeedService.getFeed(clientUser.getUserId(), 0, 2);
+        Slice<ActivityFeedEntry> secondPage = activityFeedService.getFeed(clientUser.getUserId(), 1, 2);
+        assertEquals(2, firstPage.getContent().size());
+        assertTrue(firstPage.hasNext());
+        assertEquals(1, secondPage.getContent().size());
+        assertFalse(secondPage.hasNext());
+    }
+
+    @Test
+    @Order(5)
+    void getFeed_InvalidPage_ShouldFail() {
+        assertThrows(IllegalArgumentException.class, () ->
+                activityFeedService.getFeed(clientUser.getUserId(), -1, 10));
+    }
+
+    @Test
+    @Order(6)
+    void getFeed_HugePage_ShouldBeEmpty() {
+        Slice<ActivityFeedEntry> feed = activityFeedService.getFeed(clientUser.getUserId(), Integer.MAX_VALUE, 1000);
+        assertTrue(feed.getContent().isEmpty());
+        assertTrue(feed.getSize() <= 100);
+    }
+
+    @Test
+    @Order(7)
+    void recordAll_NullEntry_ShouldFail() {
+        List<ActivityFeedEntry> entries = new ArrayList<>();
+        entries.add(ActivityFeedFactory.createEntry(clientUser, ActivityFeedEntry.ActivityType.JOB_POSTED,
+                firstJob.getJobId(), "You posted a job"));
+        entries.add(null);
+        assertThrows(IllegalArgumentException.class, () -> activityFeedService.recordAll(entries));
+        assertEquals(3, activityFeedService.getFeed(clientUser.getUserId(), 0, 10).getContent().size());
+    }
+}
@@ -0,0 +1,129 @@
+package za.ac.cput.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import za.ac.cput.domain.AdminAuditEvent;
+import za.ac.cput.repository.AdminAuditEventRepository;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminAuditServiceTest {
+
+    private final List<AdminAuditEvent> inserted = new ArrayList<>();
+    private final List<AdminAuditEvent> deadLettered = new ArrayList<>();
+    private Predicate<AdminAuditEvent> insertFails;
+    private boolean deadLetterFails;
+    private AdminAuditService service;
+
+    @BeforeEach
+    void setup() {
+        insertFails = event -> false;
+        deadLetterFails = false;
+        // Only the batch insert methods are called by append/flush
+        AdminAuditEventRepository repository = (AdminAuditEventRepository) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[]{AdminAuditEventRepository.class},
+                (proxy, method, args) -> {
+                    @SuppressWarnings("unchecked")
+                    List<AdminAuditEvent> events = (List<AdminAuditEvent>) args[0];
+                    switch (method.getName()) {
+                        case "insertAll" -> {
+                            if (events.stream().anyMatch(insertFails)) {
+                                throw new IllegalStateException("insert failed");
+                            }
+                            inserted.addAll(events);
+                            return events;
+                        }
+                        case "insertDeadLetters" -> {
+                            if (deadLetterFails) {
+                                throw new IllegalStateException("dead letter failed");
+                            }
+                            deadLettered.addAll(events);
+                            return events.size();
+                        }
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        PlatformTransactionManager transactionManager = new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+            }
+        };
+        service = new AdminAuditService(repository, transactionManager, 3, 10, 10, 3);
+    }
+
+    @Test
+    void appendFailsWhenBufferStaysFull() {
+        service.append("admin-1", "one");
+        service.append("admin-1", "two");
+        service.append("admin-1", "three");
+        assertThrows(IllegalStateException.class, () -> service.append("admin-1", "four"));
+
+        assertEquals(3, service.flush());
+        assertNotNull(service.append("admin-1", "four"));
+    }
+
+    @Test
+    void failedBatchIsRetriedInOrder() {
+        insertFails = event -> true;
+        service.append("admin-1", "one");
+        service.append("admin-1", "two");
+        assertEquals(0, service.flush());
+        assertEquals(2, service.countPending());
+
+        insertFails = event -> false;
+        service.append("admin-1", "three");
+        assertEquals(3, service.flush());
+        assertEquals(List.of("one", "two", "three"), inserted.stream().map(AdminAuditEvent::getAction).toList());
+        assertEquals(0, service.countPending());
+    }
+
+    @Test
+    void poisonEventIsDeadLetteredAfterMaxAttempts() {
+        insertFails = event -> event.getAction().equals("bad");
+        service.append("admin-1", "good");
+        service.append("admin-1", "bad");
+        service.append("admin-1", "after");
+
+        assertEquals(0, service.flush());
+        assertEquals(0, service.flush());
+        assertEquals(2, service.flush());
+
+        assertEquals(List.of("good", "after"), inserted.stream().map(AdminAuditEvent::getAction).toList());
+        assertEquals(List.of("bad"), deadLettered.stream().map(AdminAuditEvent::getAction).toList());
+        assertEquals(0, service.countPending());
+    }
+
+    @Test
+    void eventsAreHeldWhileDeadLetterTableIsUnavailable() {
+        insertFails = event -> true;
+        deadLetterFails = true;
+        service.append("admin-1", "one");
+        service.append("admin-1", "two");
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, service.flush());
+        }
+        assertEquals(2, service.countPending());
+
+        insertFails = event -> false;
+        assertEquals(2, service.flush());
+        assertTrue(deadLettered.isEmpty());
+    }
+}
@@ -25,6 +25,9 @@ class AdminServiceTest {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private AdminAuditService adminAuditService;
+
     private static Admin testAdmin;
     private static User testUser;
 
@@ -58,6 +61,16 @@ class AdminServiceTest {
 
     @Test
     @Order(3)
+    void createFirstSuperAdmin_OnceAdminsExist_ShouldFail() {
+        User other = userService.create(UserFactory.createClientUser(
+                "Second", "Admin", "secondadmin@test.com", "Password123!"));
+        assertTrue(adminService.hasAdmins());
+        assertThrows(IllegalStateException.class, () -> adminService.createFirstSuperAdmin(other));
+        assertFalse(adminService.isUserAdmin(other));
+    }
+
+    @Test
+    @Order(4)
     void create_DuplicateAdmin_ShouldFail() {
         assertThrows(IllegalStateException.class, () -> {
             adminService.createSuperAdmin(testUser);
@@ -66,7 +79,7 @@ class AdminServiceTest {
     }
 
     @Test
-    @Order(4)
+    @Order(5)
     void createSkillVerifier() {
         User verifierUser = UserFactory.createClientUser(
                 "Skill", "Verifier", "verifier@test.com", "Password123!"
@@ -81,7 +94,7 @@ class AdminServiceTest {
     }
 
     @Test
-    @Order(5)
+    @Order(6)
     void createCustomAdmin() {
         User customAdminUser = UserFactory.createClientUser(
                 "Custom", "Admin", "custom@test.com", "Password123!"
@@ -104,7 +117,7 @@ class AdminServiceTest {
     }
 
     @Test
-    @Order(6)
+    @Order(7)
     void read() {
         Admin readAdmin = adminService.read(testAdmin.getAdminId());
         assertNotNull(readAdmin);
@@ -114,7 +127,7 @@ class AdminServiceTest {
     }
 
     @Test
-    @Order(7)
+    @Order(8)
     void addPermission() {
         testAdmin = adminService.addPermission(testAdmin.getAdminId(), Admin.Permission.MANAGE_PAYMENTS);
         assertTrue(testAdmin.getPermissions().contains(Admin.Permission.MANAGE_PAYMENTS));
@@ -122,7 +135,7 @@ class AdminServiceTest {
     }
 
     @Test
-    @Order(8)
+    @Order(9)
     void removePermission() {
         testAdmin = adminService.removePermission(testAdmin.getAdminId(), Admin.Permission.VIEW_REPORTS);
         assertFalse(testAdmin.getPermissions().contains(Admin.Permission.VIEW_REPORTS));
@@ -130,16 +143,21 @@ class AdminServiceTest {
     }
 
     @Test
-    @Order(9)
+    @Order(10)
     void logAction() {
-        testAdmin = adminService.logAction(testAdmin.getAdminId(), "Performed test action");
-        assertNotNull(testAdmin.getActionsLog());
-        assertTrue(testAdmin.getActionsLog().contains("Performed test action"));
-        System.out.println("Logged action for admin");
+        AdminAuditEvent event = adminService.logAction(testAdmin.getAdminId(), "Performed test action");
+        assertNotNull(event);
+        assertEquals(testAdmin.getAdminId(), event.getAdminId());
+
+        adminAuditService.flush();
+        List<AdminAuditEvent> events = adminService.getAuditEvents(testAdmin.getAdminId(), null, null, 0, 10).getContent();
+        assertTrue(events.stream().anyMatch(e -> e.getAction().equals("Performed test action")));
+        assertTrue(events.stream().anyMatch(e -> e.getAction().equals("Super admin created")));
+        System.out.println("Logged action for admin: " + event);
     }
 
     @Test
-    @Order(10)
+    @Order(11)
     void findByUser() {
         Optional<Admin> foundAdmin = adminService.findByUser(testUser);
         assertTrue(foundAdmin.isPresent());
@@ -148,7 +166,7 @@ class AdminServiceTest {
     }
 
     @Test
-    @Order(11)
+    @Order(12)
     void hasPermission() {
         boolean hasManageUsers = adminService.hasPermission(testUser, Admin.Permission.MANAGE_USERS);
         boolean hasResolveDisputes = adminService.hasPermission(testUser, Admin.Permission.RESOLVE_DISPUTES);
@@ -159,7 +177,7 @@ class AdminServiceTest {
     }
 
     @Test
-    @Order(12)
+    @Order(13)
     void isUserAdmin() {
         boolean isAdmin = adminService.isUserAdmin(testUser);
         assertTrue(isAdmin);
@@ -167,7 +185,7 @@ class AdminServiceTest {
     }
 
     @Test
-    @Order(13)
+    @Order(14)
     void findAdminsByPermission() {
         List<Admin> adminsWithManageUsers = adminService.findAdminsByPermission(Admin.Permission.MANAGE_USERS);
         assertFalse(adminsWithManageUsers.isEmpty());
@@ -177,7 +195,7 @@ class AdminServiceTest {
     }
 
     @Test
-    @Order(14)
+    @Order(15)
     void findAdminsCreatedBetween() {
         LocalDateTime yesterday = LocalDateTime.now().minusDays(1);
         LocalDateTime tomorrow = LocalDateTime.now().plusDays(1);
@@ -188,7 +206,7 @@ class AdminServiceTest {
     }
 
     @Test
-    @Order(15)
+    @Order(16)
     void delete() {
         Admin deletedAdmin = adminService.delete(testAdmin.getAdminId());
         assertNotNull(deletedAdmin);
@@ -0,0 +1,89 @@
+package za.ac.cput.service;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import za.ac.cput.domain.Admin;
+import za.ac.cput.domain.User;
+import za.ac.cput.factory.UserFactory;
+import za.ac.cput.security.AuthToken;
+import za.ac.cput.security.TokenCodec;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class AuthServiceTest {
+
+    private static final String CLIENT_ADDRESS = "10.0.0.1";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private TokenCodec tokenCodec;
+
+    private static User user;
+    private static String token;
+
+    @Test
+    @Order(1)
+    void setup() {
+        user = userService.create(UserFactory.createClientUser(
+                "Auth", "Refresh", "authrefresh@test.com", "Password123!"));
+        assertNotNull(user.getUserId());
+    }
+
+    @Test
+    @Order(2)
+    void login() {
+        assertTrue(authService.login("authrefresh@test.com", "WrongPassword1!", CLIENT_ADDRESS).isEmpty());
+        Optional<String> issued = authService.login("authrefresh@test.com", "Password123!", CLIENT_ADDRESS);
+        assertTrue(issued.isPresent());
+        token = issued.get();
+        assertEquals(user.getUserId(), tokenCodec.decode(token).orElseThrow().getUserId());
+    }
+
+    @Test
+    @Order(3)
+    void refresh_KeepsSessionStart() {
+        AuthToken original = tokenCodec.decode(token).orElseThrow();
+        AuthToken refreshed = tokenCodec.decode(authService.refresh(token).orElseThrow()).orElseThrow();
+        assertEquals(original.getSessionStartedAt(), refreshed.getSessionStartedAt());
+        assertTrue(refreshed.getIssuedAt() >= original.getIssuedAt());
+    }
+
+    @Test
+    @Order(4)
+    void refresh_InvalidToken_ShouldFail() {
+        assertTrue(authService.refresh(token + "x").isEmpty());
+        assertTrue(authService.refresh(null).isEmpty());
+    }
+
+    @Test
+    @Order(5)
+    void refresh_AfterPasswordChange_ShouldFail() {
+        User stored = userService.read(user.getUserId());
+        userService.update(new User.Builder().copy(stored).setPassword("Changed456!").build());
+        assertTrue(authService.refresh(token).isEmpty());
+    }
+
+    @Test
+    @Order(6)
+    void refresh_AfterAdminChange_ShouldFail() throws InterruptedException {
+        // the revocation cutoff is inclusive, so the new login has to land after it
+        Thread.sleep(5);
+        String adminToken = authService.login("authrefresh@test.com", "Changed456!", CLIENT_ADDRESS).orElseThrow();
+        Admin admin = adminService.createSkillVerifier(userService.read(user.getUserId()));
+        adminService.update(new Admin.Builder().copy(admin).setPermissionMask(0).build());
+        assertTrue(authService.refresh(adminToken).isEmpty());
+    }
+}
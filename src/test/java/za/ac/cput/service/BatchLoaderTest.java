@@ -0,0 +1,87 @@
+package za.ac.cput.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchLoaderTest {
+
+    private static final Map<String, String> ROWS = Map.of("a", "Alpha", "b", "Beta", "c", "Gamma");
+
+    private final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    private BatchReadResult<String, String> readAll(Collection<String> ids) {
+        batches.add(List.copyOf(ids));
+        return BatchReadResult.of(ids, ROWS::get);
+    }
+
+    @Test
+    void queuedLoadsAreAnsweredByOneBatch() {
+        BatchLoader<String, String> loader = new BatchLoader<>(this::readAll, "Row");
+
+        CompletableFuture<String> a = loader.load("a");
+        CompletableFuture<String> b = loader.load("b");
+        CompletableFuture<String> again = loader.load("a");
+        assertFalse(a.isDone());
+
+        assertEquals("Beta", loader.get("b"));
+        assertEquals("Alpha", a.join());
+        assertSame(a, again);
+        assertEquals(List.of(List.of("a", "b")), batches);
+        System.out.println(batches);
+    }
+
+    @Test
+    void loadedIdsAreNotReadAgain() {
+        BatchLoader<String, String> loader = new BatchLoader<>(this::readAll, "Row");
+
+        loader.get("a");
+        BatchReadResult<String, String> result = loader.getAll(List.of("a", "c", "zz"));
+
+        assertEquals(List.of("Alpha", "Gamma"), result.getFound());
+        assertEquals(List.of("zz"), result.getMissingIds());
+        assertEquals(List.of(List.of("a"), List.of("c", "zz")), batches);
+    }
+
+    @Test
+    void missingIdThrowsLikeRead() {
+        BatchLoader<String, String> loader = new BatchLoader<>(this::readAll, "Row");
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> loader.get("missing"));
+        assertEquals("Row not found with ID: missing", e.getMessage());
+    }
+
+    @Test
+    void failedBatchIsRetried() {
+        int[] calls = {0};
+        BatchLoader<String, String> loader = new BatchLoader<>(ids -> {
+            if (calls[0]++ == 0) {
+                throw new IllegalStateException("connection lost");
+            }
+            return BatchReadResult.of(ids, ROWS::get);
+        }, "Row");
+
+        assertThrows(IllegalStateException.class, () -> loader.get("a"));
+        assertEquals("Alpha", loader.get("a"));
+    }
+
+    @Test
+    void concurrentLoadsShareBatches() {
+        BatchLoader<String, String> loader = new BatchLoader<>(this::readAll, "Row");
+
+        List<CompletableFuture<String>> results = IntStream.range(0, 30)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> loader.get(List.of("a", "b", "c").get(i % 3))))
+                .toList();
+
+        results.forEach(CompletableFuture::join);
+        assertTrue(batches.stream().mapToInt(List::size).sum() <= 3);
+    }
+}
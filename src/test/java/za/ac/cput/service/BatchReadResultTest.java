@@ -0,0 +1,56 @@
+package za.ac.cput.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchReadResultTest {
+
+    @Test
+    void keepsRequestOrderAndReportsMissing() {
+        Map<String, String> rows = Map.of("a", "Alpha", "b", "Beta");
+
+        BatchReadResult<String, String> result = BatchReadResult.load(List.of("b", "x", "a", "b"),
+                ids -> ids.stream().filter(rows::containsKey).map(rows::get).toList(),
+                name -> name.substring(0, 1).toLowerCase());
+
+        assertEquals(List.of("Beta", "Alpha"), result.getFound());
+        assertEquals(List.of("x"), result.getMissingIds());
+        assertEquals("Alpha", result.get("a"));
+        assertFalse(result.isComplete());
+        System.out.println(result);
+    }
+
+    @Test
+    void splitsLongListsIntoChunks() {
+        List<Integer> ids = IntStream.range(0, BatchReadResult.CHUNK_SIZE * 2 + 1).boxed().toList();
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        BatchReadResult<Integer, Integer> result = BatchReadResult.load(ids, chunk -> {
+            chunkSizes.add(chunk.size());
+            return chunk;
+        }, id -> id);
+
+        assertEquals(List.of(BatchReadResult.CHUNK_SIZE, BatchReadResult.CHUNK_SIZE, 1), chunkSizes);
+        assertEquals(ids, result.getFound());
+        assertTrue(result.isComplete());
+    }
+
+    @Test
+    void emptyAndNullIds() {
+        List<String> withNull = new ArrayList<>();
+        withNull.add(null);
+
+        assertTrue(BatchReadResult.<String, String>load(List.of(), ids -> List.of(), s -> s).getFound().isEmpty());
+        assertTrue(BatchReadResult.<String, String>load(null, ids -> List.of(), s -> s).isComplete());
+        assertTrue(BatchReadResult.<String, String>load(withNull, ids -> {
+            fail("no query expected");
+            return List.of();
+        }, s -> s).isComplete());
+    }
+}
@@ -0,0 +1,72 @@
+package za.ac.cput.service;
+
+import org.junit.jupiter.api.Test;
+import za.ac.cput.domain.Verification;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkModerationResultTest {
+
+    @Test
+    void planClassifiesEachId() {
+        Map<String, String> statuses = new HashMap<>();
+        statuses.put("v-1", "PENDING");
+        statuses.put("v-2", "VERIFIED");
+        statuses.put("v-4", "PENDING");
+
+        BulkModerationResult result = BulkModerationResult.plan(List.of("v-1", "v-2", "v-3", "v-4"), statuses,
+                EnumSet.of(Verification.VerificationStatus.PENDING));
+
+        assertEquals(BulkModerationResult.Outcome.UPDATED, result.getOutcomes().get("v-1"));
+        assertEquals(BulkModerationResult.Outcome.INVALID_STATE, result.getOutcomes().get("v-2"));
+        assertEquals(BulkModerationResult.Outcome.NOT_FOUND, result.getOutcomes().get("v-3"));
+        assertEquals(List.of("v-1", "v-4"), result.getUpdatedIds());
+        assertEquals(2, result.getUpdatedCount());
+        System.out.println(result);
+    }
+
+    @Test
+    void nullStatusIsInvalidState() {
+        Map<String, String> statuses = new HashMap<>();
+        statuses.put("v-1", null);
+
+        BulkModerationResult result = BulkModerationResult.plan(List.of("v-1"), statuses,
+                EnumSet.of(Verification.VerificationStatus.PENDING));
+        assertEquals(BulkModerationResult.Outcome.INVALID_STATE, result.getOutcomes().get("v-1"));
+    }
+
+    @Test
+    void idsLeasedElsewhereAreLeftAlone() {
+        Map<String, String> statuses = new HashMap<>();
+        statuses.put("v-1", "PENDING");
+        statuses.put("v-2", "PENDING");
+
+        BulkModerationResult result = BulkModerationResult.plan(List.of("v-1", "v-2", "v-3"), statuses,
+                EnumSet.of(Verification.VerificationStatus.PENDING), Set.of("v-2", "v-3"));
+        assertEquals(BulkModerationResult.Outcome.UPDATED, result.getOutcomes().get("v-1"));
+        assertEquals(BulkModerationResult.Outcome.LEASED, result.getOutcomes().get("v-2"));
+        assertEquals(BulkModerationResult.Outcome.NOT_FOUND, result.getOutcomes().get("v-3"));
+        assertEquals(List.of("v-1"), result.getUpdatedIds());
+    }
+
+    @Test
+    void distinctIdsDropsBlanksAndDuplicates() {
+        assertEquals(List.of("a", "b"), BulkModerationResult.distinctIds(List.of("a", " b ", "a", " ")));
+    }
+
+    @Test
+    void distinctIdsRejectsEmptyAndOversizedLists() {
+        assertThrows(IllegalArgumentException.class, () -> BulkModerationResult.distinctIds(null));
+        assertThrows(IllegalArgumentException.class, () -> BulkModerationResult.distinctIds(Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> BulkModerationResult.distinctIds(
+                IntStream.rangeClosed(0, BulkModerationResult.MAX_IDS).mapToObj(i -> "id-" + i).toList()));
+    }
+}
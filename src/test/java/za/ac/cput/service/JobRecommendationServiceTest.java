@@ -0,0 +1,113 @@
+package za.ac.cput.service;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.*;
+import org.springframework.boot.test.context.*;
+import za.ac.cput.domain.*;
+import za.ac.cput.factory.*;
+import za.ac.cput.search.ScoredJob;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class JobRecommendationServiceTest {
+
+    @Autowired
+    private JobRecommendationService jobRecommendationService;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private SkillService skillService;
+
+    @Autowired
+    private WorkerProfileService workerProfileService;
+
+    private static User clientUser;
+    private static WorkerProfile workerProfile;
+    private static Job localPlumbingJob;
+    private static Job remotePlumbingJob;
+    private static Job designJob;
+    private static Job newPlumbingJob;
+
+    @Test
+    @Order(1)
+    void setup() {
+        clientUser = userService.create(UserFactory.createClientUser(
+                "Recommend", "Client", "recommendclient@test.com", "Password123!"));
+        User workerUser = userService.create(UserFactory.createWorkerUser(
+                "Recommend", "Worker", "recommendworker@test.com", "Password123!", "0821112233"));
+        Skill plumbing = skillService.createSkill("Plumbing", "Home Maintenance", "Pipes, geysers and drains");
+        workerProfile = workerProfileService.createBasicWorkerProfile(
+                workerUser, List.of(plumbing), 250.0, "Cape Town");
+        assertNotNull(workerProfile.getProfileId());
+        System.out.println("Created worker profile: " + workerProfile.getProfileId());
+    }
+
+    @Test
+    @Order(2)
+    void postJobs() {
+        localPlumbingJob = jobService.postJob(clientUser, "Burst pipe plumbing repair",
+                "Kitchen pipe burst, plumbing repair required today", "Home Maintenance", 3000.0, "Cape Town");
+        remotePlumbingJob = jobService.postJob(clientUser, "Bathroom plumbing",
+                "Replace taps and fix a leaking drain", "Home Maintenance", 800.0, "Durban");
+        designJob = jobService.postJob(clientUser, "Logo design",
+                "Design a logo for a coffee shop", "Design", 1500.0, "Cape Town");
+        assertTrue(jobRecommendationService.countIndexedJobs() >= 3);
+    }
+
+    @Test
+    @Order(3)
+    void recommendJobs() {
+        List<ScoredJob> feed = jobRecommendationService.recommendJobs(workerProfile.getProfileId(), 10);
+        List<String> jobIds = feed.stream().map(s -> s.getJob().getJobId()).toList();
+
+        assertTrue(jobIds.contains(localPlumbingJob.getJobId()));
+        assertTrue(jobIds.contains(remotePlumbingJob.getJobId()));
+        assertFalse(jobIds.contains(designJob.getJobId()));
+        assertTrue(jobIds.indexOf(localPlumbingJob.getJobId()) < jobIds.indexOf(remotePlumbingJob.getJobId()));
+        feed.forEach(System.out::println);
+    }
+
+    @Test
+    @Order(4)
+    void newJobAppearsInExistingFeed() {
+        newPlumbingJob = jobService.postJob(clientUser, "Geyser plumbing installation",
+                "Install a new geyser", "Home Maintenance", 5000.0, "Cape Town");
+
+        List<ScoredJob> feed = jobRecommendationService.recommendJobs(workerProfile.getProfileId(), 10);
+        assertTrue(feed.stream().anyMatch(s -> s.getJob().getJobId().equals(newPlumbingJob.getJobId())));
+        System.out.println("New job added to feed: " + newPlumbingJob.getJobId());
+    }
+
+    @Test
+    @Order(5)
+    void cancelledJobLeavesFeed() {
+        jobService.cancelJob(remotePlumbingJob.getJobId());
+
+        List<ScoredJob> feed = jobRecommendationService.recommendJobs(workerProfile.getProfileId(), 10);
+        assertTrue(feed.stream().noneMatch(s -> s.getJob().getJobId().equals(remotePlumbingJob.getJobId())));
+        System.out.println("Cancelled job removed from feed: " + remotePlumbingJob.getJobId());
+    }
+
+    @Test
+    @Order(6)
+    void recommendJobs_InvalidLimit_ShouldFail() {
+        assertThrows(IllegalArgumentException.class, () ->
+                jobRecommendationService.recommendJobs(workerProfile.getProfileId(), 0));
+    }
+
+    @Test
+    @Order(7)
+    void recommendJobs_UnknownProfile_ShouldFail() {
+        assertThrows(RuntimeException.class, () ->
+                jobRecommendationService.recommendJobs("missing-profile", 10));
+    }
+}
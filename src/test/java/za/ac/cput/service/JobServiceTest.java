@@ -253,6 +253,20 @@ class JobServiceTest {
 
     @Test
     @Order(19)
+    void findHighestPayingJobs_Limited() {
+        List<Job> topJobs = jobService.findHighestPayingJobs(2);
+        assertFalse(topJobs.isEmpty());
+        assertTrue(topJobs.size() <= 2);
+        assertTrue(topJobs.stream().allMatch(job -> job.getStatus() == Job.JobStatus.OPEN));
+        for (int i = 1; i < topJobs.size(); i++) {
+            assertTrue(topJobs.get(i - 1).getBudget() >= topJobs.get(i).getBudget());
+        }
+        assertThrows(IllegalArgumentException.class, () -> jobService.findHighestPayingJobs(0));
+        System.out.println("Top paying jobs: " + topJobs.size());
+    }
+
+    @Test
+    @Order(20)
     void delete() {
         Job deletedJob = jobService.delete(testJob.getJobId());
         assertNotNull(deletedJob);
@@ -263,4 +277,19 @@ class JobServiceTest {
         });
         System.out.println("Deleted job: " + deletedJob.getJobId());
     }
-}
\ No newline at end of file
+
+    @Test
+    @Order(21)
+    void readAll() {
+        // testJob was deleted in the previous step, so it must be reported as missing
+        BatchReadResult<Job, String> result = jobService.readAll(
+                List.of(secondJob.getJobId(), testJob.getJobId(), secondJob.getJobId()));
+
+        assertEquals(1, result.getFound().size());
+        assertEquals(secondJob.getJobId(), result.getFound().get(0).getJobId());
+        assertEquals(List.of(testJob.getJobId()), result.getMissingIds());
+        assertFalse(result.isComplete());
+        assertTrue(jobService.readAll(List.of()).getFound().isEmpty());
+        System.out.println("Batch read: " + result);
+    }
+}
@@ -0,0 +1,43 @@
+package za.ac.cput.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReviewPriorityPolicyTest {
+
+    private final ReviewPriorityPolicy policy =
+            new ReviewPriorityPolicy(Duration.ofDays(30), Duration.ofHours(1), Duration.ofHours(48));
+    private final LocalDateTime submittedAt = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    @Test
+    void noActivityKeepsSubmissionTime() {
+        assertEquals(submittedAt, policy.priorityAt(submittedAt, 0));
+    }
+
+    @Test
+    void activityMovesPriorityEarlier() {
+        assertEquals(submittedAt.minusHours(5), policy.priorityAt(submittedAt, 5));
+    }
+
+    @Test
+    void boostIsCapped() {
+        assertEquals(submittedAt.minusHours(48), policy.priorityAt(submittedAt, 10_000));
+    }
+
+    @Test
+    void olderSubmissionOvertakesBusierUserOnceBeyondMaxBoost() {
+        LocalDateTime quietOld = policy.priorityAt(submittedAt, 0);
+        LocalDateTime busyNew = policy.priorityAt(submittedAt.plusHours(49), 10_000);
+        assertTrue(quietOld.isBefore(busyNew));
+        System.out.println(quietOld + " before " + busyNew);
+    }
+
+    @Test
+    void activityWindowEndsAtSubmission() {
+        assertEquals(submittedAt.minusDays(30), policy.activitySince(submittedAt));
+    }
+}
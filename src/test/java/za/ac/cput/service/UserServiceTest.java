@@ -5,6 +5,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import za.ac.cput.domain.User;
 import za.ac.cput.factory.UserFactory;
+import za.ac.cput.repository.UserRepository;
+import za.ac.cput.util.ValidationHelper;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,6 +21,11 @@ class UserServiceTest {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserRepository userRepository;
+
+    private static final String CLIENT_ADDRESS = "10.0.0.1";
+
     private static User clientUser;
     private static User workerUser;
     private static User bothRoleUser;
@@ -158,7 +165,7 @@ class UserServiceTest {
     @Test
     @Order(10)
     void authenticateUser_ValidCredentials() {
-        boolean isAuthenticated = userService.authenticateUser("client@test.com", "Password123!");
+        boolean isAuthenticated = userService.authenticateUser("client@test.com", "Password123!", CLIENT_ADDRESS);
         assertTrue(isAuthenticated);
         System.out.println("Authentication successful for valid credentials");
     }
@@ -166,7 +173,7 @@ class UserServiceTest {
     @Test
     @Order(11)
     void authenticateUser_InvalidCredentials() {
-        boolean isAuthenticated = userService.authenticateUser("client@test.com", "WrongPassword");
+        boolean isAuthenticated = userService.authenticateUser("client@test.com", "WrongPassword", CLIENT_ADDRESS);
         assertFalse(isAuthenticated);
         System.out.println("Authentication failed for invalid credentials");
     }
@@ -274,4 +281,73 @@ class UserServiceTest {
         });
         System.out.println("Deleted user: " + deletedUser.getUserId());
     }
-}
\ No newline at end of file
+
+    @Test
+    @Order(22)
+    void passwordsAreStoredHashed() {
+        User storedUser = userService.read(workerUser.getUserId());
+        assertNotEquals("Password123!", storedUser.getPassword());
+        assertTrue(ValidationHelper.isPasswordHash(storedUser.getPassword()));
+        System.out.println("Stored password hash: " + storedUser.getPassword());
+    }
+
+    @Test
+    @Order(23)
+    void authenticateUser_PlainTextRowIsRejected() {
+        // Rows written before hashing was introduced are hashed by the V12 migration; any left are not trusted
+        User legacyUser = userRepository.save(UserFactory.createClientUser(
+                "Legacy", "User", "legacy@test.com", "Password123!"));
+        assertEquals("Password123!", legacyUser.getPassword());
+
+        assertFalse(userService.authenticateUser("legacy@test.com", "Password123!", CLIENT_ADDRESS));
+        assertEquals("Password123!", userService.read(legacyUser.getUserId()).getPassword());
+        userRepository.deleteById(legacyUser.getUserId());
+    }
+
+    @Test
+    @Order(24)
+    void authenticateUser_LockedAfterRepeatedFailuresFromOneAddress() {
+        for (int i = 0; i < 5; i++) {
+            assertFalse(userService.authenticateUser("worker@test.com", "WrongPassword1!", "10.0.0.66"));
+        }
+        assertFalse(userService.authenticateUser("worker@test.com", "Password123!", "10.0.0.66"));
+        assertTrue(userService.authenticateUser("worker@test.com", "Password123!", CLIENT_ADDRESS));
+        System.out.println("Account locked for the failing address only");
+    }
+
+    @Test
+    @Order(25)
+    void authenticateUser_UnknownEmail() {
+        assertFalse(userService.authenticateUser("nobody@test.com", "Password123!", CLIENT_ADDRESS));
+    }
+
+    @Test
+    @Order(26)
+    void update_NewPasswordIsHashed() {
+        User stored = userService.read(workerUser.getUserId());
+        User updated = userService.update(new User.Builder().copy(stored).setPassword("NewPassword456!").build());
+        assertTrue(ValidationHelper.isPasswordHash(updated.getPassword()));
+        assertTrue(userService.authenticateUser("worker@test.com", "NewPassword456!", CLIENT_ADDRESS));
+        assertFalse(userService.authenticateUser("worker@test.com", "Password123!", CLIENT_ADDRESS));
+    }
+
+    @Test
+    @Order(27)
+    void update_WeakPassword_ShouldFail() {
+        User stored = userService.read(workerUser.getUserId());
+        assertThrows(IllegalArgumentException.class, () ->
+                userService.update(new User.Builder().copy(stored).setPassword("weak").build()));
+    }
+
+    @Test
+    @Order(28)
+    void create_HashLikeInputIsRejected() {
+        // A caller cannot plant a hash of its choosing; the input must be a raw password meeting the policy
+        String planted = userService.read(workerUser.getUserId()).getPassword();
+        User user = new User.Builder()
+                .copy(UserFactory.createClientUser("Hash", "Planter", "planter@test.com", "Password123!"))
+                .setPassword(planted)
+                .build();
+        assertThrows(IllegalArgumentException.class, () -> userService.create(user));
+    }
+}
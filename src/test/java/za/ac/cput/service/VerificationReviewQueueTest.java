@@ -0,0 +1,189 @@
+package za.ac.cput.service;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import za.ac.cput.domain.User;
+import za.ac.cput.domain.Verification;
+import za.ac.cput.factory.UserFactory;
+import za.ac.cput.factory.VerificationFactory;
+import za.ac.cput.repository.VerificationRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// ========================= VERIFICATION REVIEW QUEUE TEST =========================
+@SpringBootTest
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class VerificationReviewQueueTest {
+
+    @Autowired
+    private VerificationReviewQueue reviewQueue;
+
+    @Autowired
+    private VerificationService verificationService;
+
+    @Autowired
+    private VerificationRepository verificationRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private static String adminA;
+    private static String adminB;
+    // The test's verifications, in queue order
+    private static final List<String> queued = new ArrayList<>();
+    private static List<String> claimedA;
+    private static List<String> claimedB;
+    private static List<String> expired;
+
+    @Test
+    @Order(1)
+    void setup() {
+        User submitter = userService.create(UserFactory.createClientUser(
+                "Queue", "Submitter", "queuesubmitter@test.com", "Password123!"));
+        adminA = adminService.createSkillVerifier(userService.create(UserFactory.createClientUser(
+                "Queue", "ReviewerA", "queuereviewera@test.com", "Password123!"))).getAdminId();
+        adminB = adminService.createSkillVerifier(userService.create(UserFactory.createClientUser(
+                "Queue", "ReviewerB", "queuereviewerb@test.com", "Password123!"))).getAdminId();
+
+        // Submitted long ago, so they sit at the head of the queue ahead of other tests' rows; a week
+        // apart, more than the largest activity boost, so their order cannot change
+        LocalDateTime submittedAt = LocalDateTime.of(2000, 1, 1, 0, 0);
+        for (int i = 0; i < 6; i++) {
+            Verification verification = VerificationFactory.createVerification(submitter,
+                    Verification.DocumentType.values()[i % 3], "https://example.com/doc-" + i + ".pdf", null);
+            queued.add(verificationService.create(new Verification.Builder().copy(verification)
+                    .setDateSubmitted(submittedAt.plusWeeks(i))
+                    .build()).getVerificationId());
+        }
+    }
+
+    @Test
+    @Order(2)
+    void claim_SkipsRowsLockedByAnotherClaim() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // Admin A's claim stays uncommitted, holding its row locks, while admin B claims
+            Future<List<String>> first = executor.submit(() -> transactionTemplate.execute(status -> {
+                List<String> ids = ids(reviewQueue.claim(adminA, 2));
+                claimed.countDown();
+                try {
+                    commit.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return ids;
+            }));
+            assertTrue(claimed.await(30, TimeUnit.SECONDS));
+            try {
+                claimedB = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> ids(reviewQueue.claim(adminB, 2)));
+            } finally {
+                commit.countDown();
+            }
+            claimedA = first.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(queued.subList(0, 2), claimedA);
+        assertEquals(queued.subList(2, 4), claimedB);
+    }
+
+    @Test
+    @Order(3)
+    void claim_RepeatReturnsSameWork() {
+        assertEquals(claimedA, ids(reviewQueue.claim(adminA, 2)));
+        assertEquals(claimedA, ids(reviewQueue.findLeasedTo(adminA)));
+    }
+
+    @Test
+    @Order(4)
+    void renew_OnlyExtendsOwnLeases() {
+        assertEquals(2, reviewQueue.renew(adminA, claimedA));
+        assertEquals(0, reviewQueue.renew(adminB, claimedA));
+        assertEquals(0, reviewQueue.renew(adminA, List.of()));
+    }
+
+    @Test
+    @Order(5)
+    void moderation_LeavesOtherAdminsLeasesAlone() {
+        BulkModerationResult result = verificationService.approveVerifications(claimedA, adminB);
+        assertEquals(0, result.getUpdatedCount());
+        assertEquals(2, result.count(BulkModerationResult.Outcome.LEASED));
+        assertThrows(IllegalStateException.class, () -> reviewQueue.approve(adminB, claimedA.get(0)));
+        assertThrows(IllegalStateException.class, () ->
+                verificationService.rejectVerification(claimedA.get(0), "Not yours", adminB));
+        assertEquals(Verification.VerificationStatus.PENDING, verificationService.read(claimedA.get(0)).getStatus());
+    }
+
+    @Test
+    @Order(6)
+    void release_OnlyByLeaseHolder() {
+        assertThrows(IllegalStateException.class, () -> reviewQueue.release(adminB, claimedA.get(0)));
+        reviewQueue.release(adminA, claimedA.get(0));
+        assertEquals(List.of(claimedA.get(1)), ids(reviewQueue.findLeasedTo(adminA)));
+        assertThrows(IllegalStateException.class, () -> reviewQueue.release(adminA, claimedA.get(0)));
+    }
+
+    @Test
+    @Order(7)
+    void expiredLease_IsReclaimedByAnotherAdmin() throws InterruptedException {
+        VerificationReviewQueue shortLeases = new VerificationReviewQueue(
+                verificationRepository, verificationService, Duration.ofMillis(200), 50);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // Tops A up to three: the lease it still holds, the one it released and the next in the queue
+        expired = transactionTemplate.execute(status -> ids(shortLeases.claim(adminA, 3)));
+        assertEquals(List.of(queued.get(0), queued.get(1), queued.get(4)), sorted(expired));
+        Thread.sleep(300);
+
+        assertTrue(reviewQueue.findLeasedTo(adminA).isEmpty());
+        assertEquals(0, reviewQueue.renew(adminA, expired));
+        List<String> reclaimed = ids(reviewQueue.claim(adminB, 5));
+        assertTrue(reclaimed.containsAll(expired));
+        assertTrue(reclaimed.containsAll(claimedB));
+    }
+
+    @Test
+    @Order(8)
+    void approve_RecordsLeaseHolderAsReviewer() {
+        Verification approved = reviewQueue.approve(adminB, expired.get(0));
+        assertEquals(Verification.VerificationStatus.VERIFIED, approved.getStatus());
+        assertEquals(adminB, approved.getReviewedBy());
+        assertFalse(ids(reviewQueue.findLeasedTo(adminB)).contains(expired.get(0)));
+        assertThrows(IllegalStateException.class, () -> reviewQueue.approve(adminA, expired.get(1)));
+    }
+
+    private static List<String> ids(List<Verification> verifications) {
+        return verifications.stream().map(Verification::getVerificationId).toList();
+    }
+
+    // Queue order, which is the order the test's verifications were submitted in
+    private static List<String> sorted(List<String> ids) {
+        List<String> ordered = new ArrayList<>(ids);
+        ordered.sort((a, b) -> Integer.compare(queued.indexOf(a), queued.indexOf(b)));
+        return Collections.unmodifiableList(ordered);
+    }
+}
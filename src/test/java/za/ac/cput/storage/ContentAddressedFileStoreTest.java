@@ -0,0 +1,103 @@
+package za.ac.cput.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentAddressedFileStoreTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void storesUnderSha256() throws Exception {
+        ContentAddressedFileStore store = new ContentAddressedFileStore(root, 1024);
+        byte[] content = "certified electrician".getBytes(StandardCharsets.UTF_8);
+
+        ContentAddressedFileStore.StoredFile stored = store.store(new ByteArrayInputStream(content));
+
+        String expected = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        assertEquals(expected, stored.getSha256());
+        assertEquals(content.length, stored.getSize());
+        assertFalse(stored.isDuplicate());
+        Path path = store.find(expected).orElseThrow();
+        assertArrayEquals(content, Files.readAllBytes(path));
+        assertEquals(root.resolve(expected.substring(0, 2)).resolve(expected.substring(2, 4)).resolve(expected), path);
+        System.out.println(path);
+    }
+
+    @Test
+    void identicalContentIsStoredOnce() throws IOException {
+        ContentAddressedFileStore store = new ContentAddressedFileStore(root, 1024);
+        byte[] content = "id document".getBytes(StandardCharsets.UTF_8);
+
+        ContentAddressedFileStore.StoredFile first = store.store(new ByteArrayInputStream(content));
+        ContentAddressedFileStore.StoredFile second = store.store(new ByteArrayInputStream(content));
+
+        assertEquals(first.getSha256(), second.getSha256());
+        assertTrue(second.isDuplicate());
+        try (var files = Files.walk(root)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    void largeStreamIsCopiedInChunks() throws IOException {
+        ContentAddressedFileStore store = new ContentAddressedFileStore(root, 8 << 20);
+        byte[] content = new byte[3 << 20];
+        new Random(42).nextBytes(content);
+
+        ContentAddressedFileStore.StoredFile stored = store.store(new ByteArrayInputStream(content));
+
+        assertEquals(content.length, stored.getSize());
+        assertArrayEquals(content, Files.readAllBytes(store.find(stored.getSha256()).orElseThrow()));
+    }
+
+    @Test
+    void oversizedUploadIsRejectedAndNotKept() throws IOException {
+        ContentAddressedFileStore store = new ContentAddressedFileStore(root, 16);
+        InputStream content = new ByteArrayInputStream(new byte[64]);
+
+        assertThrows(IllegalArgumentException.class, () -> store.store(content));
+        try (var files = Files.walk(root)) {
+            assertEquals(0, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    void emptyUploadIsRejected() {
+        ContentAddressedFileStore store = new ContentAddressedFileStore(root, 16);
+        assertThrows(IllegalArgumentException.class, () -> store.store(new ByteArrayInputStream(new byte[0])));
+    }
+
+    @Test
+    void findRejectsMalformedHashes() {
+        ContentAddressedFileStore store = new ContentAddressedFileStore(root, 16);
+        assertTrue(store.find("../../etc/passwd").isEmpty());
+        assertTrue(store.find("ABC").isEmpty());
+        assertTrue(store.find(null).isEmpty());
+        assertTrue(store.find("0".repeat(64)).isEmpty());
+    }
+
+    @Test
+    void deleteRemovesOnlyStoredDocuments() throws IOException {
+        ContentAddressedFileStore store = new ContentAddressedFileStore(root, 1024);
+        String sha256 = store.store(new ByteArrayInputStream("licence".getBytes(StandardCharsets.UTF_8))).getSha256();
+
+        assertTrue(store.delete(sha256));
+        assertTrue(store.find(sha256).isEmpty());
+        assertFalse(store.delete(sha256));
+        assertFalse(store.delete("../../etc/passwd"));
+    }
+}
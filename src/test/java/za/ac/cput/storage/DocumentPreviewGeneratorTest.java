@@ -0,0 +1,122 @@
+package za.ac.cput.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentPreviewGeneratorTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void imageIsDownscaledToMaxDimension() throws Exception {
+        ContentAddressedFileStore store = new ContentAddressedFileStore(root, 1 << 24);
+        DocumentPreviewGenerator previews = new DocumentPreviewGenerator(store, root, 320, 50_000_000, 2, 10);
+        try {
+            String hash = store.store(new ByteArrayInputStream(png(1600, 900))).getSha256();
+
+            assertTrue(previews.submit(hash));
+            BufferedImage preview = ImageIO.read(awaitPreview(previews, hash).toFile());
+
+            assertEquals(320, preview.getWidth());
+            assertEquals(180, preview.getHeight());
+            assertEquals(DocumentPreviewGenerator.Status.READY, previews.request(hash));
+            System.out.println(preview.getWidth() + "x" + preview.getHeight());
+        } finally {
+            previews.destroy();
+        }
+    }
+
+    @Test
+    void smallImageIsNotUpscaled() throws Exception {
+        ContentAddressedFileStore store = new ContentAddressedFileStore(root, 1 << 24);
+        DocumentPreviewGenerator previews = new DocumentPreviewGenerator(store, root, 320, 50_000_000, 1, 10);
+        try {
+            String hash = store.store(new ByteArrayInputStream(png(100, 40))).getSha256();
+            previews.submit(hash);
+
+            BufferedImage preview = ImageIO.read(awaitPreview(previews, hash).toFile());
+            assertEquals(100, preview.getWidth());
+            assertEquals(40, preview.getHeight());
+        } finally {
+            previews.destroy();
+        }
+    }
+
+    @Test
+    void nonImageIsUnavailable() throws Exception {
+        ContentAddressedFileStore store = new ContentAddressedFileStore(root, 1 << 24);
+        DocumentPreviewGenerator previews = new DocumentPreviewGenerator(store, root, 320, 50_000_000, 1, 10);
+        try {
+            String hash = store.store(new ByteArrayInputStream(
+                    "%PDF-1.4 not an image".getBytes(StandardCharsets.UTF_8))).getSha256();
+
+            previews.generate(hash);
+
+            assertEquals(DocumentPreviewGenerator.Status.UNAVAILABLE, previews.request(hash));
+            assertTrue(previews.find(hash).isEmpty());
+        } finally {
+            previews.destroy();
+        }
+    }
+
+    @Test
+    void decodeFailureIsRetriedNotMarkedUnavailable() throws Exception {
+        ContentAddressedFileStore store = new ContentAddressedFileStore(root, 1 << 24);
+        DocumentPreviewGenerator previews = new DocumentPreviewGenerator(store, root, 320, 50_000_000, 1, 10);
+        try {
+            // A PNG cut off after its header: a reader claims it, then decoding fails
+            byte[] png = png(200, 100);
+            String hash = store.store(new ByteArrayInputStream(Arrays.copyOf(png, 40))).getSha256();
+
+            assertThrows(IOException.class, () -> previews.generate(hash));
+            assertEquals(DocumentPreviewGenerator.Status.PENDING, previews.request(hash));
+        } finally {
+            previews.destroy();
+        }
+    }
+
+    @Test
+    void unknownDocumentIsNotQueued() throws Exception {
+        ContentAddressedFileStore store = new ContentAddressedFileStore(root, 1 << 24);
+        DocumentPreviewGenerator previews = new DocumentPreviewGenerator(store, root, 320, 50_000_000, 1, 10);
+        try {
+            assertFalse(previews.submit("0".repeat(64)));
+            assertFalse(previews.submit("../../etc/passwd"));
+            assertEquals(DocumentPreviewGenerator.Status.UNAVAILABLE, previews.request("0".repeat(64)));
+        } finally {
+            previews.destroy();
+        }
+    }
+
+    private static Path awaitPreview(DocumentPreviewGenerator previews, String hash) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            if (previews.find(hash).isPresent()) {
+                return previews.find(hash).get();
+            }
+            Thread.sleep(25);
+        }
+        throw new AssertionError("Preview was not generated");
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x++) {
+            image.setRGB(x, height / 2, 0xFF3366CC);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}